@@ -0,0 +1,12 @@
+#!/bin/sh
+# Spring AOT는 빌드할 때의 설정으로 조건부 빈을 확정한다. 빌드 기본값과 빈 구성이 달라지는 설정
+# (가상 스레드, 읽기 복제본, 파일 아웃박스 싱크, 관리 포트)을 바꾸면 Spring AOT는 끄고 AOT 캐시만 사용한다.
+# 다른 경로(SPRING_THREADS_VIRTUAL_ENABLED, JAVA_OPTS의 -D, 실행 인자)로 바꾸면 AotConditionsVerifier가
+# 기동을 멈추므로 SPRING_AOT_ENABLED=false를 함께 지정한다.
+SPRING_AOT=true
+if [ "${VIRTUAL_THREADS_ENABLED:-false}" = "true" ] || [ -n "${DB_REPLICA_URLS:-}" ] \
+    || [ -n "${OUTBOX_SINK_FILE_PATH:-}" ] || [ "${MANAGEMENT_PORT:-8081}" != "8081" ]; then
+  SPRING_AOT=false
+fi
+
+exec java -XX:AOTCache=app.aot -Dspring.aot.enabled="${SPRING_AOT_ENABLED:-$SPRING_AOT}" $JAVA_OPTS -jar app.jar "$@"
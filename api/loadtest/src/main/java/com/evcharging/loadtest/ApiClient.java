@@ -0,0 +1,123 @@
+package com.evcharging.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대상 서버 호출과 기록. 모든 요청은 엔드포인트 이름(경로 템플릿)별로 {@link EndpointStats}에 남는다.
+ * recording이 꺼져 있는 동안(준비 단계와 워밍업)은 기록하지 않는다.
+ */
+final class ApiClient implements AutoCloseable {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    void startRecording() {
+        stats.clear();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    Response get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    Response post(String endpoint, String path, String token, String json) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(json != null ? HttpRequest.BodyPublishers.ofString(json) : HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    Response patch(String endpoint, String path, String token, String json) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        Response response;
+        try {
+            HttpResponse<byte[]> http = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            response = new Response(http.statusCode(), http.body());
+        } catch (IOException e) {
+            response = new Response(0, new byte[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, new byte[0]);
+        }
+        if (recording) {
+            stats.computeIfAbsent(endpoint, EndpointStats::new).record(System.nanoTime() - startedAt, outcome(response));
+        }
+        return response;
+    }
+
+    // 이미 사용 중인 충전기에 충전을 시작하면 409가 온다. 경합 시나리오에서는 정상 응답이다
+    private static EndpointStats.Outcome outcome(Response response) {
+        if (response.status() >= 200 && response.status() < 300) {
+            return EndpointStats.Outcome.OK;
+        }
+        if (response.status() == 409) {
+            return EndpointStats.Outcome.REJECTED;
+        }
+        return EndpointStats.Outcome.ERROR;
+    }
+
+    JsonNode json(Response response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("응답 본문을 읽을 수 없습니다: " + new String(response.body()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    record Response(int status, byte[] body) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.evcharging.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시나리오가 고르는 대상. 서버에 있는 충전소를 API로 읽어 만들므로 이미 떠 있는 서버에도 쓸 수 있다.
+ *
+ * <p>실제 트래픽처럼 한쪽으로 쏠리게 고른다. 앞쪽 인덱스일수록 자주 뽑히며(u^2 분포),
+ * 핫스팟 주변 충전소와 인기 충전기에 요청이 몰린다.
+ */
+record Dataset(List<Long> stationIds, List<double[]> hotSpots, List<Long> popularChargerIds) {
+
+    private static final int PAGE_SIZE = 1000;
+
+    static Dataset load(ApiClient client, String token, LoadTestConfig config) {
+        List<Long> stationIds = new ArrayList<>();
+        List<double[]> coordinates = new ArrayList<>();
+        List<Long> chargerIds = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            ApiClient.Response response = client.get("setup", "/api/v1/stations?size=" + PAGE_SIZE + "&page=" + page, token);
+            if (!response.isSuccess()) {
+                throw new IllegalStateException("충전소 목록 조회 실패: " + response.status());
+            }
+            JsonNode content = client.json(response).path("data").path("content");
+            for (JsonNode station : content) {
+                stationIds.add(station.path("id").asLong());
+                coordinates.add(new double[]{station.path("latitude").asDouble(), station.path("longitude").asDouble()});
+                for (JsonNode charger : station.path("chargers")) {
+                    chargerIds.add(charger.path("id").asLong());
+                }
+            }
+            if (content.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        if (stationIds.isEmpty() || chargerIds.isEmpty()) {
+            throw new IllegalStateException("대상 서버에 충전소나 충전기가 없습니다");
+        }
+
+        // 핫스팟과 인기 충전기는 목록 전체에 고르게 흩어 뽑는다
+        List<double[]> hotSpots = new ArrayList<>();
+        int spotStep = Math.max(1, coordinates.size() / config.hotSpots());
+        for (int i = 0; i < coordinates.size() && hotSpots.size() < config.hotSpots(); i += spotStep) {
+            hotSpots.add(coordinates.get(i));
+        }
+        List<Long> popular = new ArrayList<>();
+        int chargerStep = Math.max(1, chargerIds.size() / config.popularChargers());
+        for (int i = 0; i < chargerIds.size() && popular.size() < config.popularChargers(); i += chargerStep) {
+            popular.add(chargerIds.get(i));
+        }
+        return new Dataset(List.copyOf(stationIds), List.copyOf(hotSpots), List.copyOf(popular));
+    }
+
+    long pickStation() {
+        return skewed(stationIds);
+    }
+
+    double[] pickHotSpot() {
+        return skewed(hotSpots);
+    }
+
+    long pickPopularCharger() {
+        return skewed(popularChargerIds);
+    }
+
+    private static <T> T skewed(List<T> values) {
+        double u = ThreadLocalRandom.current().nextDouble();
+        return values.get((int) (u * u * values.size()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.evcharging.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포와 결과별 건수.
+ *
+ * <p>rejected는 경합 때문에 예상대로 거절된 응답(이미 충전 중인 충전기의 409)이며 오류로 세지 않는다.
+ * 오류는 5xx, 예상하지 못한 상태 코드, 연결 실패다.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, Outcome outcome) {
+        latency.recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+        switch (outcome) {
+            case OK -> ok.increment();
+            case REJECTED -> rejected.increment();
+            case ERROR -> errors.increment();
+        }
+    }
+
+    Summary summarize(double seconds) {
+        long total = ok.sum() + rejected.sum() + errors.sum();
+        return new Summary(name, total, total / seconds, ok.sum(), rejected.sum(), errors.sum(),
+                total == 0 ? 0 : (double) errors.sum() / total,
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    enum Outcome { OK, REJECTED, ERROR }
+
+    record Summary(String endpoint, long requests, double throughput, long ok, long rejected, long errors,
+                   double errorRate, double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+}
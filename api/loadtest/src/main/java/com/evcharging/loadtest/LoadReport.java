@@ -0,0 +1,70 @@
+package com.evcharging.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 측정 구간의 엔드포인트별 결과. 표로 출력하고, 릴리스 간 비교할 수 있도록 같은 내용을 JSON으로 남긴다.
+ */
+record LoadReport(String finishedAt, LoadTestConfig config, double seconds,
+                  EndpointStats.Summary total, List<EndpointStats.Summary> endpoints) {
+
+    static LoadReport of(LoadTestConfig config, double seconds, Map<String, EndpointStats> stats) {
+        List<EndpointStats.Summary> endpoints = stats.values().stream()
+                .map(s -> s.summarize(seconds))
+                .sorted(Comparator.comparing(EndpointStats.Summary::endpoint))
+                .toList();
+        long requests = 0;
+        long ok = 0;
+        long rejected = 0;
+        long errors = 0;
+        double maxP99 = 0;
+        double max = 0;
+        for (EndpointStats.Summary s : endpoints) {
+            requests += s.requests();
+            ok += s.ok();
+            rejected += s.rejected();
+            errors += s.errors();
+            maxP99 = Math.max(maxP99, s.p99Ms());
+            max = Math.max(max, s.maxMs());
+        }
+        // 엔드포인트를 합친 분위수는 의미가 약하므로 전체 행에는 가장 느린 엔드포인트의 p99만 싣는다
+        EndpointStats.Summary total = new EndpointStats.Summary("TOTAL", requests, requests / seconds, ok, rejected,
+                errors, requests == 0 ? 0 : (double) errors / requests, 0, 0, maxP99, 0, max);
+        return new LoadReport(LocalDateTime.now().withNano(0).toString(), config, seconds, total, endpoints);
+    }
+
+    void print() {
+        System.out.printf("%n사용자 %d명, 측정 %.0f초 (워밍업 %d초 제외)%n",
+                config.users(), seconds, config.warmupSeconds());
+        String format = "%-30s %9s %9s %8s %8s %8s %9s %9s %9s%n";
+        System.out.printf(format, "endpoint", "requests", "req/s", "rejected", "errors", "err%",
+                "p50(ms)", "p99(ms)", "max(ms)");
+        for (EndpointStats.Summary s : endpoints) {
+            printRow(format, s);
+        }
+        printRow(format, total);
+    }
+
+    private static void printRow(String format, EndpointStats.Summary s) {
+        System.out.printf(format, s.endpoint(), s.requests(), "%.1f".formatted(s.throughput()), s.rejected(),
+                s.errors(), "%.2f".formatted(s.errorRate() * 100), "%.1f".formatted(s.p50Ms()),
+                "%.1f".formatted(s.p99Ms()), "%.1f".formatted(s.maxMs()));
+    }
+
+    Path writeJson(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("loadtest-%s.json".formatted(finishedAt.replace(':', '-')));
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(file.toFile(), this);
+        return file;
+    }
+}
@@ -0,0 +1,86 @@
+package com.evcharging.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 릴리스 전 용량 확인용 HTTP 부하 테스트.
+ *
+ * <p>로컬 PostgreSQL 컨테이너에 서버를 띄우고 합성 충전소를 채운 뒤, 가상 사용자들이 로그인, 핫스팟 주변 검색,
+ * 충전기 목록 폴링, 인기 충전기에서의 충전 시작/종료를 가중치대로 섞어 보낸다. 워밍업 뒤 측정 구간의
+ * 처리량, 지연 분위수, 오류율을 엔드포인트별로 출력하고 build/loadtest 아래 JSON으로 남긴다.
+ *
+ * <p>Docker가 필요하다. {@code base-url}을 주면 이미 떠 있는 서버를 대상으로 하며, 그 서버에는 충전소가
+ * 있어야 하고 속도 제한이 꺼져 있어야 한다.
+ *
+ * <p>실행: {@code ./gradlew :loadtest:run --args="users=200 duration=60"} (인자는 {@link LoadTestConfig} 참고)
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        TargetServer server = config.baseUrl().isBlank() ? TargetServer.start(config) : null;
+        String baseUrl = server != null ? server.baseUrl() : config.baseUrl();
+
+        LoadReport report;
+        try (server; ApiClient client = new ApiClient(baseUrl)) {
+            signUpMembers(client, config.members());
+            VirtualUser probe = new VirtualUser(client, null, VirtualUser.email(0), 0, 0);
+            probe.login();
+            Dataset dataset = Dataset.load(client, probe.token(), config);
+            System.out.printf("대상 %s: 충전소 %d개, 핫스팟 %d곳, 인기 충전기 %d대%n", baseUrl,
+                    dataset.stationIds().size(), dataset.hotSpots().size(), dataset.popularChargerIds().size());
+
+            long deadline = System.nanoTime()
+                    + TimeUnit.SECONDS.toNanos(config.warmupSeconds() + config.durationSeconds());
+            try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < config.users(); i++) {
+                    users.submit(new VirtualUser(client, dataset, VirtualUser.email(i % config.members()),
+                            config.thinkMs(), deadline));
+                }
+                Thread.sleep(TimeUnit.SECONDS.toMillis(config.warmupSeconds()));
+                client.startRecording();
+                long measuredFrom = System.nanoTime();
+                Thread.sleep(TimeUnit.SECONDS.toMillis(config.durationSeconds()));
+                client.stopRecording();
+                double seconds = (System.nanoTime() - measuredFrom) / 1e9;
+                report = LoadReport.of(config, seconds, client.stats());
+            }
+        }
+
+        report.print();
+        System.out.println("결과: " + report.writeJson(Path.of("build", "loadtest")).toAbsolutePath());
+        if (report.total().errorRate() > config.maxErrorRate()) {
+            System.err.printf("오류율 %.2f%%가 허용치 %.2f%%를 넘었습니다%n",
+                    report.total().errorRate() * 100, config.maxErrorRate() * 100);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    // 이미 떠 있는 서버에서는 앞선 실행이 가입시킨 회원이 남아 있으므로 409도 받아들인다
+    private static void signUpMembers(ApiClient client, int members) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ApiClient.Response>> responses = new ArrayList<>();
+            for (int i = 0; i < members; i++) {
+                String email = VirtualUser.email(i);
+                responses.add(executor.submit(() -> client.post("setup", "/api/v1/auth/signup", null, """
+                        {"email":"%s","password":"%s","name":"부하 테스트"}""".formatted(email, VirtualUser.PASSWORD))));
+            }
+            for (Future<ApiClient.Response> response : responses) {
+                int status = response.get().status();
+                if (status != 201 && status != 409) {
+                    throw new IllegalStateException("회원 가입 실패: " + status);
+                }
+            }
+        }
+    }
+}
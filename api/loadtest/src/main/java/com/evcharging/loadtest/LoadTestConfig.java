@@ -0,0 +1,44 @@
+package com.evcharging.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 인자는 {@code key=value} 형식이며 주지 않은 값은 기본값을 쓴다.
+ *
+ * @param users          동시 가상 사용자 수 (닫힌 모델: 사용자마다 응답을 받은 뒤 다음 요청을 보낸다)
+ * @param warmupSeconds  측정하지 않고 버리는 시작 구간
+ * @param durationSeconds 측정 구간
+ * @param thinkMs        요청 사이 평균 대기 시간 (지수 분포)
+ * @param stations       합성 충전소 수 (충전소마다 충전기 4대)
+ * @param members        가입시켜 나눠 쓰는 회원 수
+ * @param hotSpots       주변 검색이 몰리는 지점 수
+ * @param popularChargers 충전 세션이 몰리는 충전기 수. 작을수록 시작 충돌(409)이 잦다
+ * @param baseUrl        비어 있지 않으면 서버를 띄우지 않고 이미 떠 있는 서버를 대상으로 한다
+ * @param maxErrorRate   전체 오류율이 이를 넘으면 0이 아닌 종료 코드로 끝낸다
+ */
+record LoadTestConfig(int users, int warmupSeconds, int durationSeconds, long thinkMs, int stations, int members,
+                      int hotSpots, int popularChargers, String baseUrl, double maxErrorRate) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestConfig(
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("warmup", "15")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Long.parseLong(values.getOrDefault("think-ms", "200")),
+                Integer.parseInt(values.getOrDefault("stations", "5000")),
+                Integer.parseInt(values.getOrDefault("members", "200")),
+                Integer.parseInt(values.getOrDefault("hot-spots", "8")),
+                Integer.parseInt(values.getOrDefault("popular-chargers", "40")),
+                values.getOrDefault("base-url", ""),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")));
+    }
+}
@@ -0,0 +1,84 @@
+package com.evcharging.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자가 한 번에 수행하는 일. weight 비율로 고른다.
+ *
+ * <p>충전 시나리오는 인기 충전기에서 충전을 시작하고 잠시 뒤 끝낸다. 여러 사용자가 같은 충전기를 노리므로
+ * 시작 요청 일부는 409로 거절되며, 이는 오류가 아니라 거절(rejected)로 집계된다.
+ */
+enum Scenario {
+
+    LOGIN(5) {
+        @Override
+        void run(VirtualUser user, Dataset dataset) {
+            user.login();
+        }
+    },
+    NEARBY_SEARCH(45) {
+        @Override
+        void run(VirtualUser user, Dataset dataset) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            double[] spot = dataset.pickHotSpot();
+            // 핫스팟 반경 약 1km 안에서 검색 위치를 흔든다
+            double lat = spot[0] + random.nextDouble(-0.01, 0.01);
+            double lng = spot[1] + random.nextDouble(-0.01, 0.01);
+            user.client().get("GET /stations/nearby",
+                    "/api/v1/stations/nearby?lat=" + lat + "&lng=" + lng + "&radius=2", user.token());
+        }
+    },
+    CHARGER_POLLING(35) {
+        @Override
+        void run(VirtualUser user, Dataset dataset) {
+            user.client().get("GET /stations/{id}/chargers",
+                    "/api/v1/stations/" + dataset.pickStation() + "/chargers", user.token());
+        }
+    },
+    CHARGING_SESSION(15) {
+        @Override
+        void run(VirtualUser user, Dataset dataset) throws InterruptedException {
+            ApiClient.Response started = user.client().post("POST /chargers/{id}/sessions",
+                    "/api/v1/chargers/" + dataset.pickPopularCharger() + "/sessions", user.token(), null);
+            if (!started.isSuccess()) {
+                return;
+            }
+            long sessionId = user.client().json(started).path("data").path("id").asLong();
+            // 충전하는 동안 다른 사용자가 같은 충전기를 시도할 수 있게 잠시 붙잡는다
+            Thread.sleep(ThreadLocalRandom.current().nextLong(50, 500));
+            user.client().patch("PATCH /sessions/{id}/complete", "/api/v1/sessions/" + sessionId + "/complete",
+                    user.token(), """
+                            {"energyDeliveredKwh":12.5,"cost":3500}""");
+        }
+    };
+
+    private static final Scenario[] VALUES = values();
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (Scenario scenario : VALUES) {
+            total += scenario.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    abstract void run(VirtualUser user, Dataset dataset) throws InterruptedException;
+
+    static Scenario pick() {
+        int r = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Scenario scenario : VALUES) {
+            r -= scenario.weight;
+            if (r < 0) {
+                return scenario;
+            }
+        }
+        return VALUES[VALUES.length - 1];
+    }
+}
@@ -0,0 +1,75 @@
+package com.evcharging.loadtest;
+
+import com.evcharging.api.ApiApplication;
+import com.evcharging.api.infra.openapi.ChargerCopyLoader;
+import com.evcharging.api.infra.openapi.EvChargerApiResponse;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 로컬 PostgreSQL 컨테이너와 그 위에 띄운 API 서버. 합성 충전소를 COPY로 채운다.
+ *
+ * <p>충전소는 서울 도심을 덮는 격자에 놓고, 충전소마다 완속 2대와 급속 2대를 둔다.
+ * 속도 제한은 끈다. 측정하려는 것은 서버 용량이지 클라이언트별 한도가 아니다.
+ */
+final class TargetServer implements AutoCloseable {
+
+    private static final String[] CHARGER_TYPES = {"02", "02", "01", "04"};
+    private static final String[] OUTPUTS = {"7", "7", "100", "200"};
+
+    private final PostgreSQLContainer postgres;
+    private final ConfigurableApplicationContext context;
+
+    private TargetServer(PostgreSQLContainer postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    static TargetServer start(LoadTestConfig config) {
+        PostgreSQLContainer postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"));
+        postgres.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .run("--spring.profiles.active=loadtest",
+                        "--server.port=0",
+                        "--management.server.port=-1",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.sql.init.mode=never",
+                        "--openapi.service-key=",
+                        "--rate-limit.enabled=false",
+                        "--logging.level.root=WARN");
+        TargetServer server = new TargetServer(postgres, context);
+        server.seed(config.stations());
+        return server;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    private void seed(int stations) {
+        int columns = (int) Math.ceil(Math.sqrt(stations));
+        context.getBean(ChargerCopyLoader.class).load(sink -> {
+            for (int i = 0; i < stations; i++) {
+                // 위도 37.45~37.65, 경도 126.85~127.15
+                String lat = Double.toString(37.45 + (i / columns) * 0.2 / columns);
+                String lng = Double.toString(126.85 + (i % columns) * 0.3 / columns);
+                for (int c = 0; c < CHARGER_TYPES.length; c++) {
+                    sink.accept(new EvChargerApiResponse.Item("부하 테스트 충전소 " + i, "LT%06d".formatted(i),
+                            "%02d".formatted(c + 1), CHARGER_TYPES[c], "서울특별시 중구 세종대로 " + i, lat, lng,
+                            "환경부", "1661-9408", "24시간 이용가능", "2", OUTPUTS[c]));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        postgres.stop();
+    }
+}
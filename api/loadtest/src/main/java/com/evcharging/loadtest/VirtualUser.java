@@ -0,0 +1,62 @@
+package com.evcharging.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 회원 한 명으로 로그인해 시나리오를 반복하는 가상 사용자. 요청 사이에는 평균 thinkMs의 지수 분포로 쉰다.
+ */
+final class VirtualUser implements Runnable {
+
+    static final String PASSWORD = "password123";
+
+    private final ApiClient client;
+    private final Dataset dataset;
+    private final String email;
+    private final long thinkMs;
+    private final long deadlineNanos;
+    private String token;
+
+    VirtualUser(ApiClient client, Dataset dataset, String email, long thinkMs, long deadlineNanos) {
+        this.client = client;
+        this.dataset = dataset;
+        this.email = email;
+        this.thinkMs = thinkMs;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static String email(int member) {
+        return "loadtest-%d@example.com".formatted(member);
+    }
+
+    ApiClient client() {
+        return client;
+    }
+
+    String token() {
+        return token;
+    }
+
+    void login() {
+        ApiClient.Response response = client.post("POST /auth/login", "/api/v1/auth/login", null, """
+                {"email":"%s","password":"%s"}""".formatted(email, PASSWORD));
+        if (response.isSuccess()) {
+            token = client.json(response).path("data").path("accessToken").asText();
+        }
+    }
+
+    @Override
+    public void run() {
+        login();
+        try {
+            while (System.nanoTime() < deadlineNanos) {
+                Scenario.pick().run(this, dataset);
+                if (thinkMs > 0) {
+                    double u = ThreadLocalRandom.current().nextDouble();
+                    Thread.sleep((long) (-Math.log(1 - u) * thinkMs));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.evcharging.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 프로세스 시작부터 첫 요청에 응답하기까지의 시간(time-to-first-request). Dockerfile의 시작 방식별로 비교한다.
+ *
+ * <ul>
+ *     <li>jar: 실행 가능한 jar를 그대로 {@code java -jar}로 실행 (이전 이미지)</li>
+ *     <li>extracted: jar를 풀어 둔 뒤 실행</li>
+ *     <li>aotCache: 학습 실행으로 만든 JDK AOT 캐시(클래스 데이터 공유 아카이브)를 함께 사용</li>
+ *     <li>springAot: 빌드할 때 만든 Spring AOT 초기화 코드와 AOT 캐시를 모두 사용 (현재 이미지)</li>
+ * </ul>
+ *
+ * <p>첫 요청은 없는 회원으로 로그인하는 POST /api/v1/auth/login이다. 보안 필터, MVC, JPA 조회를 모두 거친다.
+ * 응답 코드와 관계없이 HTTP 응답이 오면 끝난 것으로 본다. bootJar로 만든 jar가 필요하며
+ * Gradle이 {@code startup.jar} 시스템 속성으로 넘긴다. Testcontainers로 PostgreSQL을 띄우므로 Docker가 필요하다.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=StartupBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"jar", "extracted", "aotCache", "springAot"})
+    public String mode;
+
+    private PostgreSQLContainer postgres;
+    private HttpClient httpClient;
+    private Path workDir;
+    private Path jar;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"));
+        postgres.start();
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        workDir = Files.createTempDirectory("startup-benchmark");
+
+        Path bootJar = Path.of(System.getProperty("startup.jar"));
+        if (mode.equals("jar")) {
+            jar = bootJar;
+            return;
+        }
+        run(List.of(java(), "-Djarmode=tools", "-jar", bootJar.toString(), "extract",
+                "--destination", workDir.resolve("extracted").toString()));
+        jar = workDir.resolve("extracted").resolve(bootJar.getFileName());
+        if (!mode.equals("extracted")) {
+            // Dockerfile과 같은 학습 실행. 컨텍스트를 띄운 직후 끝내며 DB에는 연결하지 않는다
+            List<String> training = new ArrayList<>(List.of(java(), "-XX:AOTCacheOutput=" + aotCache()));
+            training.addAll(springAotFlags());
+            training.addAll(List.of("-Dspring.context.exit=onRefresh", "-jar", jar.toString(),
+                    "--spring.jpa.hibernate.ddl-auto=none",
+                    "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+                    "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                    "--openapi.service-key="));
+            run(training);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopServer() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        postgres.stop();
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(java()));
+        if (mode.equals("aotCache") || mode.equals("springAot")) {
+            command.add("-XX:AOTCache=" + aotCache());
+        }
+        command.addAll(springAotFlags());
+        command.addAll(List.of("-jar", jar.toString(),
+                "--server.port=" + port,
+                "--management.server.port=-1",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--openapi.service-key=",
+                "--logging.level.root=WARN"));
+        process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("server.log").toFile())
+                .start();
+
+        HttpRequest firstRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("""
+                        {"email":"nobody@example.com","password":"password123"}"""))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("서버가 시작 중에 종료되었습니다. " + workDir.resolve("server.log"));
+            }
+            try {
+                return httpClient.send(firstRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException("서버가 " + STARTUP_TIMEOUT + " 안에 응답하지 않았습니다");
+    }
+
+    private List<String> springAotFlags() {
+        return mode.equals("springAot") ? List.of("-Dspring.aot.enabled=true") : List.of();
+    }
+
+    private String aotCache() {
+        return workDir.resolve(mode + ".aot").toString();
+    }
+
+    private static String java() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void run(List<String> command) throws IOException, InterruptedException {
+        Process training = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(workDir.resolve("setup.log").toFile())
+                .start();
+        if (training.waitFor() != 0) {
+            throw new IllegalStateException("실행 실패: " + String.join(" ", command) + " (" + workDir.resolve("setup.log") + ")");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.evcharging.api.api.station;
+
+import com.evcharging.api.api.charger.ChargerResponse;
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티와 읽기 모델에서 응답 DTO로 옮기는 비용. 충전기 수를 바꿔 가며 잰다.
+ *
+ * <ul>
+ *     <li>stationFromEntity: {@link StationResponse#from(ChargingStation)} (목록 API)</li>
+ *     <li>stationFromView: {@link StationResponse#from(StationView)} (단건 API, 캐시된 읽기 모델)</li>
+ *     <li>chargerFromEntity: {@link ChargerResponse#from(Charger)} 한 건</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=ResponseMappingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private static final ChargerType[] TYPES = ChargerType.values();
+    private static final ConnectorType[] CONNECTORS = ConnectorType.values();
+
+    @Param({"4", "32"})
+    public int chargers;
+
+    private ChargingStation station;
+    private StationView view;
+    private Charger charger;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        station = new ChargingStation("ME000001", "강남역 공영주차장", "서울특별시 강남구 강남대로 396",
+                37.4979, 127.0276, "환경부", "1661-9408", "24시간 이용가능");
+        for (int i = 0; i < chargers; i++) {
+            station.addCharger(new Charger("%02d".formatted(i + 1), TYPES[i % TYPES.length],
+                    i % 2 == 0 ? new BigDecimal("7.0") : new BigDecimal("100"), CONNECTORS[i % CONNECTORS.length]));
+        }
+        view = StationView.from(station);
+        charger = station.getChargers().getFirst();
+    }
+
+    @Benchmark
+    public StationResponse stationFromEntity() {
+        return StationResponse.from(station);
+    }
+
+    @Benchmark
+    public StationResponse stationFromView() {
+        return StationResponse.from(view);
+    }
+
+    @Benchmark
+    public ChargerResponse chargerFromEntity() {
+        return ChargerResponse.from(charger);
+    }
+}
@@ -0,0 +1,92 @@
+package com.evcharging.api.common;
+
+import com.evcharging.api.api.charger.ChargerResponse;
+import com.evcharging.api.api.station.StationResponse;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ApiResponse} 봉투의 JSON 직렬화 비용. 모든 응답이 거치므로 작은 본문도 함께 잰다.
+ *
+ * <ul>
+ *     <li>error: 오류 응답 ({@link GlobalExceptionHandler}, 인증 실패)</li>
+ *     <li>station: 충전기 4대인 충전소 한 건 (GET /stations/{id}의 캐시 미스)</li>
+ *     <li>stationList: 충전소 20개 목록 (/stations/nearby)</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=ApiResponseSerializationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final ChargerStatus[] STATUSES = ChargerStatus.values();
+    private static final ChargerType[] TYPES = ChargerType.values();
+    private static final ConnectorType[] CONNECTORS = ConnectorType.values();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ApiResponse<Void> error;
+    private ApiResponse<StationResponse> station;
+    private ApiResponse<List<StationResponse>> stationList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        error = ApiResponse.error(ErrorCode.CHARGER_NOT_FOUND.name(), ErrorCode.CHARGER_NOT_FOUND.getMessage());
+        station = ApiResponse.success(station(0));
+        List<StationResponse> list = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(station(i));
+        }
+        stationList = ApiResponse.success(list);
+    }
+
+    @Benchmark
+    public byte[] error() throws IOException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] station() throws IOException {
+        return objectMapper.writeValueAsBytes(station);
+    }
+
+    @Benchmark
+    public byte[] stationList() throws IOException {
+        return objectMapper.writeValueAsBytes(stationList);
+    }
+
+    private static StationResponse station(int i) {
+        List<ChargerResponse> chargers = new ArrayList<>();
+        for (int c = 0; c < 4; c++) {
+            chargers.add(new ChargerResponse((long) i * 4 + c, "%02d".formatted(c + 1), TYPES[c % TYPES.length],
+                    STATUSES[(i + c) % STATUSES.length], c % 2 == 0 ? new BigDecimal("7.0") : new BigDecimal("100"),
+                    CONNECTORS[c % CONNECTORS.length]));
+        }
+        return new StationResponse((long) i, "ME%06d".formatted(i), "강남역 공영주차장 " + i,
+                "서울특별시 강남구 강남대로 " + (300 + i), 37.4979 + i * 0.0001, 127.0276 + i * 0.0001,
+                "환경부", "1661-9408", "24시간 이용가능", chargers);
+    }
+}
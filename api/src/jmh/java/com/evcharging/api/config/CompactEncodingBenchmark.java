@@ -0,0 +1,96 @@
+package com.evcharging.api.config;
+
+import com.evcharging.api.api.charger.ChargerResponse;
+import com.evcharging.api.api.station.StationResponse;
+import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * /stations/nearby 크기의 충전소 목록을 JSON과 압축 CBOR({@link CompactCborHttpMessageConverter})로 직렬화하는 시간 비교.
+ *
+ * <p>페이로드 크기는 시간과 함께 측정할 수 없어 시작할 때 한 번 출력한다(원본과 gzip 후 크기).
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=CompactEncodingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactEncodingBenchmark {
+
+    private static final ChargerStatus[] STATUSES = ChargerStatus.values();
+    private static final ChargerType[] TYPES = ChargerType.values();
+    private static final ConnectorType[] CONNECTORS = ConnectorType.values();
+
+    @Param({"50", "500"})
+    public int stations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CompactCborHttpMessageConverter compact = new CompactCborHttpMessageConverter();
+    private ApiResponse<List<StationResponse>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<StationResponse> list = new ArrayList<>(stations);
+        for (int i = 0; i < stations; i++) {
+            List<ChargerResponse> chargers = new ArrayList<>();
+            for (int c = 0; c < 4; c++) {
+                chargers.add(new ChargerResponse((long) i * 4 + c, "%02d".formatted(c + 1), TYPES[c % TYPES.length],
+                        STATUSES[(i + c) % STATUSES.length], c % 2 == 0 ? new BigDecimal("7.0") : new BigDecimal("100"),
+                        CONNECTORS[c % CONNECTORS.length]));
+            }
+            list.add(new StationResponse((long) i, "ME%06d".formatted(i), "강남역 공영주차장 " + i,
+                    "서울특별시 강남구 강남대로 " + (300 + i), 37.4979 + i * 0.0001, 127.0276 + i * 0.0001,
+                    "환경부", "1661-9408", "24시간 이용가능", chargers));
+        }
+        response = ApiResponse.success(list);
+
+        byte[] json = json();
+        byte[] cbor = compact();
+        System.out.printf("%n충전소 %d개: JSON %,d B (gzip %,d B), 압축 CBOR %,d B (gzip %,d B)%n",
+                stations, json.length, gzip(json).length, cbor.length, gzip(cbor).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] compact() throws IOException {
+        return compact.encode(response);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
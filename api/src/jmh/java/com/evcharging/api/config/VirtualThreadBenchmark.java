@@ -0,0 +1,169 @@
+package com.evcharging.api.config;
+
+import com.evcharging.api.ApiApplication;
+import com.evcharging.api.infra.openapi.ChargerCopyLoader;
+import com.evcharging.api.infra.openapi.EvChargerApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드 Tomcat과 가상 스레드 모드에서 /nearby 조회와 충전 시작의 처리량과 지연 분포 비교.
+ *
+ * <p>실제 서버를 임의 포트로 띄우고 HTTP로 호출한다. 동시 클라이언트 수(CLIENTS)는 Tomcat 기본 작업 스레드
+ * 200개보다 많게 잡아, 플랫폼 스레드 모드에서는 요청이 커넥터 대기열에 쌓이고 가상 스레드 모드에서는
+ * DB 연결 허가 앞에서 기다리게 한다. Throughput과 SampleTime(p99)을 함께 본다.
+ *
+ * <p>sessionCycle은 스레드마다 자기 충전기 하나에서 충전을 시작하고 바로 종료해, 충전기 상태가 다시
+ * AVAILABLE이 되게 한다.
+ *
+ * <p>Testcontainers로 PostgreSQL을 띄우므로 Docker가 필요하다.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=VirtualThreadBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(VirtualThreadBenchmark.CLIENTS)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    static final int CLIENTS = 256;
+    private static final int STATIONS = 5000;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger nextCharger = new AtomicInteger();
+    private PostgreSQLContainer postgres;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private List<Long> chargerIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"));
+        postgres.start();
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .run("--spring.profiles.active=bench",
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.sql.init.mode=never",
+                        "--openapi.service-key=",
+                        "--rate-limit.enabled=false",
+                        "--logging.level.root=WARN");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        context.getBean(ChargerCopyLoader.class).load(sink -> {
+            for (int i = 0; i < STATIONS; i++) {
+                sink.accept(new EvChargerApiResponse.Item("벤치 충전소 " + i, "VT%06d".formatted(i), "01", "04",
+                        "서울특별시 중구 세종대로 " + i,
+                        Double.toString(37.45 + (i % 100) * 0.002), Double.toString(126.9 + (i / 100) * 0.004),
+                        "환경부", "1661-9408", "24시간", "2", "100"));
+            }
+        });
+        chargerIds = context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM charger ORDER BY id", Long.class);
+
+        send(post("/api/v1/auth/signup", """
+                {"email":"bench@example.com","password":"password123","name":"벤치"}"""), 201);
+        JsonNode login = send(post("/api/v1/auth/login", """
+                {"email":"bench@example.com","password":"password123"}"""), 200);
+        authorization = "Bearer " + login.path("data").path("accessToken").asText();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+        postgres.stop();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+
+        long chargerId;
+
+        @Setup(Level.Trial)
+        public void assign(VirtualThreadBenchmark benchmark) {
+            chargerId = benchmark.chargerIds.get(benchmark.nextCharger.getAndIncrement());
+        }
+    }
+
+    @Benchmark
+    public JsonNode nearby() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double lat = 37.45 + random.nextDouble(0.2);
+        double lng = 126.9 + random.nextDouble(0.2);
+        return send(authorized(URI.create(baseUrl + "/api/v1/stations/nearby?lat=" + lat + "&lng=" + lng + "&radius=2"))
+                .GET().build(), 200);
+    }
+
+    @Benchmark
+    public JsonNode sessionCycle(Client client) throws Exception {
+        JsonNode started = send(authorized(URI.create(baseUrl + "/api/v1/chargers/" + client.chargerId + "/sessions"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), 201);
+        long sessionId = started.path("data").path("id").asLong();
+        return send(authorized(URI.create(baseUrl + "/api/v1/sessions/" + sessionId + "/complete"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("""
+                        {"energyDeliveredKwh":12.5,"cost":3500}"""))
+                .build(), 200);
+    }
+
+    private HttpRequest.Builder authorized(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Authorization", authorization);
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + response.statusCode()
+                    + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
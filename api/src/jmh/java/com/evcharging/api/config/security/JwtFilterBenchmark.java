@@ -0,0 +1,91 @@
+package com.evcharging.api.config.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 요청당 비용 비교.
+ *
+ * <ul>
+ *     <li>legacyTripleParse: 이전 구현처럼 validate/getEmail/getRole마다 파서를 만들고 서명을 다시 검증</li>
+ *     <li>filterUncached: 한 번 검증으로 모든 클레임을 얻되 캐시는 끈 필터</li>
+ *     <li>filterCached: 같은 토큰이 반복되는 경우의 필터 (캐시 적중)</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh} (결과는 build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "my-super-secret-key-for-ev-charging-api-that-is-at-least-256-bits-long";
+
+    private SecretKey key;
+    private String token;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, 3_600_000L, 0, 0L);
+        JwtTokenProvider cached = new JwtTokenProvider(SECRET, 3_600_000L, 10_000, 300_000L);
+        token = cached.generateToken("bench@example.com", "USER");
+        // 폐기된 토큰이 없는 빈 필터. 블룸 필터가 음성으로 답하므로 저장소는 호출되지 않는다
+        TokenRevocationList revocationList = new TokenRevocationList(null, null, 100_000, 0.001, 30_000);
+        uncachedFilter = new JwtAuthenticationFilter(uncached, revocationList);
+        cachedFilter = new JwtAuthenticationFilter(cached, revocationList);
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        String email = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        String role = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload()
+                .get("role", String.class);
+        return email + role;
+    }
+
+    @Benchmark
+    public Object filterUncached() throws Exception {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        return runFilter(cachedFilter);
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/stations");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
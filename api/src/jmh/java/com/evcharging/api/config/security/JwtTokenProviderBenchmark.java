@@ -0,0 +1,63 @@
+package com.evcharging.api.config.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtTokenProvider}의 토큰 발급과 검증 비용. 필터 전체 비용은 {@link JwtFilterBenchmark}가 잰다.
+ *
+ * <ul>
+ *     <li>generate: 로그인과 토큰 재발급마다 일어나는 서명</li>
+ *     <li>parse: 캐시를 끈 서명 검증과 클레임 추출</li>
+ *     <li>parseCached: 같은 토큰의 반복 요청 (검증 캐시 적중)</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "my-super-secret-key-for-ev-charging-api-that-is-at-least-256-bits-long";
+
+    private JwtTokenProvider uncached;
+    private JwtTokenProvider cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtTokenProvider(SECRET, 3_600_000L, 0, 0L);
+        cached = new JwtTokenProvider(SECRET, 3_600_000L, 10_000, 300_000L);
+        token = uncached.generateToken("bench@example.com", "USER");
+    }
+
+    @Benchmark
+    public String generate() {
+        return uncached.generateToken("bench@example.com", "USER");
+    }
+
+    @Benchmark
+    public Optional<AuthClaims> parse() {
+        return uncached.resolveClaims(token);
+    }
+
+    @Benchmark
+    public Optional<AuthClaims> parseCached() {
+        return cached.resolveClaims(token);
+    }
+}
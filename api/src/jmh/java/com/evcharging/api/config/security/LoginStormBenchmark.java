@@ -0,0 +1,149 @@
+package com.evcharging.api.config.security;
+
+import com.evcharging.api.ApiApplication;
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationService;
+import com.evcharging.api.domain.station.StationView;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인이 몰리는 동안 충전소 조회가 얼마나 늦어지는지 잰다. 한 그룹 안에서 로그인 스레드 32개와
+ * 충전소 조회 스레드 4개가 동시에 돈다. 조회는 GET /stations/{id}가 쓰는 {@link StationService#findView}다.
+ *
+ * <ul>
+ *     <li>idle: 로그인 스레드가 1ms씩 쉬기만 한다. 로그인이 없을 때의 조회 지연 기준</li>
+ *     <li>direct: 요청 스레드에서 바로 BCrypt 검증 (이전 방식). 로그인 스레드가 모든 코어를 나눠 쓴다</li>
+ *     <li>hasher: {@link PasswordHasher}를 거친다. 동시 해시 수가 코어 절반으로 제한되고 대기열이 차면 바로 거절된다</li>
+ * </ul>
+ *
+ * <p>SampleTime 모드라 stationView의 p99가 함께 나온다. hasher의 p99가 idle에 가깝고 direct보다 낮으면
+ * 로그인 폭주가 다른 요청을 굶기지 않는 것이다. verified/rejected는 반복마다 검증을 마친 로그인과
+ * 대기열이 가득 차 429로 거절된 로그인 수다. queueCapacity가 작아 코어 수가 32개보다 적으면 거절이 생긴다.
+ *
+ * <p>Testcontainers로 PostgreSQL을 띄우므로 Docker가 필요하다.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=LoginStormBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LoginStormBenchmark {
+
+    @Param({"idle", "direct", "hasher"})
+    public String path;
+
+    @Param({"8"})
+    public int queueCapacity;
+
+    private PostgreSQLContainer postgres;
+    private ConfigurableApplicationContext context;
+    private StationService stationService;
+    private Long stationId;
+    private BCryptPasswordEncoder encoder;
+    private PasswordHasher hasher;
+    private String hash;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long verified;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            verified = 0;
+            rejected = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"));
+        postgres.start();
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=bench",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.sql.init.mode=never",
+                        "--openapi.service-key=",
+                        "--logging.level.root=WARN");
+        stationService = context.getBean(StationService.class);
+        stationId = stationService.create(new ChargingStation("BENCH01", "벤치마크 충전소", "서울특별시 중구 세종대로 110",
+                37.5663, 126.9779, "환경부", "1661-9408", "24시간")).getId();
+
+        encoder = new BCryptPasswordEncoder(10);
+        hasher = new PasswordHasher(encoder, 0, queueCapacity);
+        hash = encoder.encode("password123");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hasher.shutdown();
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(32)
+    public boolean login(Outcomes outcomes) throws InterruptedException {
+        switch (path) {
+            case "idle" -> {
+                Thread.sleep(1);
+                return false;
+            }
+            case "direct" -> {
+                outcomes.verified++;
+                return encoder.matches("password123", hash);
+            }
+            default -> {
+                try {
+                    boolean matches = hasher.verify("password123", hash).matches();
+                    outcomes.verified++;
+                    return matches;
+                } catch (BusinessException e) {
+                    outcomes.rejected++;
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(4)
+    public StationView stationView() {
+        return stationService.findView(stationId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.evcharging.api.domain.charger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ChargerStatus#canTransitionTo}의 호출당 비용. 전이 가능 목록을 {@code Set<String>}에 두고
+ * {@code name()}으로 찾으므로 문자열 해시와 비교가 든다. 모든 (from, to) 조합을 한 번씩 확인한다.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=ChargerStatusBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChargerStatusBenchmark {
+
+    private final ChargerStatus[] statuses = ChargerStatus.values();
+
+    @Benchmark
+    public void canTransitionToAllPairs(Blackhole blackhole) {
+        for (ChargerStatus from : statuses) {
+            for (ChargerStatus to : statuses) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.evcharging.api.domain.station;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 충전소 검색의 거리 계산 비용. 실제 계산은 {@link StationRepository#findNearby}의 SQL에서
+ * 행마다 두 번(WHERE, ORDER BY) 일어나므로, 같은 식을 Java로 옮겨 충전소 1만 개를 한 번 훑는 시간을 잰다.
+ *
+ * <ul>
+ *     <li>sphericalLawOfCosines: 쿼리가 쓰는 구면 코사인 법칙 식</li>
+ *     <li>haversine: 가까운 거리에서 수치적으로 안정적인 하버사인 식 (비교용)</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=NearbyDistanceBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearbyDistanceBenchmark {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final int STATIONS = 10_000;
+    private static final double RADIUS_KM = 5;
+
+    // 강남역 주변
+    private final double lat = 37.4979;
+    private final double lng = 127.0276;
+    private final double[] latitudes = new double[STATIONS];
+    private final double[] longitudes = new double[STATIONS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 서울 영역에 고르게 흩어 놓는다
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < STATIONS; i++) {
+            latitudes[i] = random.nextDouble(37.42, 37.70);
+            longitudes[i] = random.nextDouble(126.76, 127.18);
+        }
+    }
+
+    @Benchmark
+    public int sphericalLawOfCosines() {
+        int within = 0;
+        for (int i = 0; i < STATIONS; i++) {
+            double distance = EARTH_RADIUS_KM * Math.acos(
+                    Math.cos(Math.toRadians(lat)) * Math.cos(Math.toRadians(latitudes[i]))
+                            * Math.cos(Math.toRadians(longitudes[i]) - Math.toRadians(lng))
+                            + Math.sin(Math.toRadians(lat)) * Math.sin(Math.toRadians(latitudes[i])));
+            if (distance < RADIUS_KM) {
+                within++;
+            }
+        }
+        return within;
+    }
+
+    @Benchmark
+    public int haversine() {
+        int within = 0;
+        double lat1 = Math.toRadians(lat);
+        for (int i = 0; i < STATIONS; i++) {
+            double lat2 = Math.toRadians(latitudes[i]);
+            double sinLat = Math.sin((lat2 - lat1) / 2);
+            double sinLng = Math.sin(Math.toRadians(longitudes[i] - lng) / 2);
+            double a = sinLat * sinLat + Math.cos(lat1) * Math.cos(lat2) * sinLng * sinLng;
+            double distance = 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+            if (distance < RADIUS_KM) {
+                within++;
+            }
+        }
+        return within;
+    }
+}
@@ -0,0 +1,184 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.ApiApplication;
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapChargerType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapConnectorType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parseDouble;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parsePowerKw;
+
+/**
+ * 빈 DB에 합성 충전기 데이터를 적재하는 세 가지 경로 비교.
+ *
+ * <ul>
+ *   <li>jpaSaveAll: 엔티티를 만들어 {@code stationRepository.saveAll}. IDENTITY 키라서 행마다 INSERT 한 번
+ *   <li>batchedUpsert: {@link ChargerUpsertWriter}에 5000건씩 배치 upsert
+ *   <li>copy: {@link ChargerCopyLoader}로 스테이징 테이블에 COPY 한 뒤 집합 병합
+ *   <li>snapshotFile: 같은 데이터를 담은 .ndjson.gz 스냅샷을 {@link ChargerSnapshotLoader}로 적재. 압축 해제와 파싱까지 포함한다
+ * </ul>
+ *
+ * <p>스냅샷 적재 목표는 초당 10만 행 이상이다. 기본 10만 건에서 snapshotFile이 1000 ms 안쪽이면 목표를 넘긴 것이다.
+ *
+ * <p>Testcontainers로 PostgreSQL을 띄우므로 Docker가 필요하다. 매 실행 전에 테이블을 비운다.
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.includes=StationBulkLoadBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class StationBulkLoadBenchmark {
+
+    private static final int CHARGERS_PER_STATION = 5;
+    private static final int UPSERT_CHUNK_SIZE = 5000;
+
+    @Param({"100000"})
+    public int chargers;
+
+    private PostgreSQLContainer postgres;
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StationRepository stationRepository;
+    private ChargerUpsertWriter upsertWriter;
+    private ChargerCopyLoader copyLoader;
+    private ChargerSnapshotLoader snapshotLoader;
+    private List<EvChargerApiResponse.Item> items;
+    private Path snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"));
+        postgres.start();
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=bench",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.sql.init.mode=never",
+                        "--openapi.service-key=",
+                        "--logging.level.root=WARN");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        stationRepository = context.getBean(StationRepository.class);
+        upsertWriter = context.getBean(ChargerUpsertWriter.class);
+        copyLoader = context.getBean(ChargerCopyLoader.class);
+        snapshotLoader = context.getBean(ChargerSnapshotLoader.class);
+
+        items = new ArrayList<>(chargers);
+        for (int i = 0; i < chargers; i++) {
+            int station = i / CHARGERS_PER_STATION;
+            items.add(new EvChargerApiResponse.Item(
+                    "합성 충전소 " + station,
+                    "BM%06d".formatted(station),
+                    "%02d".formatted(i % CHARGERS_PER_STATION + 1),
+                    "0" + (i % 3 + 1),
+                    "서울특별시 중구 세종대로 " + station,
+                    Double.toString(37.4 + (station % 1000) * 0.0003),
+                    Double.toString(126.8 + (station / 1000) * 0.01),
+                    "환경부",
+                    "1661-9408",
+                    "24시간",
+                    "2",
+                    i % 2 == 0 ? "50" : "7"));
+        }
+        snapshot = writeSnapshot(items);
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE charger, charging_station CASCADE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.stop();
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public void jpaSaveAll() {
+        Map<String, ChargingStation> stations = new LinkedHashMap<>();
+        for (EvChargerApiResponse.Item item : items) {
+            ChargingStation station = stations.computeIfAbsent(item.statId(), id -> new ChargingStation(
+                    id, item.statNm(), item.addr(), parseDouble(item.lat()), parseDouble(item.lng()),
+                    item.busiNm(), item.busiCall(), item.useTime()));
+            station.addCharger(new Charger(item.chgerId(), mapChargerType(item.chgerType()),
+                    parsePowerKw(item.output()), mapConnectorType(item.chgerType())));
+        }
+        transactionTemplate.executeWithoutResult(status -> stationRepository.saveAll(stations.values()));
+    }
+
+    @Benchmark
+    public void batchedUpsert() {
+        for (int from = 0; from < items.size(); from += UPSERT_CHUNK_SIZE) {
+            upsertWriter.upsert("11", items.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, items.size())));
+        }
+    }
+
+    @Benchmark
+    public ChargerCopyLoader.Result copy() {
+        return copyLoader.load(sink -> items.forEach(sink));
+    }
+
+    @Benchmark
+    public ChargerSnapshotResult snapshotFile() {
+        return snapshotLoader.load(snapshot);
+    }
+
+    private static Path writeSnapshot(List<EvChargerApiResponse.Item> items) {
+        try {
+            Path file = Files.createTempFile("charger-snapshot", ".ndjson.gz");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file));
+                 ChargerSnapshotFormat.ItemWriter writer = ChargerSnapshotFormat.NDJSON.open(out)) {
+                for (EvChargerApiResponse.Item item : items) {
+                    writer.write(item);
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.evcharging.api.api.auth;
 
 import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.config.security.AuthClaims;
 import com.evcharging.api.domain.member.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,4 +32,18 @@ public class AuthController {
     public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
         return ApiResponse.success(authService.login(request));
     }
+
+    @PostMapping("/refresh")
+    public ApiResponse<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ApiResponse.success(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@Valid @RequestBody RefreshTokenRequest request, Authentication authentication) {
+        AuthClaims accessClaims = authentication != null && authentication.getDetails() instanceof AuthClaims claims
+                ? claims
+                : null;
+        authService.logout(request, accessClaims);
+    }
 }
@@ -1,7 +1,7 @@
 package com.evcharging.api.api.auth;
 
-public record LoginResponse(String accessToken, String tokenType) {
-    public static LoginResponse of(String accessToken) {
-        return new LoginResponse(accessToken, "Bearer");
+public record LoginResponse(String accessToken, String refreshToken, String tokenType) {
+    public static LoginResponse of(String accessToken, String refreshToken) {
+        return new LoginResponse(accessToken, refreshToken, "Bearer");
     }
 }
@@ -0,0 +1,7 @@
+package com.evcharging.api.api.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank String refreshToken
+) {}
@@ -3,6 +3,7 @@ package com.evcharging.api.api.charger;
 import com.evcharging.api.domain.charger.Charger;
 import com.evcharging.api.domain.charger.ChargerStatus;
 import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ChargerView;
 import com.evcharging.api.domain.charger.ConnectorType;
 
 import java.math.BigDecimal;
@@ -25,4 +26,15 @@ public record ChargerResponse(
                 charger.getConnectorType()
         );
     }
+
+    public static ChargerResponse from(ChargerView charger) {
+        return new ChargerResponse(
+                charger.id(),
+                charger.chargerCode(),
+                charger.type(),
+                charger.status(),
+                charger.powerKw(),
+                charger.connectorType()
+        );
+    }
 }
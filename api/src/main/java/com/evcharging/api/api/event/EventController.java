@@ -0,0 +1,30 @@
+package com.evcharging.api.api.event;
+
+import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.domain.event.EventFeedService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/events")
+public class EventController {
+
+    private final EventFeedService eventFeedService;
+
+    public EventController(EventFeedService eventFeedService) {
+        this.eventFeedService = eventFeedService;
+    }
+
+    @GetMapping
+    public ApiResponse<EventFeedResponse> findAfter(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "1000") int limit) {
+        List<EventResponse> events = eventFeedService.findAfter(after, limit)
+                .stream().map(EventResponse::from).toList();
+        return ApiResponse.success(EventFeedResponse.of(events, after));
+    }
+}
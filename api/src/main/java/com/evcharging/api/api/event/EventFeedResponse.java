@@ -0,0 +1,10 @@
+package com.evcharging.api.api.event;
+
+import java.util.List;
+
+public record EventFeedResponse(List<EventResponse> events, long nextCursor) {
+    public static EventFeedResponse of(List<EventResponse> events, long after) {
+        long next = events.isEmpty() ? after : events.getLast().id();
+        return new EventFeedResponse(events, next);
+    }
+}
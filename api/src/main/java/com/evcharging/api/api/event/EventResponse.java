@@ -0,0 +1,31 @@
+package com.evcharging.api.api.event;
+
+import com.evcharging.api.domain.event.OutboxEvent;
+import com.evcharging.api.domain.event.OutboxEventType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record EventResponse(
+        Long id,
+        OutboxEventType type,
+        Long sessionId,
+        Long chargerId,
+        Long stationId,
+        LocalDateTime occurredAt,
+        BigDecimal energyDeliveredKwh,
+        BigDecimal cost
+) {
+    public static EventResponse from(OutboxEvent event) {
+        return new EventResponse(
+                event.getId(),
+                event.getType(),
+                event.getSessionId(),
+                event.getChargerId(),
+                event.getStationId(),
+                event.getOccurredAt(),
+                event.getEnergyDeliveredKwh(),
+                event.getCost()
+        );
+    }
+}
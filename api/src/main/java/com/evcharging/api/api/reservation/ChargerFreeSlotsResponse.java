@@ -0,0 +1,11 @@
+package com.evcharging.api.api.reservation;
+
+import com.evcharging.api.domain.reservation.TimeSlot;
+
+import java.util.List;
+
+public record ChargerFreeSlotsResponse(
+        Long chargerId,
+        String chargerCode,
+        List<TimeSlot> freeSlots
+) {}
@@ -0,0 +1,75 @@
+package com.evcharging.api.api.reservation;
+
+import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.domain.charger.ChargerService;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.reservation.Reservation;
+import com.evcharging.api.domain.reservation.ReservationService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+public class ReservationController {
+
+    private static final Duration MAX_FREE_SLOT_RANGE = Duration.ofDays(7);
+
+    private final ReservationService reservationService;
+    private final ChargerService chargerService;
+
+    public ReservationController(ReservationService reservationService, ChargerService chargerService) {
+        this.reservationService = reservationService;
+        this.chargerService = chargerService;
+    }
+
+    @PostMapping("/chargers/{chargerId}/reservations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<ReservationResponse> reserve(@PathVariable Long chargerId,
+                                                    @Valid @RequestBody ReservationRequest request,
+                                                    Authentication authentication) {
+        Reservation reservation = reservationService.reserve(
+                chargerId, authentication.getName(), request.startTime(), request.endTime());
+        return ApiResponse.success(ReservationResponse.from(reservation));
+    }
+
+    @DeleteMapping("/reservations/{id}")
+    public ApiResponse<ReservationResponse> cancel(@PathVariable Long id, Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        Reservation reservation = reservationService.cancel(id, authentication.getName(), admin);
+        return ApiResponse.success(ReservationResponse.from(reservation));
+    }
+
+    @GetMapping("/stations/{stationId}/free-slots")
+    public ApiResponse<List<ChargerFreeSlotsResponse>> findFreeSlots(
+            @PathVariable Long stationId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_FREE_SLOT_RANGE) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+        List<ChargerFreeSlotsResponse> slots = chargerService.findByStation(stationId).stream()
+                .filter(charger -> charger.status() != ChargerStatus.OUT_OF_SERVICE)
+                .map(charger -> new ChargerFreeSlotsResponse(charger.id(), charger.chargerCode(),
+                        reservationService.freeSlots(charger.id(), from, to)))
+                .toList();
+        return ApiResponse.success(slots);
+    }
+}
@@ -0,0 +1,10 @@
+package com.evcharging.api.api.reservation;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record ReservationRequest(
+        @NotNull LocalDateTime startTime,
+        @NotNull LocalDateTime endTime
+) {}
@@ -0,0 +1,26 @@
+package com.evcharging.api.api.reservation;
+
+import com.evcharging.api.domain.reservation.Reservation;
+import com.evcharging.api.domain.reservation.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+public record ReservationResponse(
+        Long id,
+        Long chargerId,
+        String memberEmail,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        ReservationStatus status
+) {
+    public static ReservationResponse from(Reservation reservation) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getCharger().getId(),
+                reservation.getMemberEmail(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                reservation.getStatus()
+        );
+    }
+}
@@ -2,10 +2,16 @@ package com.evcharging.api.api.session;
 
 import com.evcharging.api.common.ApiResponse;
 import com.evcharging.api.domain.session.ChargingSession;
+import com.evcharging.api.domain.session.SessionExportFilter;
+import com.evcharging.api.domain.session.SessionExportFormat;
+import com.evcharging.api.domain.session.SessionExportService;
 import com.evcharging.api.domain.session.SessionService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,15 +31,18 @@ import java.util.List;
 public class SessionController {
 
     private final SessionService sessionService;
+    private final SessionExportService sessionExportService;
 
-    public SessionController(SessionService sessionService) {
+    public SessionController(SessionService sessionService, SessionExportService sessionExportService) {
         this.sessionService = sessionService;
+        this.sessionExportService = sessionExportService;
     }
 
     @PostMapping("/chargers/{chargerId}/sessions")
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<SessionResponse> startCharging(@PathVariable Long chargerId) {
-        ChargingSession session = sessionService.startCharging(chargerId);
+    public ApiResponse<SessionResponse> startCharging(@PathVariable Long chargerId,
+                                                      Authentication authentication) {
+        ChargingSession session = sessionService.startCharging(chargerId, authentication.getName());
         return ApiResponse.success(SessionResponse.from(session));
     }
 
@@ -49,9 +59,27 @@ public class SessionController {
     public ApiResponse<List<SessionResponse>> findSessions(
             @RequestParam Long chargerId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
-        List<SessionResponse> sessions = sessionService.findByCharger(chargerId, startDate, endDate)
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<SessionResponse> sessions = sessionService.findByCharger(chargerId, startDate, endDate, includeArchived)
                 .stream().map(SessionResponse::from).toList();
         return ApiResponse.success(sessions);
     }
+
+    @GetMapping("/sessions/export")
+    public void export(
+            @RequestParam(required = false) Long stationId,
+            @RequestParam(required = false) Long chargerId,
+            @RequestParam(required = false) String operatorName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") SessionExportFormat format,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"sessions." + format.getExtension() + "\"");
+        sessionExportService.export(new SessionExportFilter(stationId, chargerId, operatorName, from, to),
+                format, response.getOutputStream());
+    }
 }
@@ -1,8 +1,11 @@
 package com.evcharging.api.api.station;
 
 import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.config.CompactCborHttpMessageConverter;
 import com.evcharging.api.domain.station.ChargingStation;
 import com.evcharging.api.domain.station.StationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -25,9 +29,11 @@ import java.util.List;
 public class StationController {
 
     private final StationService stationService;
+    private final StationResponseCache responseCache;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, StationResponseCache responseCache) {
         this.stationService = stationService;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
@@ -46,10 +52,18 @@ public class StationController {
         return ApiResponse.success(stations);
     }
 
+    // 직렬화된 본문을 캐시에서 바로 쓴다. 충전소가 없으면 BusinessException이 그대로 전파된다
     @GetMapping("/{id}")
-    public ApiResponse<StationResponse> findById(@PathVariable Long id) {
-        ChargingStation station = stationService.findById(id);
-        return ApiResponse.success(StationResponse.from(station));
+    public void findById(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        responseCache.get(id, () -> StationResponse.from(stationService.findView(id)))
+                .writeTo(request, response);
+    }
+
+    // 압축 형식은 바이트 캐시를 거치지 않고 컨버터가 직접 인코딩한다
+    @GetMapping(value = "/{id}", produces = CompactCborHttpMessageConverter.MEDIA_TYPE)
+    public ApiResponse<StationResponse> findByIdCompact(@PathVariable Long id) {
+        return ApiResponse.success(StationResponse.from(stationService.findView(id)));
     }
 
     @PostMapping
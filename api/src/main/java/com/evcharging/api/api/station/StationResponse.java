@@ -2,6 +2,7 @@ package com.evcharging.api.api.station;
 
 import com.evcharging.api.api.charger.ChargerResponse;
 import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationView;
 
 import java.util.List;
 
@@ -31,4 +32,19 @@ public record StationResponse(
                 station.getChargers().stream().map(ChargerResponse::from).toList()
         );
     }
+
+    public static StationResponse from(StationView station) {
+        return new StationResponse(
+                station.id(),
+                station.stationCode(),
+                station.name(),
+                station.address(),
+                station.latitude(),
+                station.longitude(),
+                station.operatorName(),
+                station.contactNumber(),
+                station.operatingHours(),
+                station.chargers().stream().map(ChargerResponse::from).toList()
+        );
+    }
 }
@@ -0,0 +1,117 @@
+package com.evcharging.api.api.station;
+
+import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.common.ReadThroughCache;
+import com.evcharging.api.domain.station.StationChangeListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /stations/{id} 응답 본문을 직렬화된 UTF-8 바이트로 보관하는 캐시. 적중하면 엔티티 변환과 JSON 직렬화 없이
+ * 바이트를 그대로 출력 스트림에 쓴다.
+ *
+ * <p>충전소와 충전기 변경은 커밋 뒤 {@link StationChangeListener}로 받아 해당 충전소만 지운다. 다른 인스턴스의
+ * 변경은 알 수 없으므로 항목은 ttl-ms가 지나면 만료된다.
+ *
+ * <p>gzip-min-bytes 이상인 본문은 gzip으로 압축한 본문도 함께 만들어 두고, 클라이언트가 gzip을 받으면 그것을 쓴다.
+ */
+@Component
+public class StationResponseCache implements StationChangeListener {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReadThroughCache<Long, Entry> entries;
+    private final int gzipMinBytes;
+
+    public StationResponseCache(@Value("${station.response-cache.max-entries:10000}") int maxEntries,
+                                @Value("${station.response-cache.ttl-ms:60000}") long ttlMs,
+                                @Value("${station.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.entries = new ReadThroughCache<>(maxEntries, ttlMs);
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * 캐시된 본문을 반환하고, 없으면 loader로 응답을 만들어 직렬화한 뒤 보관한다.
+     */
+    public Entry get(Long stationId, Supplier<StationResponse> loader) {
+        return entries.get(stationId, id -> serialize(loader.get()));
+    }
+
+    @Override
+    public void stationsChanged(Collection<Long> stationIds) {
+        entries.invalidate(stationIds);
+    }
+
+    @Override
+    public void allStationsChanged() {
+        entries.invalidateAll();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return entries.hitCount();
+    }
+
+    public long missCount() {
+        return entries.missCount();
+    }
+
+    public long evictionCount() {
+        return entries.evictionCount();
+    }
+
+    private Entry serialize(StationResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(response));
+            return new Entry(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("충전소 응답 직렬화 실패: " + response.id(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param gzipped 본문이 작아 압축하지 않았으면 null
+     */
+    public record Entry(byte[] json, byte[] gzipped) {
+
+        public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            byte[] body = json;
+            if (gzipped != null) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+                if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                    response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    body = gzipped;
+                }
+            }
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.evcharging.api.common;
+
+import com.evcharging.api.domain.charger.ChargerStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 충전 도메인 카운터. 트랜잭션 안에서 호출하면 커밋된 뒤에만 센다.
+ *
+ * <p>상태 전이 카운터는 (from, to) 조합마다 미리 만들어 두어 기록할 때 레지스트리를 조회하지 않는다.
+ */
+@Component
+public class ChargingMetrics {
+
+    private final Counter sessionsStarted;
+    private final Counter sessionsCompleted;
+    private final Counter[][] transitions;
+
+    public ChargingMetrics(MeterRegistry registry) {
+        this.sessionsStarted = Counter.builder("charging.sessions.started")
+                .description("시작된 충전 세션 수")
+                .register(registry);
+        this.sessionsCompleted = Counter.builder("charging.sessions.completed")
+                .description("완료된 충전 세션 수")
+                .register(registry);
+        ChargerStatus[] statuses = ChargerStatus.values();
+        this.transitions = new Counter[statuses.length][statuses.length];
+        for (ChargerStatus from : statuses) {
+            for (ChargerStatus to : statuses) {
+                if (from != to) {
+                    transitions[from.ordinal()][to.ordinal()] = Counter.builder("charger.status.transitions")
+                            .description("충전기 상태 전이 수")
+                            .tag("from", from.name())
+                            .tag("to", to.name())
+                            .register(registry);
+                }
+            }
+        }
+    }
+
+    public void sessionStarted() {
+        afterCommit(sessionsStarted, 1);
+    }
+
+    public void sessionCompleted() {
+        afterCommit(sessionsCompleted, 1);
+    }
+
+    public void statusChanged(ChargerStatus from, ChargerStatus to) {
+        statusChanged(from, to, 1);
+    }
+
+    public void statusChanged(ChargerStatus from, ChargerStatus to, int count) {
+        if (from != to && count > 0) {
+            afterCommit(transitions[from.ordinal()][to.ordinal()], count);
+        }
+    }
+
+    private static void afterCommit(Counter counter, int amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counter.increment(amount);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment(amount);
+            }
+        });
+    }
+}
@@ -10,10 +10,17 @@ public enum ErrorCode {
     INVALID_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "유효하지 않은 상태 전이입니다"),
     CHARGER_NOT_AVAILABLE(HttpStatus.CONFLICT, "충전기가 사용 가능 상태가 아닙니다"),
     SESSION_ALREADY_COMPLETED(HttpStatus.CONFLICT, "이미 완료된 충전 세션입니다"),
+    RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다"),
+    INVALID_RESERVATION_PERIOD(HttpStatus.BAD_REQUEST, "유효하지 않은 예약 시간입니다"),
+    RESERVATION_CONFLICT(HttpStatus.CONFLICT, "이미 예약된 시간대입니다"),
+    RESERVATION_NOT_ACTIVE(HttpStatus.CONFLICT, "활성 상태의 예약이 아닙니다"),
+    CHARGER_RESERVED(HttpStatus.CONFLICT, "다른 회원이 예약한 충전기입니다"),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다"),
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다"),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다"),
-    FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다");
+    FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도해주세요");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,100 @@
+package com.evcharging.api.common;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 크기와 TTL이 제한된 읽기 캐시. 없거나 만료된 키는 loader로 읽어 채운다.
+ *
+ * <p>loader가 도는 동안 무효화가 있었다면 읽은 값이 이미 낡았을 수 있으므로 보관하지 않는다. 그래서 커밋 뒤에
+ * 무효화하면, 무효화 전에 시작한 읽기가 이전 값을 다시 채워 넣지 못한다. loader가 null을 돌려주면 캐시하지 않는다.
+ *
+ * <p>가득 차면 만료된 항목을 먼저 지우고, 그래도 부족하면 일부 항목을 임의로 비운다.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ReadThroughCache(int maxEntries, long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> cached = entries.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            hits.incrementAndGet();
+            return cached.value();
+        }
+        misses.incrementAndGet();
+
+        long loadedAt = generation.get();
+        V value = loader.apply(key);
+        if (value == null || maxEntries <= 0) {
+            return value;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        Entry<V> entry = new Entry<>(value, now + ttlMs);
+        entries.put(key, entry);
+        if (generation.get() != loadedAt) {
+            entries.remove(key, entry);
+        }
+        return value;
+    }
+
+    public void invalidate(Collection<? extends K> keys) {
+        generation.incrementAndGet();
+        keys.forEach(entries::remove);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    private void evict(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        if (entries.size() >= maxEntries) {
+            // 만료 항목을 지워도 가득 차 있으면 1/8을 비워 다음 삽입들이 매번 전체를 훑지 않게 한다
+            int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 8);
+            Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+            while (toRemove-- > 0 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        evictions.addAndGet(Math.max(0, before - entries.size()));
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {}
+}
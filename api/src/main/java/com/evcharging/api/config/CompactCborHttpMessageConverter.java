@@ -0,0 +1,105 @@
+package com.evcharging.api.config;
+
+import com.evcharging.api.api.station.StationResponse;
+import com.evcharging.api.common.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link ApiResponse}를 CBOR로 쓰는 응답 전용 컨버터. Accept에 {@link #MEDIA_TYPE}을 보낸 클라이언트만 받는다.
+ *
+ * <p>JSON과 필드 이름은 같지만 값을 더 작게 쓴다.
+ * <ul>
+ *   <li>enum은 이름 대신 선언 순서(ordinal)를 정수로 쓴다. 그래서 enum 상수는 끝에만 추가해야 한다
+ *   <li>충전소 위도/경도는 백만분의 1도 단위 정수로 쓴다(약 0.1m 정밀도)
+ *   <li>LocalDateTime은 벽시계 시각을 UTC로 본 epoch 초로 쓴다
+ * </ul>
+ */
+public class CompactCborHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE = "application/vnd.evcharging.compact+cbor";
+
+    private static final double MICRO_DEGREES = 1_000_000d;
+
+    private final ObjectMapper mapper;
+
+    public CompactCborHttpMessageConverter() {
+        super(MediaType.parseMediaType(MEDIA_TYPE));
+        SimpleModule module = new SimpleModule("compact")
+                .addSerializer(Enum.class, new OrdinalSerializer())
+                .addSerializer(LocalDateTime.class, new EpochSecondSerializer());
+        module.setMixInAnnotation(StationResponse.class, StationCoordinates.class);
+        this.mapper = new CBORMapper().registerModule(module);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("압축 응답 형식은 요청 본문으로 받지 않습니다", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        mapper.writeValue(outputMessage.getBody(), value);
+    }
+
+    /**
+     * 벤치마크와 테스트에서 HTTP 없이 인코딩 결과를 얻는다.
+     */
+    public byte[] encode(Object value) throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class OrdinalSerializer extends JsonSerializer<Enum> {
+        @Override
+        public void serialize(Enum value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.ordinal());
+        }
+    }
+
+    private static final class EpochSecondSerializer extends JsonSerializer<LocalDateTime> {
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.toEpochSecond(ZoneOffset.UTC));
+        }
+    }
+
+    private static final class MicroDegreeSerializer extends JsonSerializer<Double> {
+        @Override
+        public void serialize(Double value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(Math.round(value * MICRO_DEGREES));
+        }
+    }
+
+    private interface StationCoordinates {
+        @JsonSerialize(using = MicroDegreeSerializer.class)
+        Double latitude();
+
+        @JsonSerialize(using = MicroDegreeSerializer.class)
+        Double longitude();
+    }
+}
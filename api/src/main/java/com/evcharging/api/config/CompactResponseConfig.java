@@ -0,0 +1,17 @@
+package com.evcharging.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class CompactResponseConfig implements WebMvcConfigurer {
+
+    // 목록 끝에 두어야 Accept가 없거나 */*인 요청은 지금처럼 JSON을 받는다
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CompactCborHttpMessageConverter());
+    }
+}
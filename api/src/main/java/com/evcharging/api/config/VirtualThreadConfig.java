@@ -0,0 +1,41 @@
+package com.evcharging.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청, @Scheduled 작업이 가상 스레드에서 실행된다.
+ * 공공 API 적재는 설정과 무관하게 항상 가상 스레드를 쓴다.
+ *
+ * <p>가상 스레드는 수가 제한되지 않으므로, 요청이 몰리면 DB 연결을 기다리는 스레드가 풀 크기보다 훨씬 많아진다.
+ * 이 모드에서는 Hikari 풀을 {@link BoundedDataSource}로 감싸 풀 크기만큼만 동시에 연결을 빌리게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    static BeanPostProcessor boundedDataSourcePostProcessor(
+            @Value("${db.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                log.info("가상 스레드 모드: DB 동시 접근을 Hikari 풀 크기({})로 제한합니다.", hikari.getMaximumPoolSize());
+                return new BoundedDataSource(hikari, hikari.getMaximumPoolSize(), Duration.ofMillis(acquireTimeoutMs));
+            }
+        };
+    }
+}
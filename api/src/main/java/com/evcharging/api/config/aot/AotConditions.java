@@ -0,0 +1,82 @@
+package com.evcharging.api.config.aot;
+
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Spring AOT가 빌드할 때 조건부 빈을 확정하는 데 쓴 설정 값. 빌드 시 jar에 남기고 실행 시 현재 값과 비교한다.
+ */
+final class AotConditions {
+
+    // @ConditionalOn...으로 빈 구성을 바꾸는 설정. management.server.port는 관리용 자식 컨텍스트를 바꾼다.
+    // 조건부 빈을 새로 만들면 그 설정도 여기에 넣는다
+    static final List<String> PROPERTIES = List.of(
+            "spring.threads.virtual.enabled",
+            "db.replicas.urls",
+            "outbox.sink.file.path",
+            "management.server.port");
+
+    static final String RESOURCE = "META-INF/evcharging/aot-conditions.properties";
+
+    private AotConditions() {
+    }
+
+    static Properties capture(Environment environment) {
+        Properties values = new Properties();
+        for (String name : PROPERTIES) {
+            String value = environment.getProperty(name);
+            values.setProperty(name, value == null ? "" : value.trim());
+        }
+        return values;
+    }
+
+    /**
+     * 빌드 때와 값이 다른 설정 이름. 접속 정보가 들어 있을 수 있어 값은 돌려주지 않는다.
+     */
+    static List<String> mismatches(Properties built, Environment environment) {
+        Properties current = capture(environment);
+        List<String> names = new ArrayList<>();
+        for (String name : PROPERTIES) {
+            if (!Objects.equals(built.getProperty(name, ""), current.getProperty(name))) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    static String write(Properties values) {
+        StringWriter writer = new StringWriter();
+        try {
+            values.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 생성 시각 주석을 빼서 같은 설정이면 같은 파일이 나오게 한다
+        return writer.toString().lines()
+                .filter(line -> !line.startsWith("#"))
+                .sorted()
+                .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    static Properties load(ClassLoader classLoader) {
+        try (InputStream in = classLoader.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            Properties values = new Properties();
+            values.load(in);
+            return values;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
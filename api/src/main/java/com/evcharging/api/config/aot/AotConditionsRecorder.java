@@ -0,0 +1,22 @@
+package com.evcharging.api.config.aot;
+
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+/**
+ * processAot 때 조건부 빈을 확정한 설정 값을 생성 리소스로 남긴다. bootJar에 함께 들어간다.
+ */
+class AotConditionsRecorder implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Environment environment = beanFactory.getBean(
+                ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class);
+        String content = AotConditions.write(AotConditions.capture(environment));
+        return (generationContext, code) ->
+                generationContext.getGeneratedFiles().addResourceFile(AotConditions.RESOURCE, content);
+    }
+}
@@ -0,0 +1,31 @@
+package com.evcharging.api.config.aot;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Spring AOT 초기화 코드로 기동할 때, 조건부 빈 설정이 빌드 때와 다르면 컨텍스트를 만들기 전에 기동을 멈춘다.
+ * 환경 변수, 시스템 속성, 실행 인자 등 어느 경로로 바꿨든 최종 값으로 비교한다.
+ */
+class AotConditionsVerifier implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        Properties built = AotConditions.load(event.getSpringApplication().getClassLoader());
+        if (built == null) {
+            return;
+        }
+        List<String> mismatches = AotConditions.mismatches(built, event.getEnvironment());
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("Spring AOT 빌드 때와 조건부 빈 설정이 다릅니다: " + mismatches
+                    + ". spring.aot.enabled=false(SPRING_AOT_ENABLED=false)로 실행하거나 이 설정으로 다시 빌드하세요.");
+        }
+    }
+}
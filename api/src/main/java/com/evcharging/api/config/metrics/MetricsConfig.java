@@ -0,0 +1,77 @@
+package com.evcharging.api.config.metrics;
+
+import com.evcharging.api.api.station.StationResponseCache;
+import com.evcharging.api.config.BoundedDataSource;
+import com.evcharging.api.config.replica.ReplicaRouter;
+import com.evcharging.api.domain.station.StationViewCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Actuator가 자동으로 기록하지 않는 지표를 등록한다. 엔드포인트별 지연 히스토그램(http.server.requests)과
+ * Hikari 풀 지표(hikaricp.connections.*)는 자동 구성을 쓰고 application.yml에서 버킷만 정한다.
+ * 요청당 SQL 문 수는 {@link MetricsWebConfig}가 기록한다.
+ *
+ * <p>캐시와 연결 허가 지표는 기존 카운터를 스크레이프할 때 읽기만 하므로 요청 경로에 비용이 없다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    MeterBinder stationCacheMetrics(StationViewCache viewCache, StationResponseCache responseCache) {
+        return meterRegistry -> {
+            bindCache(meterRegistry, "station.view", viewCache, StationViewCache::size, StationViewCache::hitCount,
+                    StationViewCache::missCount, StationViewCache::evictionCount);
+            bindCache(meterRegistry, "station.response", responseCache, StationResponseCache::size,
+                    StationResponseCache::hitCount, StationResponseCache::missCount,
+                    StationResponseCache::evictionCount);
+        };
+    }
+
+    // 가상 스레드 모드에서 DB 연결 허가를 기다리는 스레드 수. 풀 자체의 대기는 hikaricp.connections.pending이다.
+    // 복제본 풀은 빈이 아니므로 라우터에서 가져온다
+    @Bean
+    MeterBinder boundedDataSourceMetrics(Map<String, DataSource> dataSources,
+                                         ObjectProvider<ReplicaRouter> replicaRouter) {
+        return meterRegistry -> {
+            dataSources.forEach((name, dataSource) -> bindPermits(meterRegistry, name, dataSource));
+            replicaRouter.ifAvailable(router -> router.replicaDataSources()
+                    .forEach((name, dataSource) -> bindPermits(meterRegistry, name, dataSource)));
+        };
+    }
+
+    private static void bindPermits(MeterRegistry meterRegistry, String name, DataSource dataSource) {
+        if (dataSource instanceof BoundedDataSource bounded) {
+            Gauge.builder("db.permits.available", bounded, BoundedDataSource::availablePermits)
+                    .description("남은 DB 연결 허가 수")
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder("db.permits.waiting", bounded, BoundedDataSource::waitingThreads)
+                    .description("DB 연결 허가를 기다리는 스레드 수")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static <T> void bindCache(MeterRegistry meterRegistry, String name, T cache,
+                                      ToDoubleFunction<T> size,
+                                      ToDoubleFunction<T> hits,
+                                      ToDoubleFunction<T> misses,
+                                      ToDoubleFunction<T> evictions) {
+        Gauge.builder("cache.size", cache, size).tag("cache", name).register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, hits).tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, misses).tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", cache, evictions).tag("cache", name).register(meterRegistry);
+    }
+}
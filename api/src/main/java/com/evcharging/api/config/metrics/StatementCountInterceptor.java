@@ -0,0 +1,47 @@
+package com.evcharging.api.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 하나가 실행한 Hibernate SQL 문 수를 URI 패턴별 분포로 기록한다.
+ * N+1 조회처럼 요청당 쿼리 수가 늘어나는 회귀를 잡기 위함이다.
+ */
+public class StatementCountInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public StatementCountInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        int count = StatementCounter.reset();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        summaries.computeIfAbsent(uri, this::summary).record(count);
+    }
+
+    private DistributionSummary summary(String uri) {
+        return DistributionSummary.builder("hibernate.statements.per.request")
+                .description("요청당 실행한 Hibernate SQL 문 수")
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                .register(registry);
+    }
+}
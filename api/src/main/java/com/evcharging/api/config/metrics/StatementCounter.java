@@ -0,0 +1,30 @@
+package com.evcharging.api.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 현재 스레드 기준으로 센다. SQL은 바꾸지 않는다.
+ *
+ * <p>hibernate.session_factory.statement_inspector로 등록되며, 요청 단위 집계는
+ * {@link StatementCountInterceptor}가 한다. JdbcTemplate으로 직접 실행한 SQL은 세지 않는다.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 지금까지 센 수를 돌려주고 0으로 되돌린다.
+     */
+    public static int reset() {
+        int[] count = COUNT.get();
+        int value = count[0];
+        count[0] = 0;
+        return value;
+    }
+}
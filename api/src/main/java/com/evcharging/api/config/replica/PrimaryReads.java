@@ -0,0 +1,35 @@
+package com.evcharging.api.config.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연을 허용할 수 없는 읽기를 클라이언트와 무관하게 주 DB로 보낸다.
+ *
+ * <p>커밋 직후 비운 캐시를 다시 채우는 읽기나 커밋 순서에 기대는 이벤트 커서처럼, 낡은 값을 한 번 읽으면
+ * 오래 남거나 영영 놓치는 읽기에 쓴다. 연결은 트랜잭션의 첫 SQL에서 정해지므로, 같은 트랜잭션이 이미
+ * 복제본 연결을 잡은 뒤에는 효과가 없다. 복제본이 설정되지 않았으면 아무 일도 하지 않는다.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+
+    private PrimaryReads() {}
+
+    public static <T> T call(Supplier<T> read) {
+        depth.set(depth.get() + 1);
+        try {
+            return read.get();
+        } finally {
+            int remaining = depth.get() - 1;
+            if (remaining == 0) {
+                depth.remove();
+            } else {
+                depth.set(remaining);
+            }
+        }
+    }
+
+    static boolean active() {
+        return depth.get() > 0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.evcharging.api.config.replica;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장. 클라이언트가 쓰기 요청을 보낸 뒤 window 동안은
+ * 그 클라이언트의 읽기도 주 DB로 보내, 복제 지연 때문에 방금 쓴 내용이 안 보이는 일을 막는다.
+ *
+ * <p>요청 스레드가 주 DB에 고정되었는지는 {@link ReadYourWritesFilter}가 요청마다 정한다.
+ */
+public class ReadYourWrites {
+
+    private final ThreadLocal<Boolean> pinned = new ThreadLocal<>();
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxClients;
+
+    public ReadYourWrites(long windowMs, int maxClients) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.maxClients = maxClients;
+    }
+
+    public boolean requiresPrimary() {
+        return Boolean.TRUE.equals(pinned.get());
+    }
+
+    public void pin() {
+        pinned.set(Boolean.TRUE);
+    }
+
+    public void unpin() {
+        pinned.remove();
+    }
+
+    public void recordWrite(String client, long nowNanos) {
+        lastWrites.put(client, nowNanos);
+        if (lastWrites.size() > maxClients) {
+            lastWrites.values().removeIf(writtenAt -> nowNanos - writtenAt >= windowNanos);
+        }
+    }
+
+    public boolean wroteRecently(String client, long nowNanos) {
+        Long writtenAt = lastWrites.get(client);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (nowNanos - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(client, writtenAt);
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.evcharging.api.config.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 쓰기 요청과, 최근에 쓰기를 한 클라이언트의 요청을 주 DB에 고정한다.
+ * 클라이언트 키는 {@code RateLimitFilter}와 같이 인증된 요청은 이메일, 미인증 요청은 IP 주소다.
+ *
+ * <p>인증 정보가 필요하므로 Spring Security 필터 체인 다음에 실행한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String client = clientOf(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write || readYourWrites.wroteRecently(client, System.nanoTime())) {
+            readYourWrites.pin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.unpin();
+            if (write && response.getStatus() < 400) {
+                readYourWrites.recordWrite(client, System.nanoTime());
+            }
+        }
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        return authenticated ? "user:" + authentication.getName() : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,176 @@
+package com.evcharging.api.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 연결을 복제본 풀에 라운드 로빈으로 나눠 준다.
+ *
+ * <p>복제본은 주기적으로 상태와 복제 지연을 확인하며, 응답이 없거나 지연이 max-lag-ms를 넘으면
+ * 다시 따라잡을 때까지 건너뛴다. 쓸 수 있는 복제본이 없거나 요청이 주 DB에 고정되어 있거나
+ * {@link PrimaryReads} 안의 읽기이면 주 DB 연결을 준다. 첫 확인 전까지는 모든 읽기가 주 DB로 간다.
+ */
+public class ReplicaRouter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    // 받은 WAL을 모두 재생했다면 마지막 재생 시각과 무관하게 지연이 없다
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END::bigint
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private final DataSource readDataSource = new AbstractDataSource() {
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLException("복제본 라우팅은 사용자별 연결을 지원하지 않습니다");
+        }
+    };
+
+    public ReplicaRouter(DataSource primary, List<? extends DataSource> replicas,
+                         ReadYourWrites readYourWrites, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.maxLagMs = maxLagMs;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이 쓸 DataSource.
+     */
+    public DataSource readDataSource() {
+        return readDataSource;
+    }
+
+    Connection readConnection() throws SQLException {
+        if (!readYourWrites.requiresPrimary() && !PrimaryReads.active()) {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (!replica.isAvailable(maxLagMs)) {
+                    continue;
+                }
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    replica.markDown(e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Scheduled(fixedDelayString = "${db.replicas.health-check-interval-ms:1000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                replica.markUp(rs.getLong(1), maxLagMs);
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이름별 복제본 DataSource. 가상 스레드 모드에서는 {@code BoundedDataSource}로 감싼 것이다.
+     */
+    public Map<String, DataSource> replicaDataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    public List<ReplicaStatus> status() {
+        return replicas.stream()
+                .map(replica -> new ReplicaStatus(replica.name, replica.healthy, replica.lagMs))
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            HikariDataSource hikari = hikari(replica.dataSource);
+            if (hikari != null) {
+                hikari.close();
+            }
+        }
+    }
+
+    // 복제본 풀은 세마포어로 감싸져 있을 수 있으므로 unwrap으로 Hikari 풀을 찾는다
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    public record ReplicaStatus(String name, boolean healthy, long lagMs) {
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private final String name;
+        private volatile boolean healthy;
+        private volatile long lagMs;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+            HikariDataSource hikari = hikari(dataSource);
+            this.name = hikari != null ? hikari.getPoolName() : dataSource.toString();
+        }
+
+        boolean isAvailable(long maxLagMs) {
+            return healthy && lagMs <= maxLagMs;
+        }
+
+        void markUp(long lagMs, long maxLagMs) {
+            boolean wasAvailable = isAvailable(maxLagMs);
+            this.lagMs = lagMs;
+            this.healthy = true;
+            if (wasAvailable && lagMs > maxLagMs) {
+                log.warn("복제본 {} 지연 {}ms가 한도 {}ms를 넘어 주 DB에서 읽습니다", name, lagMs, maxLagMs);
+            } else if (!wasAvailable && lagMs <= maxLagMs) {
+                log.info("복제본 {} 읽기 재개 (지연 {}ms)", name, lagMs);
+            }
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                log.warn("복제본 {} 연결 실패. 복구될 때까지 건너뜁니다: {}", name, reason);
+            }
+            healthy = false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.evcharging.api.config.replica;
+
+import com.evcharging.api.config.BoundedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * db.replicas.urls에 복제본이 있으면 읽기 전용 트랜잭션을 복제본으로, 나머지를 주 DB로 보낸다.
+ *
+ * <p>{@link LazyConnectionDataSourceProxy}는 첫 SQL을 실행할 때까지 실제 연결을 미루므로, 그 사이
+ * {@code @Transactional(readOnly = true)}가 연결에 건 읽기 전용 표시를 보고 복제본을 고를 수 있다.
+ * 주 DB 풀은 spring.datasource.hikari 설정을 그대로 쓰며, 가상 스레드 모드의 동시 접근 제한도 받는다.
+ * 복제본 풀은 빈이 아니어서 그 제한이 적용되지 않으므로 가상 스레드 모드에서는 여기서 직접 감싼다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${db.replicas.urls:}'.isBlank()")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                       @Value("${spring.datasource.username}") String username,
+                                       @Value("${spring.datasource.password}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    ReadYourWrites readYourWrites(@Value("${db.replicas.read-your-writes-ms:3000}") long windowMs,
+                                  @Value("${db.replicas.read-your-writes-max-clients:100000}") int maxClients,
+                                  @Value("${db.replicas.max-lag-ms:2000}") long maxLagMs,
+                                  @Value("${db.replicas.health-check-interval-ms:1000}") long healthCheckIntervalMs) {
+        // 지연은 확인할 때만 측정하므로 복제본은 최대 max-lag-ms + 확인 주기만큼 뒤처진 채 읽기를 받을 수 있다
+        if (windowMs < maxLagMs + healthCheckIntervalMs) {
+            throw new IllegalStateException("db.replicas.read-your-writes-ms(" + windowMs
+                    + ")는 max-lag-ms와 health-check-interval-ms의 합(" + (maxLagMs + healthCheckIntervalMs)
+                    + ") 이상이어야 자기 쓰기 읽기를 보장합니다");
+        }
+        return new ReadYourWrites(windowMs, maxClients);
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(ReadYourWrites readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites);
+    }
+
+    @Bean
+    ReplicaRouter replicaRouter(@Qualifier("primaryDataSource") DataSource primary,
+                                ReadYourWrites readYourWrites,
+                                ObjectProvider<MeterRegistry> meterRegistry,
+                                @Value("${db.replicas.urls}") List<String> urls,
+                                @Value("${db.replicas.username:${spring.datasource.username}}") String username,
+                                @Value("${db.replicas.password:${spring.datasource.password}}") String password,
+                                @Value("${db.replicas.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") int poolSize,
+                                @Value("${db.replicas.max-lag-ms:2000}") long maxLagMs,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                @Value("${db.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setJdbcUrl(url.strip());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            // 복제본이 내려가 있어도 애플리케이션은 주 DB만으로 기동한다
+            replica.setInitializationFailTimeout(-1);
+            // 빈이 아니라 자동 구성이 잡지 못하므로 hikaricp.connections.* 지표를 직접 연결한다
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.add(virtualThreads
+                    ? new BoundedDataSource(replica, poolSize, Duration.ofMillis(acquireTimeoutMs))
+                    : replica);
+        }
+        return new ReplicaRouter(primary, replicas, readYourWrites, maxLagMs);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReplicaRouter replicaRouter) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaRouter.readDataSource());
+        return dataSource;
+    }
+}
@@ -0,0 +1,6 @@
+package com.evcharging.api.config.security;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 클레임.
+ */
+public record AuthClaims(String email, String role, long expiresAtMillis, String tokenId) {}
@@ -15,9 +15,11 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenRevocationList revocationList) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -26,13 +28,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String email = jwtTokenProvider.getEmail(token);
-            String role = jwtTokenProvider.getRole(token);
-
-            var authentication = new UsernamePasswordAuthenticationToken(
-                    email, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            jwtTokenProvider.resolveClaims(token)
+                    .filter(claims -> !revocationList.isRevoked(claims.tokenId()))
+                    .ifPresent(claims -> {
+                        var authentication = new UsernamePasswordAuthenticationToken(
+                                claims.email(), null, List.of(new SimpleGrantedAuthority("ROLE_" + claims.role())));
+                        // 로그아웃 시 현재 액세스 토큰을 폐기할 수 있도록 클레임을 함께 보관한다
+                        authentication.setDetails(claims);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
 
         filterChain.doFilter(request, response);
@@ -2,26 +2,50 @@ package com.evcharging.api.config.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_CACHE_TTL_MS = 300_000;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final SecretKey key;
     private final long expirationMs;
+    // JwtParser는 불변이고 스레드 안전하므로 한 번만 만든다
+    private final JwtParser parser;
+    private final VerifiedClaimsCache claimsCache;
+
+    public JwtTokenProvider(String secret, long expirationMs) {
+        this(secret, expirationMs, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TTL_MS);
+    }
 
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-ms}") long expirationMs) {
+            @Value("${jwt.expiration-ms}") long expirationMs,
+            @Value("${jwt.claims-cache.max-entries:10000}") int cacheMaxEntries,
+            @Value("${jwt.claims-cache.ttl-ms:300000}") long cacheTtlMs) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.claimsCache = new VerifiedClaimsCache(cacheMaxEntries, cacheTtlMs);
     }
 
     public String generateToken(String email, String role) {
@@ -29,6 +53,7 @@ public class JwtTokenProvider {
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .claim("role", role)
                 .issuedAt(now)
@@ -37,15 +62,46 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명 없는 불투명 리프레시 토큰을 만든다. 서버에는 {@link #digest(String)} 값만 저장한다.
+     */
+    public String generateRefreshToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static String digest(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
+    /**
+     * 토큰을 한 번만 검증해 클레임을 반환한다. 같은 토큰의 반복 요청은 캐시에서 바로 응답한다.
+     */
+    public Optional<AuthClaims> resolveClaims(String token) {
+        if (!claimsCache.isEnabled()) {
+            return verify(token);
+        }
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        AuthClaims cached = claimsCache.get(digest, now);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<AuthClaims> verified = verify(token);
+        verified.ifPresent(claims -> claimsCache.put(digest, claims, now));
+        return verified;
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public String getEmail(String token) {
         return parseClaims(token).getSubject();
     }
@@ -54,8 +110,21 @@ public class JwtTokenProvider {
         return parseClaims(token).get("role", String.class);
     }
 
+    private Optional<AuthClaims> verify(String token) {
+        try {
+            Claims claims = parseClaims(token);
+            Date expiration = claims.getExpiration();
+            return Optional.of(new AuthClaims(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+                    claims.getId()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     private Claims parseClaims(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,109 @@
+package com.evcharging.api.config.security;
+
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 연산을 요청 스레드 밖의 전용 스레드 풀에서 실행한다.
+ *
+ * <p>동시 해시 수는 CPU 코어 수로 제한하고, 대기열이 가득 차면 기다리지 않고 429로 거절한다.
+ * 로그인이 몰려도 해시 연산이 코어를 모두 점유하지 않으므로 다른 API의 응답 시간이 유지된다.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${security.password-hashing.concurrency:0}") int concurrency,
+                          @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int threads = concurrency > 0
+                ? concurrency
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호를 확인하고, 저장된 해시의 작업 계수가 현재 설정보다 낮으면 같은 작업 안에서 새 해시를 만든다.
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return Verification.MISMATCH;
+            }
+            String rehashed = passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, rehashed);
+        });
+    }
+
+    int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @param rehashed 작업 계수 상향이 필요할 때 새로 만든 해시, 필요 없으면 null
+     */
+    public record Verification(boolean matches, String rehashed) {
+
+        static final Verification MISMATCH = new Verification(false, null);
+
+        public boolean needsRehash() {
+            return rehashed != null;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.evcharging.api.config.security;
+
+import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.common.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 클라이언트별 요청 속도 제한. 인증된 요청은 이메일, 미인증 요청은 IP 주소를 키로 토큰 버킷을 둔다.
+ *
+ * <p>인증 정보가 필요하므로 {@link JwtAuthenticationFilter} 다음에 실행한다. 응답에는 표준
+ * {@code RateLimit-*} 헤더를 붙이고, 한도를 넘으면 429와 {@link ApiResponse} 오류 본문을 반환한다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String ANONYMOUS = "ANONYMOUS";
+
+    private final List<RouteGroup> routeGroups = new ArrayList<>();
+    private final int maxBuckets;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        properties.groups().forEach((name, group) -> routeGroups.add(new RouteGroup(name,
+                group.paths().stream().map(parser::parse).toList(), group)));
+        this.maxBuckets = properties.maxBuckets();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = match(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        RateLimitProperties.Limit limit = group != null ? group.config().limitFor(roleOf(authentication, authenticated)) : null;
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String client = authenticated ? "user:" + authentication.getName() : "ip:" + request.getRemoteAddr();
+        long now = System.nanoTime();
+        TokenBucket bucket = bucketFor(group.name() + "|" + client, limit, now);
+        TokenBucket.Probe probe = bucket.tryConsume(now);
+
+        response.setHeader("RateLimit-Limit", String.valueOf(bucket.capacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(probe.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(probe.resetNanos())));
+        if (!probe.allowed()) {
+            response.setHeader("Retry-After", String.valueOf(toSeconds(probe.retryAfterNanos())));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getHttpStatus().value());
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error(ErrorCode.TOO_MANY_REQUESTS.name(), ErrorCode.TOO_MANY_REQUESTS.getMessage()));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private RouteGroup match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (RouteGroup group : routeGroups) {
+            for (PathPattern pattern : group.patterns()) {
+                if (pattern.matches(path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String roleOf(Authentication authentication, boolean authenticated) {
+        if (!authenticated) {
+            return ANONYMOUS;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_")) {
+                return name.substring("ROLE_".length());
+            }
+        }
+        return ANONYMOUS;
+    }
+
+    private TokenBucket bucketFor(String key, RateLimitProperties.Limit limit, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            sweep(now);
+        }
+        return buckets.computeIfAbsent(key,
+                k -> new TokenBucket(limit.capacity(), limit.refillPeriod().toNanos(), now));
+    }
+
+    /**
+     * 가득 찬 버킷부터 비운다. 그래도 한도를 넘으면 임의의 버킷을 1/8만큼 비워 메모리 상한을 지킨다.
+     */
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            if (buckets.size() < maxBuckets) {
+                return;
+            }
+            int toRemove = buckets.size() - maxBuckets + Math.max(1, maxBuckets / 8);
+            Iterator<Map.Entry<String, TokenBucket>> it = buckets.entrySet().iterator();
+            while (toRemove-- > 0 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record RouteGroup(String name, List<PathPattern> patterns, RateLimitProperties.Group config) {}
+}
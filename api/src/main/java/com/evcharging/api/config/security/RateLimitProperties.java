@@ -0,0 +1,48 @@
+package com.evcharging.api.config.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 그룹별, 역할별 요청 한도. 그룹은 선언 순서대로 매칭하며 처음 일치한 그룹 하나만 적용한다.
+ *
+ * <p>역할 키는 {@code ANONYMOUS}(미인증), {@code USER}, {@code ADMIN}이며, 없는 역할은 {@code DEFAULT}를 따른다.
+ * 어느 쪽에도 한도가 없으면 제한하지 않는다.
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        int maxBuckets,
+        Map<String, Group> groups
+) {
+
+    public RateLimitProperties {
+        if (maxBuckets <= 0) {
+            maxBuckets = 100_000;
+        }
+        groups = groups != null ? groups : new LinkedHashMap<>();
+    }
+
+    public record Group(List<String> paths, Map<String, Limit> limits) {
+
+        public Group {
+            paths = paths != null ? paths : List.of();
+            limits = limits != null ? limits : Map.of();
+        }
+
+        Limit limitFor(String role) {
+            Limit limit = limits.get(role);
+            return limit != null ? limit : limits.get("DEFAULT");
+        }
+    }
+
+    /**
+     * @param capacity 버스트로 허용하는 최대 요청 수
+     * @param refillPeriod 빈 버킷이 가득 차기까지 걸리는 시간
+     */
+    public record Limit(long capacity, Duration refillPeriod) {}
+}
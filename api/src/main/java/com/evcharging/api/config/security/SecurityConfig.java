@@ -3,6 +3,8 @@ package com.evcharging.api.config.security;
 import com.evcharging.api.common.ApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,25 +17,37 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+    private final RateLimitProperties rateLimitProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider,
+                          TokenRevocationList revocationList,
+                          RateLimitProperties rateLimitProperties) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
+        this.rateLimitProperties = rateLimitProperties;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        return http
+        http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                        // 관리 포트로만 노출되며 외부에 공개하지 않는다
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/stations").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/stations/**").hasRole("ADMIN")
+                        .requestMatchers("/api/v1/events/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/stations/*/free-slots").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/v1/sessions/export").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
@@ -52,13 +66,19 @@ public class SecurityConfig {
                                     ApiResponse.error("FORBIDDEN", "접근 권한이 없습니다"));
                         })
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
-                        UsernamePasswordAuthenticationFilter.class)
-                .build();
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, revocationList),
+                        UsernamePasswordAuthenticationFilter.class);
+
+        if (rateLimitProperties.enabled()) {
+            // 인증된 이메일을 키로 쓰기 위해 JWT 필터 다음에 둔다
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, objectMapper), JwtAuthenticationFilter.class);
+        }
+        return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.bcrypt-strength:10}") int strength) {
+        // 저장된 해시의 strength가 이보다 낮으면 로그인 시 새 strength로 다시 해시한다
+        return new BCryptPasswordEncoder(strength);
     }
 }
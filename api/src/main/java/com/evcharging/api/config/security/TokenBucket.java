@@ -0,0 +1,57 @@
+package com.evcharging.api.config.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷.
+ *
+ * <p>남은 토큰 수와 마지막 충전 시각을 따로 두지 않고, "버킷이 다시 가득 차는 시각" 하나만
+ * {@link AtomicLong}에 보관한다(GCRA). 토큰 하나를 쓰면 이 시각이 충전 간격만큼 뒤로 밀리고,
+ * 현재 시각보다 용량 이상 앞서게 되면 거절한다. 갱신은 CAS 한 번이므로 동시 요청에도 잠금이 필요 없다.
+ */
+class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long capacity, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, refillPeriodNanos / capacity);
+        this.burstNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    Probe tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                long reset = current - nowNanos;
+                return new Probe(false, 0, reset, debt - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, (burstNanos - debt) / nanosPerToken, debt, 0);
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷은 새로 만든 버킷과 구별되지 않으므로 제거해도 제한이 느슨해지지 않는다.
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() <= nowNanos;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    /**
+     * @param resetNanos 버킷이 다시 가득 찰 때까지 남은 시간
+     * @param retryAfterNanos 거절된 경우 다음 토큰이 생길 때까지 남은 시간
+     */
+    record Probe(boolean allowed, long remaining, long resetNanos, long retryAfterNanos) {}
+}
@@ -0,0 +1,102 @@
+package com.evcharging.api.config.security;
+
+import com.evcharging.api.common.BloomFilter;
+import com.evcharging.api.domain.member.RevokedToken;
+import com.evcharging.api.domain.member.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰 목록. 요청마다 DB를 조회하지 않도록 블룸 필터를 앞에 둔다.
+ *
+ * <p>필터가 "없음"이라고 답하면 바로 통과시키고, 양성일 때만 DB 목록을 확인한다. 다른 인스턴스에서
+ * 폐기한 토큰은 주기적인 재구성 때 반영되며, 재구성 시 만료된 항목도 함께 정리된다.
+ */
+@Component
+public class TokenRevocationList implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration recentWindow;
+    // 재구성 시점에 아직 커밋되지 않은 폐기가 새 필터에서 빠지지 않도록 최근 로컬 폐기분을 보관한다
+    private final Map<String, Instant> recentlyRevoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${jwt.revocation.refresh-ms:30000}") long refreshMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recentWindow = Duration.ofMillis(refreshMs * 2);
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(tokenId);
+    }
+
+    /**
+     * 호출자의 트랜잭션 안에서 폐기 목록에 추가한다. 이 인스턴스의 필터에는 즉시 반영된다.
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault())));
+        recentlyRevoked.put(tokenId, Instant.now());
+        filter.put(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-ms:30000}",
+            initialDelayString = "${jwt.revocation.refresh-ms:30000}")
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> active = transactionTemplate.execute(status -> {
+            int purged = revokedTokenRepository.deleteExpired(now);
+            if (purged > 0) {
+                log.info("만료된 폐기 토큰 {}건 정리", purged);
+            }
+            return revokedTokenRepository.findActiveTokenIds(now);
+        });
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, active.size() * 2L), falsePositiveRate);
+        active.forEach(rebuilt::put);
+        Instant cutoff = Instant.now().minus(recentWindow);
+        recentlyRevoked.values().removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+        filter = rebuilt;
+        // 교체 직전에 옛 필터에 추가된 폐기분도 놓치지 않도록 교체 후에 옮겨 담는다
+        recentlyRevoked.keySet().forEach(rebuilt::put);
+    }
+}
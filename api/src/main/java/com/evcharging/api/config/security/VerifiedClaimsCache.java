@@ -0,0 +1,70 @@
+package com.evcharging.api.config.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 토큰의 클레임을 토큰 다이제스트(SHA-256) 기준으로 보관하는 유한 크기 캐시.
+ *
+ * <p>항목은 토큰 만료 시각과 캐시 TTL 중 이른 시점에 만료된다. 가득 차면 만료된 항목을 먼저 지우고,
+ * 그래도 부족하면 일부 항목을 임의로 비운다. 원본 토큰은 키로 보관하지 않는다.
+ */
+class VerifiedClaimsCache {
+
+    private final int maxEntries;
+    private final long ttlMs;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    VerifiedClaimsCache(int maxEntries, long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    AuthClaims get(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String key, AuthClaims claims, long now) {
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        entries.put(key, new Entry(claims, Math.min(claims.expiresAtMillis(), now + ttlMs)));
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        // 만료 항목을 지워도 가득 차 있으면 1/8을 비워 다음 삽입들이 매번 전체를 훑지 않게 한다
+        int toRemove = entries.size() - maxEntries + Math.max(1, maxEntries / 8);
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record Entry(AuthClaims claims, long expiresAtMillis) {}
+}
@@ -4,7 +4,6 @@ import com.evcharging.api.common.BusinessException;
 import com.evcharging.api.common.ErrorCode;
 import com.evcharging.api.domain.session.ChargingSession;
 import com.evcharging.api.domain.station.ChargingStation;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -17,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,7 +24,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "charger")
+@Table(name = "charger", uniqueConstraints = {
+        // 공공 API 적재 시 (station_id, charger_code) 기준으로 upsert 한다
+        @UniqueConstraint(name = "uk_charger_station_code", columnNames = {"station_id", "charger_code"})
+})
 public class Charger {
 
     @Id
@@ -48,11 +51,18 @@ public class Charger {
 
     private LocalDateTime lastStatusChangedAt;
 
+    // 공공 API 원본 필드의 해시. 재적재 시 바뀐 행만 쓰는 데 사용한다
+    private Long contentHash;
+
+    // 공공 API에서 사라져 적재가 OUT_OF_SERVICE로 돌린 시각. 다시 나타나면 비우고 AVAILABLE로 되돌린다
+    private LocalDateTime retiredAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "station_id", nullable = false)
     private ChargingStation station;
 
-    @OneToMany(mappedBy = "charger", cascade = CascadeType.ALL)
+    // 세션 이력은 DB의 ON DELETE CASCADE로 정리한다. 충전기 삭제 시 이력을 메모리로 읽지 않기 위함
+    @OneToMany(mappedBy = "charger")
     private List<ChargingSession> sessions = new ArrayList<>();
 
     protected Charger() {}
@@ -85,6 +95,8 @@ public class Charger {
     public BigDecimal getPowerKw() { return powerKw; }
     public ConnectorType getConnectorType() { return connectorType; }
     public LocalDateTime getLastStatusChangedAt() { return lastStatusChangedAt; }
+    public Long getContentHash() { return contentHash; }
+    public LocalDateTime getRetiredAt() { return retiredAt; }
     public ChargingStation getStation() { return station; }
     public List<ChargingSession> getSessions() { return sessions; }
 }
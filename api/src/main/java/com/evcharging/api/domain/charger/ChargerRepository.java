@@ -1,10 +1,19 @@
 package com.evcharging.api.domain.charger;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ChargerRepository extends JpaRepository<Charger, Long> {
 
     List<Charger> findByStationId(Long stationId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Charger c WHERE c.id = :id")
+    Optional<Charger> findForUpdate(@Param("id") Long id);
 }
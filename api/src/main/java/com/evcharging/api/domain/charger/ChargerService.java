@@ -1,9 +1,12 @@
 package com.evcharging.api.domain.charger;
 
 import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ChargingMetrics;
 import com.evcharging.api.common.ErrorCode;
 import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationChanges;
 import com.evcharging.api.domain.station.StationService;
+import com.evcharging.api.domain.station.StationView;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,20 +18,29 @@ public class ChargerService {
 
     private final ChargerRepository chargerRepository;
     private final StationService stationService;
+    private final StationChanges stationChanges;
+    private final ChargingMetrics metrics;
 
-    public ChargerService(ChargerRepository chargerRepository, StationService stationService) {
+    public ChargerService(ChargerRepository chargerRepository, StationService stationService,
+                          StationChanges stationChanges, ChargingMetrics metrics) {
         this.chargerRepository = chargerRepository;
         this.stationService = stationService;
+        this.stationChanges = stationChanges;
+        this.metrics = metrics;
     }
 
-    public List<Charger> findByStation(Long stationId) {
-        return chargerRepository.findByStationId(stationId);
+    public List<ChargerView> findByStation(Long stationId) {
+        return stationService.findViewIfExists(stationId)
+                .map(StationView::chargers)
+                .orElse(List.of());
     }
 
+    // 충전소의 충전기 컬렉션을 읽지 않도록 참조에 연관만 건다. 캐시는 커밋 뒤에 비워져 다음 조회에서 반영된다
     @Transactional
     public Charger create(Long stationId, Charger charger) {
-        ChargingStation station = stationService.findById(stationId);
-        station.addCharger(charger);
+        ChargingStation station = stationService.getReference(stationId);
+        charger.assignStation(station);
+        stationChanges.changed(stationId);
         return chargerRepository.save(charger);
     }
 
@@ -36,7 +48,10 @@ public class ChargerService {
     public Charger changeStatus(Long chargerId, ChargerStatus newStatus) {
         Charger charger = chargerRepository.findById(chargerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHARGER_NOT_FOUND));
+        ChargerStatus previous = charger.getStatus();
         charger.changeStatus(newStatus);
+        stationChanges.changed(charger.getStation());
+        metrics.statusChanged(previous, newStatus);
         return charger;
     }
 }
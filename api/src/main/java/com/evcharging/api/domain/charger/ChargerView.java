@@ -0,0 +1,28 @@
+package com.evcharging.api.domain.charger;
+
+import java.math.BigDecimal;
+
+/**
+ * 캐시에 보관하는 충전기 읽기 모델. 엔티티와 달리 영속성 컨텍스트 밖에서 공유해도 안전하다.
+ */
+public record ChargerView(
+        Long id,
+        Long stationId,
+        String chargerCode,
+        ChargerType type,
+        ChargerStatus status,
+        BigDecimal powerKw,
+        ConnectorType connectorType
+) {
+    public static ChargerView from(Charger charger) {
+        return new ChargerView(
+                charger.getId(),
+                charger.getStation() != null ? charger.getStation().getId() : null,
+                charger.getChargerCode(),
+                charger.getType(),
+                charger.getStatus(),
+                charger.getPowerKw(),
+                charger.getConnectorType()
+        );
+    }
+}
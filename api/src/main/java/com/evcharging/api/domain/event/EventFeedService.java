@@ -0,0 +1,33 @@
+package com.evcharging.api.domain.event;
+
+import com.evcharging.api.config.replica.PrimaryReads;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class EventFeedService {
+
+    static final int MAX_BATCH_SIZE = 5000;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public EventFeedService(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    /**
+     * {@code afterId} 이벤트 다음 이벤트를 최대 {@code limit}건 반환한다.
+     *
+     * <p>IDENTITY 값은 커밋 순서와 다를 수 있으므로 id 대신 기록한 트랜잭션 id(txid) 순으로 읽고,
+     * 진행 중인 가장 오래된 트랜잭션(스냅샷 xmin)보다 앞선 트랜잭션의 이벤트만 노출한다.
+     * 이후에 커밋되는 이벤트의 txid는 모두 그 xmin 이상이므로 커서 뒤에만 나타나고, 커서가 늦게 커밋된
+     * 이벤트를 건너뛰지 않는다. 스냅샷은 주 DB 기준이어야 하므로 항상 주 DB에서 읽는다.
+     */
+    public List<OutboxEvent> findAfter(long afterId, int limit) {
+        int size = Math.clamp(limit, 1, MAX_BATCH_SIZE);
+        return PrimaryReads.call(() -> outboxEventRepository.findCommittedAfter(afterId, size));
+    }
+}
@@ -0,0 +1,38 @@
+package com.evcharging.api.domain.event;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크별로 마지막으로 전달한 이벤트 id를 기록한다.
+ */
+@Entity
+@Table(name = "outbox_cursor")
+public class OutboxCursor {
+
+    @Id
+    private String sinkName;
+
+    private long lastEventId;
+
+    private LocalDateTime updatedAt;
+
+    protected OutboxCursor() {}
+
+    public OutboxCursor(String sinkName) {
+        this.sinkName = sinkName;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(long eventId) {
+        this.lastEventId = eventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getSinkName() { return sinkName; }
+    public long getLastEventId() { return lastEventId; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
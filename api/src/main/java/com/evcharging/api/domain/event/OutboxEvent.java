@@ -0,0 +1,81 @@
+package com.evcharging.api.domain.event;
+
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.session.ChargingSession;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 충전 세션 생명주기 이벤트. 세션 변경과 같은 트랜잭션에서 기록되며,
+ * 피드는 기록한 트랜잭션 id(txid)와 id 순으로 읽는다. txid 컬럼은 {@link OutboxTxidInitializer}가 추가한다.
+ */
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType type;
+
+    @Column(nullable = false)
+    private Long sessionId;
+
+    @Column(nullable = false)
+    private Long chargerId;
+
+    private Long stationId;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private BigDecimal energyDeliveredKwh;
+    private BigDecimal cost;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    protected OutboxEvent() {}
+
+    private OutboxEvent(OutboxEventType type, ChargingSession session, LocalDateTime occurredAt) {
+        Charger charger = session.getCharger();
+        this.type = type;
+        this.sessionId = session.getId();
+        this.chargerId = charger.getId();
+        this.stationId = charger.getStation() != null ? charger.getStation().getId() : null;
+        this.occurredAt = occurredAt;
+        this.energyDeliveredKwh = session.getEnergyDeliveredKwh();
+        this.cost = session.getCost();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent sessionStarted(ChargingSession session) {
+        return new OutboxEvent(OutboxEventType.SESSION_STARTED, session, session.getStartTime());
+    }
+
+    public static OutboxEvent sessionCompleted(ChargingSession session) {
+        return new OutboxEvent(OutboxEventType.SESSION_COMPLETED, session, session.getEndTime());
+    }
+
+    public Long getId() { return id; }
+    public OutboxEventType getType() { return type; }
+    public Long getSessionId() { return sessionId; }
+    public Long getChargerId() { return chargerId; }
+    public Long getStationId() { return stationId; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public BigDecimal getEnergyDeliveredKwh() { return energyDeliveredKwh; }
+    public BigDecimal getCost() { return cost; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
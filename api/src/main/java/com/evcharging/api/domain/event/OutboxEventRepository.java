@@ -0,0 +1,42 @@
+package com.evcharging.api.domain.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 커서 이벤트 다음을 (txid, id) 순으로 읽되, 진행 중인 가장 오래된 트랜잭션보다 앞선 트랜잭션의
+     * 이벤트만 돌려준다. 커서 이벤트가 이미 삭제되었으면 id로만 잇는다.
+     */
+    @Query(value = """
+            SELECT e.* FROM outbox_event e
+            LEFT JOIN outbox_event c ON c.id = :afterId
+            WHERE e.txid < pg_snapshot_xmin(pg_current_snapshot())
+              AND CASE WHEN c.id IS NULL THEN e.id > :afterId ELSE (e.txid, e.id) > (c.txid, c.id) END
+            ORDER BY e.txid, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OutboxEvent> findCommittedAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // 모든 싱크 커서보다 앞선 이벤트만 지운다. 커서 이벤트 자체는 다음 조회의 기준이므로 남긴다
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox_event e
+            WHERE e.created_at < :createdBefore
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_cursor k
+                  LEFT JOIN outbox_event c ON c.id = k.last_event_id
+                  WHERE c.id IS NULL OR (e.txid, e.id) >= (c.txid, c.id))
+            """, nativeQuery = true)
+    int deleteDelivered(@Param("createdBefore") LocalDateTime createdBefore);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.createdAt < :createdBefore")
+    int deleteExpired(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -0,0 +1,6 @@
+package com.evcharging.api.domain.event;
+
+public enum OutboxEventType {
+    SESSION_STARTED,
+    SESSION_COMPLETED
+}
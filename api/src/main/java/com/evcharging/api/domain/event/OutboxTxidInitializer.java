@@ -0,0 +1,39 @@
+package com.evcharging.api.domain.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox_event에 기록한 트랜잭션 id(txid, xid8) 컬럼을 추가한다. 값은 INSERT 시 기본값으로 채워지며,
+ * 이벤트 피드는 이 값으로 아직 커밋되지 않았을 수 있는 이벤트를 가린다.
+ * Hibernate는 xid8 타입을 다루지 못하므로 엔티티에 매핑하지 않고 기동 시 없으면 추가한다.
+ */
+@Component
+public class OutboxTxidInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxTxidInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxTxidInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Boolean exists = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM information_schema.columns
+                               WHERE table_name = 'outbox_event' AND column_name = 'txid')
+                """, Boolean.class);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE outbox_event ADD COLUMN txid xid8 NOT NULL DEFAULT pg_current_xact_id()");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_outbox_event_txid ON outbox_event (txid, id)");
+        log.info("outbox_event txid 컬럼 추가 완료");
+    }
+}
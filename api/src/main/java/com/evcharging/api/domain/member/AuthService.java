@@ -2,13 +2,18 @@ package com.evcharging.api.domain.member;
 
 import com.evcharging.api.api.auth.LoginRequest;
 import com.evcharging.api.api.auth.LoginResponse;
+import com.evcharging.api.api.auth.RefreshTokenRequest;
 import com.evcharging.api.api.auth.SignupRequest;
 import com.evcharging.api.api.auth.SignupResponse;
 import com.evcharging.api.common.BusinessException;
 import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.config.security.AuthClaims;
 import com.evcharging.api.config.security.JwtTokenProvider;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.evcharging.api.config.security.PasswordHasher;
+import com.evcharging.api.config.security.TokenRevocationList;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -16,18 +21,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList revocationList;
 
     public AuthService(MemberRepository memberRepository,
-                       PasswordEncoder passwordEncoder,
-                       JwtTokenProvider jwtTokenProvider) {
+                       PasswordHasher passwordHasher,
+                       JwtTokenProvider jwtTokenProvider,
+                       RefreshTokenService refreshTokenService,
+                       TokenRevocationList revocationList) {
         this.memberRepository = memberRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.revocationList = revocationList;
     }
 
-    @Transactional
+    // 해시 연산을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행한다.
+    // 저장소 호출은 각자 짧은 트랜잭션으로 처리된다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest request) {
         if (memberRepository.existsByEmail(request.email())) {
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
@@ -35,23 +48,58 @@ public class AuthService {
 
         Member member = new Member(
                 request.email(),
-                passwordEncoder.encode(request.password()),
+                passwordHasher.encode(request.password()),
                 request.name(),
                 Role.USER);
 
-        memberRepository.save(member);
+        try {
+            memberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            // 해시하는 사이 같은 이메일로 먼저 가입했다
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
         return SignupResponse.from(member);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
         Member member = memberRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
 
-        if (!passwordEncoder.matches(request.password(), member.getPassword())) {
+        PasswordHasher.Verification verification = passwordHasher.verify(request.password(), member.getPassword());
+        if (!verification.matches()) {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
+        if (verification.needsRehash()) {
+            memberRepository.updatePassword(member.getId(), verification.rehashed());
+        }
+
+        String token = jwtTokenProvider.generateToken(member.getEmail(), member.getRole().name());
+        return LoginResponse.of(token, refreshTokenService.issue(member.getEmail()));
+    }
+
+    /**
+     * 리프레시 토큰을 교체하고 새 액세스 토큰을 발급한다. 비밀번호 해시 없이 세션을 연장한다.
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+        // 역할이 바뀌었을 수 있으므로 회원 정보를 다시 읽는다
+        Member member = memberRepository.findByEmail(rotation.memberEmail())
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
 
         String token = jwtTokenProvider.generateToken(member.getEmail(), member.getRole().name());
-        return LoginResponse.of(token);
+        return LoginResponse.of(token, rotation.refreshToken());
+    }
+
+    /**
+     * 리프레시 토큰 family와, 인증된 요청이면 현재 액세스 토큰까지 폐기한다.
+     */
+    @Transactional
+    public void logout(RefreshTokenRequest request, AuthClaims accessClaims) {
+        refreshTokenService.revoke(request.refreshToken());
+        if (accessClaims != null) {
+            revocationList.revoke(accessClaims.tokenId(), accessClaims.expiresAtMillis());
+        }
     }
 }
@@ -1,10 +1,19 @@
 package com.evcharging.api.domain.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :encodedPassword WHERE m.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("encodedPassword") String encodedPassword);
 }
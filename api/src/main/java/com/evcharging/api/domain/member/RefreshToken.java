@@ -0,0 +1,75 @@
+package com.evcharging.api.domain.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 리프레시 토큰. 원본 토큰은 저장하지 않고 SHA-256 다이제스트만 보관한다.
+ *
+ * <p>한 번 로그인으로 시작된 토큰들은 같은 family로 묶인다. 이미 교체된 토큰이 다시 사용되면
+ * 탈취된 것으로 보고 family 전체를 폐기한다.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = @Index(name = "idx_refresh_token_family", columnList = "familyId"))
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private String memberEmail;
+
+    @Column(nullable = false)
+    private String familyId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime rotatedAt;
+
+    private boolean revoked;
+
+    protected RefreshToken() {}
+
+    public RefreshToken(String tokenHash, String memberEmail, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.memberEmail = memberEmail;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public void rotate(LocalDateTime now) {
+        this.rotatedAt = now;
+    }
+
+    public Long getId() { return id; }
+    public String getTokenHash() { return tokenHash; }
+    public String getMemberEmail() { return memberEmail; }
+    public String getFamilyId() { return familyId; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getRotatedAt() { return rotatedAt; }
+    public boolean isRevoked() { return revoked; }
+}
@@ -0,0 +1,96 @@
+package com.evcharging.api.domain.member;
+
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.config.security.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급과 교체(rotation)를 담당한다.
+ *
+ * <p>토큰은 한 번만 사용할 수 있다. 교체된 토큰이 다시 제시되면 재사용 공격으로 보고
+ * 같은 family의 토큰을 모두 폐기해 공격자와 정상 사용자 모두 다시 로그인하게 한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Duration refreshExpiration;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtTokenProvider jwtTokenProvider,
+                               @Value("${jwt.refresh-expiration-ms:1209600000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshExpiration = Duration.ofMillis(refreshExpirationMs);
+    }
+
+    @Transactional
+    public String issue(String memberEmail) {
+        return issue(memberEmail, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 사용 처리하고 같은 family의 새 토큰을 발급한다.
+     *
+     * @return 토큰 소유자 이메일과 새 리프레시 토큰
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(JwtTokenProvider.digest(rawToken))
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.isRevoked() || current.isExpired(now)) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        if (current.isRotated()) {
+            // 폐기 갱신은 커밋되어야 하므로 noRollbackFor로 예외와 함께 반영한다
+            refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("이미 교체된 리프레시 토큰 재사용 감지. family {} 폐기 ({})",
+                    current.getFamilyId(), current.getMemberEmail());
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        current.rotate(now);
+        return new Rotation(current.getMemberEmail(), issue(current.getMemberEmail(), current.getFamilyId()));
+    }
+
+    /**
+     * 토큰이 속한 family 전체를 폐기한다. 알 수 없는 토큰은 무시한다.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(JwtTokenProvider.digest(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 15 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 {}건 삭제", deleted);
+    }
+
+    private String issue(String memberEmail, String familyId) {
+        String rawToken = jwtTokenProvider.generateRefreshToken();
+        refreshTokenRepository.save(new RefreshToken(JwtTokenProvider.digest(rawToken), memberEmail, familyId,
+                LocalDateTime.now().plus(refreshExpiration)));
+        return rawToken;
+    }
+
+    public record Rotation(String memberEmail, String refreshToken) {}
+}
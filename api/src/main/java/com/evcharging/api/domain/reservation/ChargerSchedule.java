@@ -0,0 +1,54 @@
+package com.evcharging.api.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 충전기 한 대의 활성 예약 구간을 시작 시각 순으로 보관한다.
+ *
+ * <p>한 충전기의 활성 예약은 DB 배제 제약으로 서로 겹치지 않는다. 겹치지 않는 구간 집합에서는
+ * 끝 시각 최댓값을 노드에 덧붙이는 인터벌 트리 없이, 시작 시각을 키로 한 균형 트리(TreeMap)로
+ * 같은 질의를 할 수 있다. [start, end)와 겹칠 수 있는 후보는 end보다 앞서 시작하는 마지막 예약
+ * 하나뿐이라 겹침 검사는 O(log n) 탐색 한 번이다.
+ */
+public class ChargerSchedule {
+
+    private final TreeMap<LocalDateTime, ReservedSlot> slots = new TreeMap<>();
+
+    public synchronized boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, ReservedSlot> candidate = slots.lowerEntry(end);
+        return candidate != null && candidate.getValue().end().isAfter(start);
+    }
+
+    public synchronized void add(ReservedSlot slot) {
+        slots.put(slot.start(), slot);
+    }
+
+    /**
+     * [from, to) 구간에서 예약되지 않은 구간을 반환한다. 구간과 겹치는 예약만 순회한다.
+     */
+    public synchronized List<TimeSlot> freeSlots(LocalDateTime from, LocalDateTime to) {
+        List<TimeSlot> free = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        Map.Entry<LocalDateTime, ReservedSlot> covering = slots.lowerEntry(from);
+        if (covering != null && covering.getValue().end().isAfter(cursor)) {
+            cursor = covering.getValue().end();
+        }
+        for (ReservedSlot slot : slots.subMap(from, true, to, false).values()) {
+            if (slot.start().isAfter(cursor)) {
+                free.add(new TimeSlot(cursor, slot.start()));
+            }
+            if (slot.end().isAfter(cursor)) {
+                cursor = slot.end();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            free.add(new TimeSlot(cursor, to));
+        }
+        return free;
+    }
+}
@@ -0,0 +1,88 @@
+package com.evcharging.api.domain.reservation;
+
+import com.evcharging.api.domain.charger.Charger;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_charger_end", columnList = "charger_id, endTime")
+})
+public class Reservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "charger_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Charger charger;
+
+    @Column(nullable = false)
+    private String memberEmail;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status;
+
+    private LocalDateTime createdAt;
+
+    protected Reservation() {}
+
+    public Reservation(Charger charger, String memberEmail, LocalDateTime startTime, LocalDateTime endTime) {
+        this.charger = charger;
+        this.memberEmail = memberEmail;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = ReservationStatus.ACTIVE;
+    }
+
+    @PrePersist
+    void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        if (this.status != ReservationStatus.ACTIVE) {
+            throw new IllegalStateException("활성 예약만 취소할 수 있습니다");
+        }
+        this.status = ReservationStatus.CANCELLED;
+    }
+
+    public void fulfill() {
+        if (this.status != ReservationStatus.ACTIVE) {
+            throw new IllegalStateException("활성 예약만 사용 처리할 수 있습니다");
+        }
+        this.status = ReservationStatus.FULFILLED;
+    }
+
+    public Long getId() { return id; }
+    public Charger getCharger() { return charger; }
+    public String getMemberEmail() { return memberEmail; }
+    public LocalDateTime getStartTime() { return startTime; }
+    public LocalDateTime getEndTime() { return endTime; }
+    public ReservationStatus getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,56 @@
+package com.evcharging.api.domain.reservation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전기별 {@link ChargerSchedule}을 메모리에 보관하는 캐시. 예약 충돌 사전 검사와 빈 시간 조회에 쓴다.
+ *
+ * <p>다른 인스턴스에서 생기거나 취소된 예약은 보이지 않으므로 ttl-ms가 지나면 DB에서 다시 읽는다.
+ * 최종 판정은 DB 배제 제약과 DB 조회로 하며, 충전 시작 판정에는 쓰지 않는다.
+ */
+@Component
+public class ReservationBook {
+
+    private final ReservationRepository reservationRepository;
+    private final long ttlNanos;
+    private final ConcurrentMap<Long, Entry> schedules = new ConcurrentHashMap<>();
+
+    public ReservationBook(ReservationRepository reservationRepository,
+                           @Value("${reservation.book.ttl-ms:5000}") long ttlMs) {
+        this.reservationRepository = reservationRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    public ChargerSchedule scheduleOf(Long chargerId) {
+        return scheduleOf(chargerId, System.nanoTime());
+    }
+
+    ChargerSchedule scheduleOf(Long chargerId, long nowNanos) {
+        Entry entry = schedules.get(chargerId);
+        if (entry == null || nowNanos - entry.loadedAt() >= ttlNanos) {
+            entry = new Entry(load(chargerId), nowNanos);
+            schedules.put(chargerId, entry);
+        }
+        return entry.schedule();
+    }
+
+    public void invalidate(Long chargerId) {
+        schedules.remove(chargerId);
+    }
+
+    private ChargerSchedule load(Long chargerId) {
+        LocalDateTime now = LocalDateTime.now();
+        ChargerSchedule schedule = new ChargerSchedule();
+        reservationRepository.findByChargerIdAndStatusAndEndTimeAfter(chargerId, ReservationStatus.ACTIVE, now)
+                .forEach(r -> schedule.add(ReservedSlot.from(r)));
+        return schedule;
+    }
+
+    private record Entry(ChargerSchedule schedule, long loadedAt) {}
+}
@@ -0,0 +1,40 @@
+package com.evcharging.api.domain.reservation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 충전기의 활성 예약 시간이 겹치지 않도록 reservation 테이블에 배제 제약을 건다.
+ * Hibernate는 배제 제약을 생성하지 못하므로 기동 시 없으면 추가한다.
+ */
+@Component
+public class ReservationConstraintInitializer implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationConstraintInitializer.class);
+    private static final String CONSTRAINT_NAME = "excl_reservation_charger_period";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationConstraintInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = ?)", Boolean.class, CONSTRAINT_NAME);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        // charger_id 동등 비교를 GiST 인덱스에 넣으려면 btree_gist 확장이 필요하다
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+        jdbcTemplate.execute("ALTER TABLE reservation ADD CONSTRAINT " + CONSTRAINT_NAME
+                + " EXCLUDE USING gist (charger_id WITH =, tsrange(start_time, end_time) WITH &&)"
+                + " WHERE (status = 'ACTIVE')");
+        log.info("reservation 배제 제약 {} 추가 완료", CONSTRAINT_NAME);
+    }
+}
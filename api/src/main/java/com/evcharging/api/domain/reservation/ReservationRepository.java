@@ -0,0 +1,20 @@
+package com.evcharging.api.domain.reservation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    List<Reservation> findByChargerIdAndStatusAndEndTimeAfter(
+            Long chargerId, ReservationStatus status, LocalDateTime endAfter);
+
+    // [start, end)와 겹치는 예약: 시작이 end보다 앞서고 끝이 start보다 뒤
+    boolean existsByChargerIdAndStatusAndStartTimeBeforeAndEndTimeAfter(
+            Long chargerId, ReservationStatus status, LocalDateTime startBefore, LocalDateTime endAfter);
+
+    Optional<Reservation> findFirstByChargerIdAndStatusAndStartTimeLessThanEqualAndEndTimeAfter(
+            Long chargerId, ReservationStatus status, LocalDateTime startAtOrBefore, LocalDateTime endAfter);
+}
@@ -0,0 +1,133 @@
+package com.evcharging.api.domain.reservation;
+
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerRepository;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationService {
+
+    private final ReservationRepository reservationRepository;
+    private final ChargerRepository chargerRepository;
+    private final ReservationBook reservationBook;
+    private final Duration maxDuration;
+
+    public ReservationService(ReservationRepository reservationRepository,
+                              ChargerRepository chargerRepository,
+                              ReservationBook reservationBook,
+                              @Value("${reservation.max-duration-minutes:240}") long maxDurationMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.chargerRepository = chargerRepository;
+        this.reservationBook = reservationBook;
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+    }
+
+    /**
+     * 메모리 스케줄로 겹침을 먼저 거르고, 통과하면 DB 배제 제약에 맡겨 저장한다. 겹침 조회 SQL은
+     * 스케줄이 충돌이라고 할 때만 실행해 낡은 캐시 때문에 잘못 거절하지 않는지 확인한다.
+     * 다른 인스턴스가 만든 예약을 스케줄이 아직 모르면 배제 제약이 저장을 막는다.
+     */
+    @Transactional
+    public Reservation reserve(Long chargerId, String memberEmail, LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end) || end.isBefore(LocalDateTime.now())
+                || Duration.between(start, end).compareTo(maxDuration) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_RESERVATION_PERIOD);
+        }
+        if (reservationBook.scheduleOf(chargerId).overlaps(start, end)
+                && reservationRepository.existsByChargerIdAndStatusAndStartTimeBeforeAndEndTimeAfter(
+                        chargerId, ReservationStatus.ACTIVE, end, start)) {
+            throw new BusinessException(ErrorCode.RESERVATION_CONFLICT);
+        }
+
+        Charger charger = chargerRepository.findForUpdate(chargerId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CHARGER_NOT_FOUND));
+        if (charger.getStatus() == ChargerStatus.OUT_OF_SERVICE) {
+            throw new BusinessException(ErrorCode.CHARGER_NOT_AVAILABLE);
+        }
+
+        Reservation reservation;
+        try {
+            reservation = reservationRepository.saveAndFlush(new Reservation(charger, memberEmail, start, end));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.RESERVATION_CONFLICT);
+        }
+        invalidateAfterCommit(chargerId);
+        return reservation;
+    }
+
+    @Transactional
+    public Reservation cancel(Long reservationId, String memberEmail, boolean admin) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+        if (!admin && !reservation.getMemberEmail().equals(memberEmail)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        if (reservation.getStatus() != ReservationStatus.ACTIVE) {
+            throw new BusinessException(ErrorCode.RESERVATION_NOT_ACTIVE);
+        }
+
+        reservation.cancel();
+        invalidateAfterCommit(reservation.getCharger().getId());
+        return reservation;
+    }
+
+    /**
+     * 충전 시작 시 예약을 DB에서 확인한다. 지금 시각을 다른 회원이 예약했다면 거부하고,
+     * 본인 예약이면 사용 처리한다. 호출자가 같은 트랜잭션에서 충전기 행을 잠근 뒤 불러야
+     * 같은 시각의 예약 생성이나 다른 충전 시작과 겹치지 않는다.
+     */
+    @Transactional
+    public void claim(Long chargerId, String memberEmail, LocalDateTime now) {
+        Optional<Reservation> reserved = reservationRepository
+                .findFirstByChargerIdAndStatusAndStartTimeLessThanEqualAndEndTimeAfter(
+                        chargerId, ReservationStatus.ACTIVE, now, now);
+        if (reserved.isEmpty()) {
+            return;
+        }
+        Reservation reservation = reserved.get();
+        if (!reservation.getMemberEmail().equals(memberEmail)) {
+            throw new BusinessException(ErrorCode.CHARGER_RESERVED);
+        }
+
+        reservation.fulfill();
+        invalidateAfterCommit(chargerId);
+    }
+
+    /**
+     * 빈 시간은 메모리 스케줄로 계산하므로 다른 인스턴스의 변경은 최대 reservation.book.ttl-ms 늦게 반영된다.
+     */
+    public List<TimeSlot> freeSlots(Long chargerId, LocalDateTime from, LocalDateTime to) {
+        return reservationBook.scheduleOf(chargerId).freeSlots(from, to);
+    }
+
+    private void invalidateAfterCommit(Long chargerId) {
+        afterCommit(() -> reservationBook.invalidate(chargerId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
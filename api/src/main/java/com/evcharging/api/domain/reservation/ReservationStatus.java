@@ -0,0 +1,7 @@
+package com.evcharging.api.domain.reservation;
+
+public enum ReservationStatus {
+    ACTIVE,
+    FULFILLED,
+    CANCELLED
+}
@@ -0,0 +1,10 @@
+package com.evcharging.api.domain.reservation;
+
+import java.time.LocalDateTime;
+
+public record ReservedSlot(Long reservationId, String memberEmail, LocalDateTime start, LocalDateTime end) {
+    public static ReservedSlot from(Reservation reservation) {
+        return new ReservedSlot(reservation.getId(), reservation.getMemberEmail(),
+                reservation.getStartTime(), reservation.getEndTime());
+    }
+}
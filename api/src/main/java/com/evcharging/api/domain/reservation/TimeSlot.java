@@ -0,0 +1,5 @@
+package com.evcharging.api.domain.reservation;
+
+import java.time.LocalDateTime;
+
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {}
@@ -0,0 +1,20 @@
+package com.evcharging.api.domain.session;
+
+import com.evcharging.api.domain.charger.Charger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ArchivedSession(
+        Long id,
+        Long chargerId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        BigDecimal energyDeliveredKwh,
+        BigDecimal cost,
+        SessionStatus status
+) {
+    public ChargingSession toSession(Charger charger) {
+        return ChargingSession.restore(id, charger, startTime, endTime, energyDeliveredKwh, cost, status);
+    }
+}
@@ -12,6 +12,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -26,6 +28,7 @@ public class ChargingSession {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "charger_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Charger charger;
 
     @Column(nullable = false)
@@ -50,6 +53,19 @@ public class ChargingSession {
         return session;
     }
 
+    public static ChargingSession restore(Long id, Charger charger, LocalDateTime startTime, LocalDateTime endTime,
+                                          BigDecimal energyDeliveredKwh, BigDecimal cost, SessionStatus status) {
+        ChargingSession session = new ChargingSession();
+        session.id = id;
+        session.charger = charger;
+        session.startTime = startTime;
+        session.endTime = endTime;
+        session.energyDeliveredKwh = energyDeliveredKwh;
+        session.cost = cost;
+        session.status = status;
+        return session;
+    }
+
     public void complete(BigDecimal energyDeliveredKwh, BigDecimal cost) {
         if (this.status != SessionStatus.IN_PROGRESS) {
             throw new IllegalStateException("진행 중인 세션만 완료할 수 있습니다");
@@ -0,0 +1,63 @@
+package com.evcharging.api.domain.session;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지나 파일로 내보낸 뒤 분리(detach)된 charging_session 파티션의 카탈로그.
+ */
+@Entity
+@Table(name = "session_archive")
+public class SessionArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String partitionName;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeStart;
+
+    @Column(nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    private long rowCount;
+
+    private LocalDateTime archivedAt;
+
+    protected SessionArchive() {}
+
+    public SessionArchive(String partitionName, LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                          String fileName, long rowCount) {
+        this.partitionName = partitionName;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.fileName = fileName;
+        this.rowCount = rowCount;
+    }
+
+    @PrePersist
+    void prePersist() {
+        this.archivedAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public String getPartitionName() { return partitionName; }
+    public LocalDateTime getRangeStart() { return rangeStart; }
+    public LocalDateTime getRangeEnd() { return rangeEnd; }
+    public String getFileName() { return fileName; }
+    public long getRowCount() { return rowCount; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,6 @@
+package com.evcharging.api.domain.session;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SessionArchiveRepository extends JpaRepository<SessionArchive, Long> {
+}
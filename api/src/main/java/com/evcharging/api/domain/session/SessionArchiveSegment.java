@@ -0,0 +1,55 @@
+package com.evcharging.api.domain.session;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * 아카이브 파일 안에서 한 충전기의 세션이 담긴 gzip 멤버 위치.
+ * 충전기별 조회는 파일 전체 대신 이 구간만 풀어 읽는다.
+ */
+@Entity
+@Table(name = "session_archive_segment", indexes =
+        @Index(name = "idx_archive_segment_charger", columnList = "charger_id, archive_id"))
+public class SessionArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "archive_id", nullable = false)
+    private SessionArchive archive;
+
+    @Column(name = "charger_id", nullable = false)
+    private Long chargerId;
+
+    private long byteOffset;
+    private long byteLength;
+    private long rowCount;
+
+    protected SessionArchiveSegment() {}
+
+    public SessionArchiveSegment(SessionArchive archive, Long chargerId, long byteOffset, long byteLength,
+                                 long rowCount) {
+        this.archive = archive;
+        this.chargerId = chargerId;
+        this.byteOffset = byteOffset;
+        this.byteLength = byteLength;
+        this.rowCount = rowCount;
+    }
+
+    public Long getId() { return id; }
+    public SessionArchive getArchive() { return archive; }
+    public Long getChargerId() { return chargerId; }
+    public long getByteOffset() { return byteOffset; }
+    public long getByteLength() { return byteLength; }
+    public long getRowCount() { return rowCount; }
+}
@@ -0,0 +1,20 @@
+package com.evcharging.api.domain.session;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SessionArchiveSegmentRepository extends JpaRepository<SessionArchiveSegment, Long> {
+
+    @Query("""
+            SELECT s FROM SessionArchiveSegment s JOIN FETCH s.archive a
+            WHERE s.chargerId = :chargerId AND a.rangeStart <= :end AND a.rangeEnd > :start
+            ORDER BY a.rangeStart, s.byteOffset
+            """)
+    List<SessionArchiveSegment> findByChargerOverlapping(@Param("chargerId") Long chargerId,
+                                                         @Param("start") LocalDateTime start,
+                                                         @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,11 @@
+package com.evcharging.api.domain.session;
+
+import java.time.LocalDateTime;
+
+public record SessionExportFilter(
+        Long stationId,
+        Long chargerId,
+        String operatorName,
+        LocalDateTime from,
+        LocalDateTime to
+) {}
@@ -0,0 +1,157 @@
+package com.evcharging.api.domain.session;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public enum SessionExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public RowWriter open(OutputStream out) throws IOException {
+            return new CsvRowWriter(out);
+        }
+    },
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public RowWriter open(OutputStream out) throws IOException {
+            return new NdjsonRowWriter(out);
+        }
+    };
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String contentType;
+    private final String extension;
+
+    SessionExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public abstract RowWriter open(OutputStream out) throws IOException;
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public interface RowWriter extends Closeable {
+        void write(SessionExportRow row) throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private static final String HEADER = "id,charger_id,charger_code,station_id,station_code,operator_name,"
+                + "start_time,end_time,energy_delivered_kwh,cost,status";
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(SessionExportRow row) throws IOException {
+            writer.write(Long.toString(row.id()));
+            writer.write(',');
+            writer.write(Long.toString(row.chargerId()));
+            writer.write(',');
+            writeText(row.chargerCode());
+            writer.write(',');
+            writer.write(Long.toString(row.stationId()));
+            writer.write(',');
+            writeText(row.stationCode());
+            writer.write(',');
+            writeText(row.operatorName());
+            writer.write(',');
+            writeText(row.startTime());
+            writer.write(',');
+            writeText(row.endTime());
+            writer.write(',');
+            writeText(row.energyDeliveredKwh());
+            writer.write(',');
+            writeText(row.cost());
+            writer.write(',');
+            writeText(row.status());
+            writer.write('\n');
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void write(SessionExportRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.id());
+            generator.writeNumberField("chargerId", row.chargerId());
+            generator.writeStringField("chargerCode", row.chargerCode());
+            generator.writeNumberField("stationId", row.stationId());
+            generator.writeStringField("stationCode", row.stationCode());
+            generator.writeStringField("operatorName", row.operatorName());
+            generator.writeStringField("startTime", row.startTime());
+            generator.writeStringField("endTime", row.endTime());
+            if (row.energyDeliveredKwh() != null) {
+                generator.writeFieldName("energyDeliveredKwh");
+                generator.writeNumber(row.energyDeliveredKwh());
+            }
+            if (row.cost() != null) {
+                generator.writeFieldName("cost");
+                generator.writeNumber(row.cost());
+            }
+            generator.writeStringField("status", row.status());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeRaw('\n');
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.evcharging.api.domain.session;
+
+/**
+ * 내보내기 한 행. 엔티티를 만들지 않도록 JDBC 값의 텍스트 표현을 그대로 담는다.
+ */
+public record SessionExportRow(
+        long id,
+        long chargerId,
+        String chargerCode,
+        long stationId,
+        String stationCode,
+        String operatorName,
+        String startTime,
+        String endTime,
+        String energyDeliveredKwh,
+        String cost,
+        String status
+) {}
@@ -0,0 +1,104 @@
+package com.evcharging.api.domain.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산용 세션 이력을 CSV/NDJSON으로 스트리밍한다.
+ *
+ * <p>PostgreSQL 드라이버는 트랜잭션 안에서 fetch size가 지정된 경우에만 서버 측 커서로 나눠 읽는다.
+ * 행은 엔티티로 만들지 않고 읽는 즉시 출력 스트림에 쓰므로, 행 수와 관계없이 힙 사용량이 일정하다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SessionExportService {
+
+    private static final String BASE_QUERY = """
+            SELECT s.id, s.charger_id, c.charger_code, st.id AS station_id, st.station_code, st.operator_name,
+                   s.start_time, s.end_time, s.energy_delivered_kwh, s.cost, s.status
+            FROM charging_session s
+            JOIN charger c ON c.id = s.charger_id
+            JOIN charging_station st ON st.id = c.station_id
+            """;
+
+    private final JdbcTemplate cursorJdbcTemplate;
+
+    public SessionExportService(DataSource dataSource,
+                                @Value("${session.export.fetch-size:1000}") int fetchSize) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public long export(SessionExportFilter filter, SessionExportFormat format, OutputStream out) throws IOException {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(BASE_QUERY).append("WHERE 1 = 1");
+        if (filter.stationId() != null) {
+            sql.append(" AND st.id = ?");
+            params.add(filter.stationId());
+        }
+        if (filter.chargerId() != null) {
+            sql.append(" AND s.charger_id = ?");
+            params.add(filter.chargerId());
+        }
+        if (filter.operatorName() != null && !filter.operatorName().isBlank()) {
+            sql.append(" AND st.operator_name = ?");
+            params.add(filter.operatorName());
+        }
+        // start_time 조건은 파티션 프루닝에도 쓰인다
+        if (filter.from() != null) {
+            sql.append(" AND s.start_time >= ?");
+            params.add(filter.from());
+        }
+        if (filter.to() != null) {
+            sql.append(" AND s.start_time < ?");
+            params.add(filter.to());
+        }
+        sql.append(" ORDER BY s.start_time, s.id");
+
+        long[] count = {0};
+        try (SessionExportFormat.RowWriter writer = format.open(out)) {
+            cursorJdbcTemplate.query(sql.toString(), rs -> {
+                try {
+                    writer.write(mapRow(rs));
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, params.toArray());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private SessionExportRow mapRow(ResultSet rs) throws SQLException {
+        return new SessionExportRow(
+                rs.getLong("id"),
+                rs.getLong("charger_id"),
+                rs.getString("charger_code"),
+                rs.getLong("station_id"),
+                rs.getString("station_code"),
+                rs.getString("operator_name"),
+                isoText(rs.getObject("start_time", LocalDateTime.class)),
+                isoText(rs.getObject("end_time", LocalDateTime.class)),
+                rs.getString("energy_delivered_kwh"),
+                rs.getString("cost"),
+                rs.getString("status"));
+    }
+
+    private String isoText(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -1,41 +1,80 @@
 package com.evcharging.api.domain.session;
 
 import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ChargingMetrics;
 import com.evcharging.api.common.ErrorCode;
 import com.evcharging.api.domain.charger.Charger;
 import com.evcharging.api.domain.charger.ChargerRepository;
 import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.event.OutboxEvent;
+import com.evcharging.api.domain.event.OutboxEventRepository;
+import com.evcharging.api.domain.reservation.ReservationService;
+import com.evcharging.api.domain.station.StationChanges;
+import com.evcharging.api.infra.archive.SessionArchiveStore;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
 public class SessionService {
 
+    private static final LocalDateTime ARCHIVE_RANGE_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime ARCHIVE_RANGE_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final SessionRepository sessionRepository;
     private final ChargerRepository chargerRepository;
+    private final SessionArchiveSegmentRepository archiveSegmentRepository;
+    private final SessionArchiveStore archiveStore;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ReservationService reservationService;
+    private final StationChanges stationChanges;
+    private final ChargingMetrics metrics;
 
-    public SessionService(SessionRepository sessionRepository, ChargerRepository chargerRepository) {
+    public SessionService(SessionRepository sessionRepository, ChargerRepository chargerRepository,
+                          SessionArchiveSegmentRepository archiveSegmentRepository, SessionArchiveStore archiveStore,
+                          OutboxEventRepository outboxEventRepository, ReservationService reservationService,
+                          StationChanges stationChanges, ChargingMetrics metrics) {
         this.sessionRepository = sessionRepository;
         this.chargerRepository = chargerRepository;
+        this.archiveSegmentRepository = archiveSegmentRepository;
+        this.archiveStore = archiveStore;
+        this.outboxEventRepository = outboxEventRepository;
+        this.reservationService = reservationService;
+        this.stationChanges = stationChanges;
+        this.metrics = metrics;
     }
 
     @Transactional
     public ChargingSession startCharging(Long chargerId) {
-        Charger charger = chargerRepository.findById(chargerId)
+        return startCharging(chargerId, null);
+    }
+
+    /**
+     * 충전기 행을 먼저 잠그고 그 행의 상태로 판정한다. 같은 충전기의 동시 시작과 같은 예약의 중복 사용은
+     * 잠금을 기다린 뒤 CHARGING 상태를 보고 거절된다.
+     */
+    @Transactional
+    public ChargingSession startCharging(Long chargerId, String memberEmail) {
+        Charger charger = chargerRepository.findForUpdate(chargerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHARGER_NOT_FOUND));
 
         if (charger.getStatus() != ChargerStatus.AVAILABLE) {
             throw new BusinessException(ErrorCode.CHARGER_NOT_AVAILABLE);
         }
+        reservationService.claim(chargerId, memberEmail, LocalDateTime.now());
 
         charger.changeStatus(ChargerStatus.CHARGING);
-        ChargingSession session = ChargingSession.start(charger);
-        return sessionRepository.save(session);
+        ChargingSession session = sessionRepository.save(ChargingSession.start(charger));
+        outboxEventRepository.save(OutboxEvent.sessionStarted(session));
+        stationChanges.changed(charger.getStation());
+        metrics.statusChanged(ChargerStatus.AVAILABLE, ChargerStatus.CHARGING);
+        metrics.sessionStarted();
+        return session;
     }
 
     @Transactional
@@ -44,14 +83,47 @@ public class SessionService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
 
         session.complete(energyKwh, cost);
+        ChargerStatus previous = session.getCharger().getStatus();
         session.getCharger().changeStatus(ChargerStatus.AVAILABLE);
+        outboxEventRepository.save(OutboxEvent.sessionCompleted(session));
+        stationChanges.changed(session.getCharger().getStation());
+        metrics.statusChanged(previous, ChargerStatus.AVAILABLE);
+        metrics.sessionCompleted();
         return session;
     }
 
     public List<ChargingSession> findByCharger(Long chargerId, LocalDateTime start, LocalDateTime end) {
-        if (start != null && end != null) {
-            return sessionRepository.findByChargerIdAndStartTimeBetween(chargerId, start, end);
+        return findByCharger(chargerId, start, end, false);
+    }
+
+    public List<ChargingSession> findByCharger(Long chargerId, LocalDateTime start, LocalDateTime end,
+                                               boolean includeArchived) {
+        boolean ranged = start != null && end != null;
+        List<ChargingSession> live = ranged
+                ? sessionRepository.findByChargerIdAndStartTimeBetween(chargerId, start, end)
+                : sessionRepository.findByChargerId(chargerId);
+        if (!includeArchived) {
+            return live;
+        }
+
+        LocalDateTime from = ranged ? start : ARCHIVE_RANGE_MIN;
+        LocalDateTime to = ranged ? end : ARCHIVE_RANGE_MAX;
+        // 이 충전기의 세그먼트가 있는 아카이브만, 그 구간만 풀어 읽는다
+        List<ArchivedSession> archived = new ArrayList<>();
+        for (SessionArchiveSegment segment : archiveSegmentRepository.findByChargerOverlapping(chargerId, from, to)) {
+            archived.addAll(archiveStore.read(segment.getArchive().getFileName(),
+                    segment.getByteOffset(), segment.getByteLength(),
+                    s -> s.chargerId().equals(chargerId) && !s.startTime().isBefore(from) && !s.startTime().isAfter(to)));
         }
-        return sessionRepository.findByChargerId(chargerId);
+        if (archived.isEmpty()) {
+            return live;
+        }
+
+        // 아카이브 세션은 분리된 파티션에서 온 것이므로 항상 현재 테이블의 세션보다 앞선다
+        Charger charger = chargerRepository.getReferenceById(chargerId);
+        List<ChargingSession> merged = new ArrayList<>(archived.size() + live.size());
+        archived.forEach(s -> merged.add(s.toSession(charger)));
+        merged.addAll(live);
+        return merged;
     }
 }
@@ -20,7 +20,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "charging_station", indexes = {
-        @Index(name = "idx_station_lat_lng", columnList = "latitude, longitude")
+        @Index(name = "idx_station_lat_lng", columnList = "latitude, longitude"),
+        @Index(name = "idx_station_region", columnList = "regionCode")
 })
 public class ChargingStation {
 
@@ -44,6 +45,10 @@ public class ChargingStation {
     private String contactNumber;
     private String operatingHours;
 
+    // 공공 API 적재 시 채워지는 지역 코드(zcode)와 원본 필드의 해시. 재적재 시 바뀐 행만 쓰는 데 사용한다
+    private String regionCode;
+    private Long contentHash;
+
     @OneToMany(mappedBy = "station", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<Charger> chargers = new ArrayList<>();
 
@@ -101,6 +106,8 @@ public class ChargingStation {
     public String getOperatorName() { return operatorName; }
     public String getContactNumber() { return contactNumber; }
     public String getOperatingHours() { return operatingHours; }
+    public String getRegionCode() { return regionCode; }
+    public Long getContentHash() { return contentHash; }
     public List<Charger> getChargers() { return chargers; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
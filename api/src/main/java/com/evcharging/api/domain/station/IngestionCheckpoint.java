@@ -0,0 +1,75 @@
+package com.evcharging.api.domain.station;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 지역(zcode)별 공공 API 적재 진행 상황. 끝까지 가지 못한 적재는 다음 실행에서 완료한 페이지를 건너뛴다.
+ *
+ * <p>페이지는 동시에 가져오므로 순서대로 끝나지 않는다. 그래서 마지막 페이지 번호 대신 완료한 페이지 목록을
+ * 보관한다. 페이지 경계는 totalCount와 pageSize로 정해지므로 둘 중 하나라도 바뀌면 이어받지 않는다.
+ */
+@Entity
+@Table(name = "ingestion_checkpoint")
+public class IngestionCheckpoint {
+
+    @Id
+    private String regionCode;
+
+    private int totalCount;
+
+    private int pageSize;
+
+    @Column(columnDefinition = "integer[]")
+    private int[] completedPages = new int[0];
+
+    private boolean completed;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    protected IngestionCheckpoint() {}
+
+    public IngestionCheckpoint(String regionCode, int totalCount, int pageSize) {
+        this.regionCode = regionCode;
+        restart(totalCount, pageSize);
+    }
+
+    public void restart(int totalCount, int pageSize) {
+        this.totalCount = totalCount;
+        this.pageSize = pageSize;
+        this.completedPages = new int[0];
+        this.completed = false;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public boolean canResume(int totalCount, int pageSize, LocalDateTime notBefore) {
+        return !completed && this.totalCount == totalCount && this.pageSize == pageSize
+                && updatedAt.isAfter(notBefore);
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Set<Integer> completedPageSet() {
+        return Arrays.stream(completedPages).boxed().collect(Collectors.toSet());
+    }
+
+    public String getRegionCode() { return regionCode; }
+    public int getTotalCount() { return totalCount; }
+    public int getPageSize() { return pageSize; }
+    public boolean isCompleted() { return completed; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,20 @@
+package com.evcharging.api.domain.station;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IngestionCheckpointRepository extends JpaRepository<IngestionCheckpoint, String> {
+
+    // 페이지가 끝날 때마다 호출되므로 엔티티를 읽지 않고 배열에 바로 추가한다
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE ingestion_checkpoint
+            SET completed_pages = array_append(completed_pages, :pageNo), updated_at = now()
+            WHERE region_code = :regionCode
+            """, nativeQuery = true)
+    int markPageCompleted(@Param("regionCode") String regionCode, @Param("pageNo") int pageNo);
+}
@@ -0,0 +1,16 @@
+package com.evcharging.api.domain.station;
+
+import java.util.Collection;
+
+/**
+ * 충전소나 그 충전기가 바뀐 뒤 커밋이 끝나면 호출된다. 충전소 단위로 무언가를 캐시하는 쪽이 구현한다.
+ */
+public interface StationChangeListener {
+
+    void stationsChanged(Collection<Long> stationIds);
+
+    /**
+     * 대량 적재처럼 바뀐 충전소를 하나하나 알 수 없을 때 호출된다.
+     */
+    void allStationsChanged();
+}
@@ -0,0 +1,61 @@
+package com.evcharging.api.domain.station;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 충전소 변경을 {@link StationChangeListener}에 알린다. 트랜잭션 안에서 호출하면 커밋한 뒤에 알리므로,
+ * 롤백된 변경으로 캐시를 비우거나 커밋 전 데이터로 캐시가 다시 채워지지 않는다.
+ */
+@Component
+public class StationChanges {
+
+    private final List<StationChangeListener> listeners;
+
+    public StationChanges(ObjectProvider<StationChangeListener> listeners) {
+        this.listeners = listeners.orderedStream().toList();
+    }
+
+    public void changed(ChargingStation station) {
+        if (station != null) {
+            changed(station.getId());
+        }
+    }
+
+    public void changed(Long stationId) {
+        if (stationId != null) {
+            changed(Set.of(stationId));
+        }
+    }
+
+    public void changed(Collection<Long> stationIds) {
+        if (stationIds.isEmpty() || listeners.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(stationIds);
+        afterCommit(() -> listeners.forEach(listener -> listener.stationsChanged(ids)));
+    }
+
+    public void allChanged() {
+        afterCommit(() -> listeners.forEach(StationChangeListener::allStationsChanged));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,21 +2,28 @@ package com.evcharging.api.domain.station;
 
 import com.evcharging.api.common.BusinessException;
 import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.config.replica.PrimaryReads;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
 public class StationService {
 
     private final StationRepository stationRepository;
+    private final StationChanges stationChanges;
+    private final StationViewCache viewCache;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, StationChanges stationChanges,
+                          StationViewCache viewCache) {
         this.stationRepository = stationRepository;
+        this.stationChanges = stationChanges;
+        this.viewCache = viewCache;
     }
 
     public Page<ChargingStation> findAll(Pageable pageable) {
@@ -28,13 +35,37 @@ public class StationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.STATION_NOT_FOUND));
     }
 
+    /**
+     * 캐시된 읽기 모델을 반환한다. 수정할 때는 {@link #findById}로 영속 엔티티를 읽어야 한다.
+     */
+    public StationView findView(Long id) {
+        return findViewIfExists(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STATION_NOT_FOUND));
+    }
+
+    // 캐시는 커밋 뒤에 비워지므로, 지연된 복제본에서 다시 채우면 커밋 전 상태가 TTL 동안 남는다
+    public Optional<StationView> findViewIfExists(Long id) {
+        return Optional.ofNullable(viewCache.get(id, key -> PrimaryReads.call(
+                () -> stationRepository.findById(key).map(StationView::from).orElse(null))));
+    }
+
+    /**
+     * 충전소가 있는지 캐시로 확인한 뒤 SELECT 없이 참조만 돌려준다. 연관 관계를 걸 때 쓴다.
+     */
+    public ChargingStation getReference(Long id) {
+        findView(id);
+        return stationRepository.getReferenceById(id);
+    }
+
     public List<ChargingStation> findNearby(double lat, double lng, double radiusKm) {
         return stationRepository.findNearby(lat, lng, radiusKm);
     }
 
     @Transactional
     public ChargingStation create(ChargingStation station) {
-        return stationRepository.save(station);
+        ChargingStation saved = stationRepository.save(station);
+        stationChanges.changed(saved.getId());
+        return saved;
     }
 
     @Transactional
@@ -42,6 +73,7 @@ public class StationService {
                                   String operatorName, String contactNumber, String operatingHours) {
         ChargingStation station = findById(id);
         station.update(name, address, latitude, longitude, operatorName, contactNumber, operatingHours);
+        stationChanges.changed(id);
         return station;
     }
 
@@ -49,5 +81,6 @@ public class StationService {
     public void delete(Long id) {
         ChargingStation station = findById(id);
         stationRepository.delete(station);
+        stationChanges.changed(id);
     }
 }
@@ -0,0 +1,36 @@
+package com.evcharging.api.domain.station;
+
+import com.evcharging.api.domain.charger.ChargerView;
+
+import java.util.List;
+
+/**
+ * 캐시에 보관하는 충전소 읽기 모델. 충전기 목록을 함께 담는다.
+ */
+public record StationView(
+        Long id,
+        String stationCode,
+        String name,
+        String address,
+        Double latitude,
+        Double longitude,
+        String operatorName,
+        String contactNumber,
+        String operatingHours,
+        List<ChargerView> chargers
+) {
+    public static StationView from(ChargingStation station) {
+        return new StationView(
+                station.getId(),
+                station.getStationCode(),
+                station.getName(),
+                station.getAddress(),
+                station.getLatitude(),
+                station.getLongitude(),
+                station.getOperatorName(),
+                station.getContactNumber(),
+                station.getOperatingHours(),
+                station.getChargers().stream().map(ChargerView::from).toList()
+        );
+    }
+}
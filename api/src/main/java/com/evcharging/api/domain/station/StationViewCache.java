@@ -0,0 +1,58 @@
+package com.evcharging.api.domain.station;
+
+import com.evcharging.api.common.ReadThroughCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 충전소 id별 {@link StationView}를 보관하는 프로세스 내 캐시.
+ *
+ * <p>충전소, 충전기, 세션 변경은 {@link StationChanges}가 커밋 뒤에 알려 주므로 커밋되지 않은 상태는 캐시에
+ * 들어오지 않는다. ttl-ms는 다른 인스턴스나 외부에서 바뀐 데이터가 남아 있을 수 있는 시간의 상한이다.
+ */
+@Component
+public class StationViewCache implements StationChangeListener {
+
+    private final ReadThroughCache<Long, StationView> cache;
+
+    public StationViewCache(@Value("${station.view-cache.max-entries:20000}") int maxEntries,
+                            @Value("${station.view-cache.ttl-ms:300000}") long ttlMs) {
+        this.cache = new ReadThroughCache<>(maxEntries, ttlMs);
+    }
+
+    /**
+     * 충전소가 없으면 loader가 null을 돌려주고, 이 결과는 캐시하지 않는다.
+     */
+    StationView get(Long stationId, Function<Long, StationView> loader) {
+        return cache.get(stationId, loader);
+    }
+
+    @Override
+    public void stationsChanged(Collection<Long> stationIds) {
+        cache.invalidate(stationIds);
+    }
+
+    @Override
+    public void allStationsChanged() {
+        cache.invalidateAll();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+}
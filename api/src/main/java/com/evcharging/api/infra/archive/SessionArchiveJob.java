@@ -0,0 +1,136 @@
+package com.evcharging.api.infra.archive;
+
+import com.evcharging.api.domain.session.ArchivedSession;
+import com.evcharging.api.domain.session.SessionArchive;
+import com.evcharging.api.domain.session.SessionArchiveRepository;
+import com.evcharging.api.domain.session.SessionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보존 기간이 지난 세션 파티션을 gzip NDJSON 파일로 내보낸 뒤 부모 테이블에서 분리한다.
+ *
+ * <p>파일 쓰기가 끝난 뒤에만 분리하므로, 도중에 실패하면 다음 실행에서 같은 파티션을 다시 내보낸다.
+ */
+@Component
+public class SessionArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionArchiveJob.class);
+    private static final int FETCH_SIZE = 5000;
+    private static final int SEGMENT_BATCH_SIZE = 1000;
+
+    private final SessionPartitionManager partitionManager;
+    private final SessionArchiveStore archiveStore;
+    private final SessionArchiveRepository archiveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionMonths;
+
+    public SessionArchiveJob(SessionPartitionManager partitionManager,
+                             SessionArchiveStore archiveStore,
+                             SessionArchiveRepository archiveRepository,
+                             JdbcTemplate jdbcTemplate,
+                             DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${session.archive.retention-months:12}") int retentionMonths) {
+        this.partitionManager = partitionManager;
+        this.archiveStore = archiveStore;
+        this.archiveRepository = archiveRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${session.archive.cron:0 30 3 * * *}")
+    public void run() {
+        archiveExpiredPartitions(YearMonth.now());
+    }
+
+    public List<SessionArchive> archiveExpiredPartitions(YearMonth current) {
+        YearMonth cutoff = current.minusMonths(retentionMonths);
+        List<SessionArchive> archived = new ArrayList<>();
+        for (YearMonth month : partitionManager.listPartitions()) {
+            if (month.isBefore(cutoff)) {
+                archived.add(archive(month));
+            }
+        }
+        return archived;
+    }
+
+    private SessionArchive archive(YearMonth month) {
+        String partition = partitionManager.partitionName(month);
+        long startedAt = System.currentTimeMillis();
+
+        Path file;
+        long rowCount;
+        List<SessionArchiveStore.Segment> segments;
+        try (SessionArchiveStore.Writer writer = archiveStore.open(partition)) {
+            // 충전기마다 세그먼트가 하나씩 생기도록 충전기 순으로 쓴다. PostgreSQL은 트랜잭션 안에서만 fetch size에 따라 커서로 나눠 읽는다
+            transactionTemplate.executeWithoutResult(status -> cursorJdbcTemplate.query("""
+                    SELECT id, charger_id, start_time, end_time, energy_delivered_kwh, cost, status
+                    FROM %s ORDER BY charger_id, start_time
+                    """.formatted(partition), rs -> {
+                try {
+                    writer.write(new ArchivedSession(
+                            rs.getLong("id"),
+                            rs.getLong("charger_id"),
+                            rs.getTimestamp("start_time").toLocalDateTime(),
+                            rs.getTimestamp("end_time") != null ? rs.getTimestamp("end_time").toLocalDateTime() : null,
+                            rs.getBigDecimal("energy_delivered_kwh"),
+                            rs.getBigDecimal("cost"),
+                            SessionStatus.valueOf(rs.getString("status"))));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            rowCount = writer.getRowCount();
+            file = writer.commit();
+            segments = writer.getSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 파티션 아카이브 실패: " + partition, e);
+        }
+
+        SessionArchive archive = transactionTemplate.execute(status -> {
+            partitionManager.detachAndDrop(month);
+            SessionArchive saved = archiveRepository.saveAndFlush(new SessionArchive(partition,
+                    month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay(),
+                    file.getFileName().toString(), rowCount));
+            saveSegments(saved, segments);
+            return saved;
+        });
+
+        log.info("세션 파티션 {} 아카이브 완료: {}건 -> {} ({}ms)",
+                partition, rowCount, file, System.currentTimeMillis() - startedAt);
+        return archive;
+    }
+
+    private void saveSegments(SessionArchive archive, List<SessionArchiveStore.Segment> segments) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO session_archive_segment (archive_id, charger_id, byte_offset, byte_length, row_count)
+                VALUES (?, ?, ?, ?, ?)
+                """, segments, SEGMENT_BATCH_SIZE, (ps, segment) -> {
+            ps.setLong(1, archive.getId());
+            ps.setLong(2, segment.chargerId());
+            ps.setLong(3, segment.offset());
+            ps.setLong(4, segment.length());
+            ps.setLong(5, segment.rowCount());
+        });
+    }
+}
@@ -0,0 +1,296 @@
+package com.evcharging.api.infra.archive;
+
+import com.evcharging.api.domain.session.ArchivedSession;
+import com.evcharging.api.domain.session.SessionStatus;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 아카이브된 충전 세션을 gzip NDJSON 파일로 읽고 쓴다. 한 줄이 세션 하나다.
+ *
+ * <p>충전기가 바뀔 때마다 gzip 멤버를 새로 시작하고 그 위치를 {@link Segment}로 남긴다.
+ * 이어 붙인 멤버도 하나의 gzip 스트림이므로 파일 전체를 읽을 수 있고, 충전기 하나만 필요하면 그 멤버만 푼다.
+ */
+@Component
+public class SessionArchiveStore {
+
+    private static final String EXTENSION = ".ndjson.gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path archiveDir;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public SessionArchiveStore(@Value("${session.archive.dir:./archive}") String archiveDir) {
+        this.archiveDir = Path.of(archiveDir);
+    }
+
+    public Writer open(String name) throws IOException {
+        Files.createDirectories(archiveDir);
+        String fileName = name + EXTENSION;
+        return new Writer(archiveDir.resolve(fileName + ".tmp"), archiveDir.resolve(fileName));
+    }
+
+    public List<ArchivedSession> read(String fileName, Predicate<ArchivedSession> filter) {
+        try (InputStream in = new GZIPInputStream(
+                new BufferedInputStream(Files.newInputStream(archiveDir.resolve(fileName))), BUFFER_SIZE)) {
+            return read(in, filter);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 파일을 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+
+    /**
+     * 파일에서 {@code offset}부터 {@code length}바이트의 gzip 멤버만 읽는다.
+     */
+    public List<ArchivedSession> read(String fileName, long offset, long length, Predicate<ArchivedSession> filter) {
+        try (FileChannel channel = FileChannel.open(archiveDir.resolve(fileName))) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("세그먼트가 파일 끝을 넘습니다: offset=" + offset + ", length=" + length);
+                }
+            }
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(buffer.array()), BUFFER_SIZE)) {
+                return read(in, filter);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 파일을 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+
+    private List<ArchivedSession> read(InputStream in, Predicate<ArchivedSession> filter) throws IOException {
+        List<ArchivedSession> result = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                ArchivedSession session = readSession(parser);
+                if (filter.test(session)) {
+                    result.add(session);
+                }
+            }
+        }
+        return result;
+    }
+
+    private ArchivedSession readSession(JsonParser parser) throws IOException {
+        Long id = null;
+        Long chargerId = null;
+        LocalDateTime startTime = null;
+        LocalDateTime endTime = null;
+        BigDecimal energy = null;
+        BigDecimal cost = null;
+        SessionStatus status = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> id = parser.getLongValue();
+                case "chargerId" -> chargerId = parser.getLongValue();
+                case "startTime" -> startTime = LocalDateTime.parse(parser.getText());
+                case "endTime" -> endTime = LocalDateTime.parse(parser.getText());
+                case "energyDeliveredKwh" -> energy = parser.getDecimalValue();
+                case "cost" -> cost = parser.getDecimalValue();
+                case "status" -> status = SessionStatus.valueOf(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+        return new ArchivedSession(id, chargerId, startTime, endTime, energy, cost, status);
+    }
+
+    /**
+     * 파일 안에서 한 충전기의 세션이 담긴 gzip 멤버. 세션을 충전기 순으로 쓰면 충전기마다 하나씩 생긴다.
+     */
+    public record Segment(Long chargerId, long offset, long length, long rowCount) {
+    }
+
+    /**
+     * 임시 파일에 쓰고 {@link #commit()} 시점에 원자적으로 이름을 바꾼다.
+     * 커밋 없이 닫히면 임시 파일은 삭제된다.
+     */
+    public final class Writer implements Closeable {
+
+        private final Path tempFile;
+        private final Path targetFile;
+        private final MemberOutputStream members;
+        private final JsonGenerator generator;
+        private final List<Segment> segments = new ArrayList<>();
+        private Long currentChargerId;
+        private long segmentRows;
+        private long rowCount;
+        private boolean committed;
+
+        private Writer(Path tempFile, Path targetFile) throws IOException {
+            this.tempFile = tempFile;
+            this.targetFile = targetFile;
+            this.members = new MemberOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE));
+            this.generator = jsonFactory.createGenerator(members, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        public void write(ArchivedSession session) throws IOException {
+            if (!Objects.equals(session.chargerId(), currentChargerId)) {
+                endSegment();
+                currentChargerId = session.chargerId();
+            }
+            generator.writeStartObject();
+            generator.writeNumberField("id", session.id());
+            generator.writeNumberField("chargerId", session.chargerId());
+            generator.writeStringField("startTime", session.startTime().toString());
+            if (session.endTime() != null) {
+                generator.writeStringField("endTime", session.endTime().toString());
+            }
+            if (session.energyDeliveredKwh() != null) {
+                generator.writeNumberField("energyDeliveredKwh", session.energyDeliveredKwh());
+            }
+            if (session.cost() != null) {
+                generator.writeNumberField("cost", session.cost());
+            }
+            generator.writeStringField("status", session.status().name());
+            generator.writeEndObject();
+            segmentRows++;
+            rowCount++;
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        public List<Segment> getSegments() {
+            return List.copyOf(segments);
+        }
+
+        public Path commit() throws IOException {
+            endSegment();
+            if (rowCount == 0) {
+                // 빈 파티션도 읽을 수 있는 gzip 파일로 남긴다
+                members.write(new byte[0]);
+            }
+            generator.close();
+            Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return targetFile;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                generator.close();
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private void endSegment() throws IOException {
+            if (segmentRows == 0) {
+                return;
+            }
+            generator.flush();
+            long offset = members.finishMember();
+            segments.add(new Segment(currentChargerId, offset, members.position() - offset, segmentRows));
+            segmentRows = 0;
+        }
+    }
+
+    /**
+     * 쓰기를 현재 gzip 멤버로 보내고, 멤버를 끝낼 때 다음 멤버를 연다. 파일 위치를 세어 멤버 경계를 알려준다.
+     */
+    private static final class MemberOutputStream extends FilterOutputStream {
+
+        private long position;
+        private long memberStart;
+        private GZIPOutputStream member;
+
+        private MemberOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            member().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            member().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (member != null) {
+                member.flush();
+            }
+        }
+
+        /**
+         * 현재 멤버를 끝내고 시작 위치를 돌려준다. 이후 쓰기는 새 멤버로 간다.
+         */
+        long finishMember() throws IOException {
+            long start = memberStart;
+            if (member != null) {
+                member.finish();
+                member = null;
+            }
+            memberStart = position;
+            return start;
+        }
+
+        long position() {
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            finishMember();
+            out.close();
+        }
+
+        private GZIPOutputStream member() throws IOException {
+            if (member == null) {
+                member = new GZIPOutputStream(new OutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                        position++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                        position += len;
+                    }
+                }, BUFFER_SIZE);
+            }
+            return member;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.evcharging.api.infra.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * charging_session 테이블을 start_time 기준 월 단위 RANGE 파티션으로 관리한다.
+ *
+ * <p>스키마는 Hibernate가 일반 테이블로 생성하므로, 기동 시 파티션 테이블이 아니면
+ * 기존 데이터를 보존한 채 파티션 테이블로 전환한다. 이후 매일 앞으로 사용할 월 파티션을 미리 만든다.
+ */
+@Component
+public class SessionPartitionManager implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionPartitionManager.class);
+
+    static final String PARENT_TABLE = "charging_session";
+    private static final String LEGACY_TABLE = "charging_session_legacy";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("^" + PARENT_TABLE + "_p(\\d{6})$");
+    // 여러 인스턴스가 동시에 파티션 DDL을 실행하지 않도록 잡는 advisory lock 키
+    private static final long DDL_LOCK_KEY = 0x5E55_1011L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+
+    public SessionPartitionManager(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${session.partition.premake-months:3}") int premakeMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.premakeMonths = premakeMonths;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            String kind = jdbcTemplate.queryForObject(
+                    "SELECT (SELECT relkind FROM pg_class WHERE oid = to_regclass(?))::text",
+                    String.class, PARENT_TABLE);
+            if (kind == null) {
+                log.warn("{} 테이블이 없습니다. 파티션 전환을 건너뜁니다.", PARENT_TABLE);
+                return;
+            }
+            if ("r".equals(kind)) {
+                convertToPartitioned();
+            }
+            createUpcomingPartitions(YearMonth.now());
+        });
+    }
+
+    @Scheduled(cron = "${session.partition.cron:0 0 3 * * *}")
+    public void premakePartitions() {
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            createUpcomingPartitions(YearMonth.now());
+        });
+    }
+
+    public List<YearMonth> listPartitions() {
+        List<String> names = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                """, String.class, PARENT_TABLE);
+        return names.stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(m -> YearMonth.parse(m.group(1), SUFFIX_FORMAT))
+                .sorted()
+                .toList();
+    }
+
+    public String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 파티션을 부모 테이블에서 분리하고 삭제한다. 호출자의 트랜잭션 안에서 실행해야 한다.
+     */
+    public void detachAndDrop(YearMonth month) {
+        lock();
+        String partition = partitionName(month);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        log.info("세션 파티션 {} 분리 및 삭제 완료", partition);
+    }
+
+    private void convertToPartitioned() {
+        log.info("{} 테이블을 월 단위 파티션 테이블로 전환합니다.", PARENT_TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " RENAME TO " + LEGACY_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + PARENT_TABLE + " (LIKE " + LEGACY_TABLE
+                + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS) PARTITION BY RANGE (start_time)");
+
+        // 기존 identity 시퀀스는 legacy 테이블과 함께 삭제되므로 별도 시퀀스로 이어받는다
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS charging_session_pid_seq");
+        jdbcTemplate.queryForObject("SELECT setval('charging_session_pid_seq', "
+                + "COALESCE((SELECT MAX(id) FROM " + LEGACY_TABLE + "), 0) + 1, false)", Long.class);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE
+                + " ALTER COLUMN id SET DEFAULT nextval('charging_session_pid_seq')");
+        jdbcTemplate.execute("ALTER SEQUENCE charging_session_pid_seq OWNED BY " + PARENT_TABLE + ".id");
+
+        // 파티션 테이블의 PK에는 파티션 키가 포함되어야 한다
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE
+                + " ADD CONSTRAINT pk_charging_session PRIMARY KEY (id, start_time)");
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE
+                + " ADD CONSTRAINT fk_charging_session_charger FOREIGN KEY (charger_id)"
+                + " REFERENCES charger (id) ON DELETE CASCADE");
+        jdbcTemplate.execute("CREATE INDEX idx_session_charger_start ON " + PARENT_TABLE
+                + " (charger_id, start_time)");
+
+        List<Timestamp> months = jdbcTemplate.queryForList(
+                "SELECT DISTINCT date_trunc('month', start_time) FROM " + LEGACY_TABLE, Timestamp.class);
+        for (Timestamp month : months) {
+            createPartition(YearMonth.from(month.toLocalDateTime()));
+        }
+
+        int migrated = jdbcTemplate.update("INSERT INTO " + PARENT_TABLE + " SELECT * FROM " + LEGACY_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        log.info("{} 파티션 전환 완료. 기존 세션 {}건 이관", PARENT_TABLE, migrated);
+    }
+
+    private void createUpcomingPartitions(YearMonth current) {
+        for (int i = 0; i <= premakeMonths; i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF " + PARENT_TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    private void lock() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + DDL_LOCK_KEY + ")");
+    }
+}
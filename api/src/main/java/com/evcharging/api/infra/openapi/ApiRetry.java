@@ -0,0 +1,54 @@
+package com.evcharging.api.infra.openapi;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 공공 API 호출을 지수 백오프로 재시도한다. {@link EvChargerApiException}만 재시도 대상이며,
+ * 회로 차단기가 열려 있으면({@link CircuitOpenException}) 바로 포기한다.
+ */
+class ApiRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiRetry.class);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    ApiRetry(int maxAttempts, Duration initialBackoff) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+    }
+
+    <T> T call(String label, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (EvChargerApiException e) {
+                if (e instanceof CircuitOpenException || attempt >= maxAttempts) {
+                    log.warn("{} {}회 실패: {}", label, attempt, e.getMessage());
+                    throw e;
+                }
+                sleep(backoff(attempt));
+            }
+        }
+    }
+
+    // 동시에 실패한 요청들이 같은 시점에 몰려 재시도하지 않도록 지터를 더한다
+    private Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 10);
+        return Duration.ofMillis(base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvChargerApiException("재시도 대기 중 중단되었습니다", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.evcharging.api.infra.openapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 적재 중 도착하는 항목을 기존 콘텐츠 해시와 비교해, 충전소나 충전기가 새로 생겼거나 바뀐 항목만 걸러 낸다.
+ *
+ * <p>한 번 본 충전소/충전기는 기존 해시 목록에서 빠지므로, 적재가 끝난 뒤 남은 키가 사라진 행이다.
+ * 같은 키가 여러 번 오면(재시도로 청크가 다시 전달된 경우 포함) 처음 것만 비교한다.
+ * 적재 스레드 하나에서만 사용한다.
+ */
+class ChangeTracker {
+
+    private final Map<String, Long> stationHashes;
+    private final Map<ChargerKey, Long> chargerHashes;
+    private final Set<String> seenStations = new HashSet<>();
+    private final Set<ChargerKey> seenChargers = new HashSet<>();
+
+    private int stationsInserted;
+    private int stationsUpdated;
+    private int stationsUnchanged;
+    private int chargersInserted;
+    private int chargersUpdated;
+    private int chargersUnchanged;
+
+    ChangeTracker(ContentHashes existing) {
+        this.stationHashes = new HashMap<>(existing.stations());
+        this.chargerHashes = new HashMap<>(existing.chargers());
+    }
+
+    List<EvChargerApiResponse.Item> changed(List<EvChargerApiResponse.Item> items) {
+        List<EvChargerApiResponse.Item> changed = new ArrayList<>();
+        for (EvChargerApiResponse.Item item : items) {
+            if (item.statId() == null) {
+                continue;
+            }
+            boolean stationChanged = seenStations.add(item.statId()) && compareStation(item);
+            boolean chargerChanged = item.chgerId() != null
+                    && seenChargers.add(new ChargerKey(item.statId(), item.chgerId()))
+                    && compareCharger(item);
+            if (stationChanged || chargerChanged) {
+                changed.add(item);
+            }
+        }
+        return changed;
+    }
+
+    private boolean compareStation(EvChargerApiResponse.Item item) {
+        boolean existed = stationHashes.containsKey(item.statId());
+        Long previous = stationHashes.remove(item.statId());
+        if (!existed) {
+            stationsInserted++;
+            return true;
+        }
+        if (previous == null || previous != ContentHash.station(item)) {
+            stationsUpdated++;
+            return true;
+        }
+        stationsUnchanged++;
+        return false;
+    }
+
+    private boolean compareCharger(EvChargerApiResponse.Item item) {
+        ChargerKey key = new ChargerKey(item.statId(), item.chgerId());
+        boolean existed = chargerHashes.containsKey(key);
+        Long previous = chargerHashes.remove(key);
+        if (!existed) {
+            chargersInserted++;
+            return true;
+        }
+        if (previous == null || previous != ContentHash.charger(item)) {
+            chargersUpdated++;
+            return true;
+        }
+        chargersUnchanged++;
+        return false;
+    }
+
+    Set<String> missingStations() {
+        return stationHashes.keySet();
+    }
+
+    Set<ChargerKey> missingChargers() {
+        return chargerHashes.keySet();
+    }
+
+    IngestionDiff summary(ChargerUpsertWriter.Removal removal) {
+        return new IngestionDiff(stationsInserted, stationsUpdated, stationsUnchanged, removal.stationsDeleted(),
+                chargersInserted, chargersUpdated, chargersUnchanged, removal.chargersDeleted(),
+                removal.chargersRetired());
+    }
+}
@@ -0,0 +1,213 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.domain.station.StationChanges;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapChargerType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapConnectorType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parseDouble;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parsePowerKw;
+
+/**
+ * 대량의 항목을 COPY FROM STDIN으로 임시 스테이징 테이블에 흘려 넣은 뒤, 집합 연산 두 번으로
+ * charging_station과 charger에 병합한다.
+ *
+ * <p>행마다 INSERT를 보내지 않으므로 왕복은 COPY 스트림 하나와 병합 쿼리 몇 개뿐이다. 충전기의
+ * station_id는 병합 시 station_code로 조인해 구한다. 병합 규칙은 {@link ChargerUpsertWriter}와 같고
+ * (콘텐츠 해시가 같으면 갱신하지 않음), 같은 충전소나 충전기가 여러 번 나오면 먼저 나온 행을 쓴다.
+ * 지역 코드는 알 수 없으므로 새 행은 비워 두고 기존 행은 유지한다. 전체가 한 트랜잭션이다.
+ */
+@Component
+public class ChargerCopyLoader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE charger_staging (
+                seq bigint, station_code text, name text, address text, latitude float8, longitude float8,
+                operator_name text, contact_number text, operating_hours text, station_hash bigint,
+                charger_code text, type text, power_kw numeric, connector_type text, charger_hash bigint
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = "COPY charger_staging FROM STDIN (FORMAT text)";
+
+    private static final String MERGE_STATIONS = """
+            INSERT INTO charging_station (station_code, name, address, latitude, longitude, operator_name,
+                                          contact_number, operating_hours, content_hash, created_at, updated_at)
+            SELECT DISTINCT ON (station_code) station_code, name, address, latitude, longitude,
+                   operator_name, contact_number, operating_hours, station_hash, now(), now()
+            FROM charger_staging
+            ORDER BY station_code, seq
+            ON CONFLICT (station_code) DO UPDATE SET
+                name = EXCLUDED.name,
+                address = EXCLUDED.address,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                operator_name = EXCLUDED.operator_name,
+                contact_number = EXCLUDED.contact_number,
+                operating_hours = EXCLUDED.operating_hours,
+                content_hash = EXCLUDED.content_hash,
+                updated_at = now()
+            WHERE charging_station.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            """;
+
+    private static final String MERGE_CHARGERS = """
+            INSERT INTO charger (station_id, charger_code, type, status, power_kw, connector_type, content_hash,
+                                 last_status_changed_at)
+            SELECT s.id, st.charger_code, st.type, 'AVAILABLE', st.power_kw, st.connector_type, st.charger_hash, now()
+            FROM (SELECT DISTINCT ON (station_code, charger_code) *
+                  FROM charger_staging
+                  WHERE charger_code IS NOT NULL
+                  ORDER BY station_code, charger_code, seq) st
+            JOIN charging_station s ON s.station_code = st.station_code
+            ON CONFLICT (station_id, charger_code) DO UPDATE SET
+                type = EXCLUDED.type,
+                power_kw = EXCLUDED.power_kw,
+                connector_type = EXCLUDED.connector_type,
+                content_hash = EXCLUDED.content_hash,
+                status = CASE WHEN charger.retired_at IS NOT NULL THEN 'AVAILABLE' ELSE charger.status END,
+                last_status_changed_at = CASE WHEN charger.retired_at IS NOT NULL THEN now()
+                                              ELSE charger.last_status_changed_at END,
+                retired_at = NULL
+            WHERE charger.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StationChanges stationChanges;
+
+    public ChargerCopyLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             StationChanges stationChanges) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stationChanges = stationChanges;
+    }
+
+    /**
+     * source가 넘기는 항목을 모두 적재한다. statId가 없는 항목은 건너뛰고,
+     * chgerId가 없는 항목은 충전소만 반영한다.
+     */
+    public Result load(ItemSource source) {
+        return transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Result>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+            }
+
+            long rowCount;
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (PGCopyOutputStream copy = new PGCopyOutputStream(pgConnection, COPY_STAGING, BUFFER_SIZE);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                StagingRowWriter rows = new StagingRowWriter(writer);
+                source.emit(rows);
+                rowCount = rows.count;
+            } catch (IOException e) {
+                throw new UncheckedIOException("COPY 스트림 쓰기 실패", e);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                // 임시 테이블은 통계가 없으므로 병합 전에 수집해 둔다
+                statement.execute("ANALYZE charger_staging");
+                int stations = statement.executeUpdate(MERGE_STATIONS);
+                int chargers = statement.executeUpdate(MERGE_CHARGERS);
+                if (stations > 0 || chargers > 0) {
+                    // 병합은 집합 단위라 바뀐 충전소를 따로 알 수 없다
+                    stationChanges.allChanged();
+                }
+                return new Result(rowCount, stations, chargers);
+            }
+        }));
+    }
+
+    @FunctionalInterface
+    public interface ItemSource {
+        void emit(Consumer<EvChargerApiResponse.Item> sink) throws IOException;
+    }
+
+    /**
+     * @param rowCount  스테이징 테이블에 복사한 행 수
+     * @param stations  추가되거나 갱신된 충전소 수
+     * @param chargers  추가되거나 갱신된 충전기 수
+     */
+    public record Result(long rowCount, int stations, int chargers) {}
+
+    /**
+     * 항목을 COPY text 형식의 한 줄로 쓴다. 탭 구분이며 null은 \N이다.
+     */
+    private static final class StagingRowWriter implements Consumer<EvChargerApiResponse.Item> {
+
+        private final Writer writer;
+        private long count;
+
+        StagingRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(EvChargerApiResponse.Item item) {
+            if (item.statId() == null) {
+                return;
+            }
+            Double latitude = parseDouble(item.lat());
+            Double longitude = parseDouble(item.lng());
+            BigDecimal powerKw = parsePowerKw(item.output());
+            boolean hasCharger = item.chgerId() != null;
+            try {
+                writer.write(Long.toString(count));
+                writeField(item.statId());
+                writeField(Objects.requireNonNullElse(item.statNm(), item.statId()));
+                writeField(Objects.requireNonNullElse(item.addr(), ""));
+                writeField(latitude != null ? latitude.toString() : null);
+                writeField(longitude != null ? longitude.toString() : null);
+                writeField(item.busiNm());
+                writeField(item.busiCall());
+                writeField(item.useTime());
+                writeField(Long.toString(ContentHash.station(item)));
+                writeField(item.chgerId());
+                writeField(hasCharger ? mapChargerType(item.chgerType()).name() : null);
+                writeField(hasCharger && powerKw != null ? powerKw.toPlainString() : null);
+                writeField(hasCharger ? mapConnectorType(item.chgerType()).name() : null);
+                writeField(hasCharger ? Long.toString(ContentHash.charger(item)) : null);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count++;
+        }
+
+        private void writeField(String value) throws IOException {
+            writer.write('\t');
+            if (value == null) {
+                writer.write("\\N");
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> writer.write("\\\\");
+                    case '\t' -> writer.write("\\t");
+                    case '\n' -> writer.write("\\n");
+                    case '\r' -> writer.write("\\r");
+                    default -> writer.write(c);
+                }
+            }
+        }
+    }
+}
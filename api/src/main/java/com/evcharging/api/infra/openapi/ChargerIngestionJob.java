@@ -0,0 +1,225 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.domain.station.IngestionCheckpoint;
+import com.evcharging.api.domain.station.IngestionCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 한 지역(zcode)의 충전기 정보를 모든 페이지에 걸쳐 적재한다.
+ *
+ * <p>첫 페이지의 totalCount로 전체 페이지 수를 정한 뒤, 나머지 페이지를 가상 스레드에서 동시에 가져온다.
+ * 동시에 진행 중인 요청 수는 max-in-flight로 제한하고, 실패한 요청은 지수 백오프로 재시도한다.
+ *
+ * <p>응답은 스트리밍으로 읽어 chunk-size개씩 묶은 뒤 크기가 제한된 큐로 넘기고, 호출 스레드가 큐에서
+ * 꺼내 upsert 한다. DB 쓰기가 밀리면 큐가 차서 응답 읽기가 함께 멈추므로, 메모리 사용량은 페이지 크기와
+ * 무관하게 (큐 용량 + 동시 요청 수) × chunk-size 항목으로 제한된다.
+ *
+ * <p>시작 전에 지역의 콘텐츠 해시를 읽어 두고, 청크마다 {@link ChangeTracker}로 새로 생겼거나 바뀐 항목만
+ * 골라 쓴다. 모든 페이지를 가져온 경우에만 응답에서 사라진 충전기/충전소를 지운다.
+ *
+ * <p>페이지를 모두 쓰고 나면 {@link IngestionCheckpoint}에 완료로 기록한다. 도중에 실패한 지역을 다시 적재하면
+ * 완료한 페이지는 건너뛰고 나머지만 가져온다. 이어받은 실행은 전체 목록을 보지 못하므로 삭제는 하지 않는다.
+ */
+@Component
+public class ChargerIngestionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerIngestionJob.class);
+
+    private final EvChargerApiClient apiClient;
+    private final ChargerUpsertWriter writer;
+    private final IngestionCheckpointRepository checkpointRepository;
+    private final int pageSize;
+    private final int maxInFlight;
+    private final ApiRetry retry;
+    private final int chunkSize;
+    private final Duration resumeWindow;
+
+    public ChargerIngestionJob(EvChargerApiClient apiClient,
+                               ChargerUpsertWriter writer,
+                               IngestionCheckpointRepository checkpointRepository,
+                               @Value("${openapi.ingestion.page-size:1000}") int pageSize,
+                               @Value("${openapi.ingestion.max-in-flight:8}") int maxInFlight,
+                               @Value("${openapi.ingestion.max-attempts:4}") int maxAttempts,
+                               @Value("${openapi.ingestion.initial-backoff-ms:500}") long initialBackoffMs,
+                               @Value("${openapi.ingestion.chunk-size:500}") int chunkSize,
+                               @Value("${openapi.ingestion.resume-window-hours:24}") long resumeWindowHours) {
+        this.apiClient = apiClient;
+        this.writer = writer;
+        this.checkpointRepository = checkpointRepository;
+        this.pageSize = pageSize;
+        this.maxInFlight = maxInFlight;
+        this.retry = new ApiRetry(maxAttempts, Duration.ofMillis(initialBackoffMs));
+        this.chunkSize = chunkSize;
+        this.resumeWindow = Duration.ofHours(resumeWindowHours);
+    }
+
+    public IngestionResult ingest(String zcode) {
+        long startedAt = System.currentTimeMillis();
+        ChangeTracker tracker = new ChangeTracker(writer.loadContentHashes(zcode));
+        Consumer<List<EvChargerApiResponse.Item>> writeChanged = chunk -> {
+            List<EvChargerApiResponse.Item> changed = tracker.changed(chunk);
+            if (!changed.isEmpty()) {
+                writer.upsert(zcode, changed);
+            }
+        };
+
+        // 첫 페이지는 호출 스레드에서 읽으며 바로 upsert 한다
+        EvChargerResponseParser.PageHeader first = streamWithRetry(zcode, 1, writeChanged);
+        int totalCount = first.totalCount();
+        int pageCount = Math.max(1, (totalCount + pageSize - 1) / pageSize);
+        log.info("충전기 적재 시작: zcode={}, totalCount={}, 페이지 {}개", zcode, totalCount, pageCount);
+        Set<Integer> completedPages = startCheckpoint(zcode, totalCount);
+        checkpointRepository.markPageCompleted(zcode, 1);
+
+        int itemCount = first.itemCount();
+        int resumedPages = 0;
+        List<Integer> failedPages = new ArrayList<>();
+        BlockingQueue<Message> queue = new ArrayBlockingQueue<>(maxInFlight * 2);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                int nextPage = 2;
+                int inFlight = 0;
+                while (nextPage <= pageCount || inFlight > 0) {
+                    while (inFlight < maxInFlight && nextPage <= pageCount) {
+                        int pageNo = nextPage++;
+                        if (completedPages.contains(pageNo)) {
+                            resumedPages++;
+                            continue;
+                        }
+                        executor.submit(() -> fetchPage(zcode, pageNo, queue));
+                        inFlight++;
+                    }
+                    if (inFlight == 0) {
+                        // 이어받은 실행에서 남은 페이지가 모두 완료돼 있으면 기다릴 응답이 없다
+                        continue;
+                    }
+                    Message message = queue.take();
+                    if (message instanceof Chunk chunk) {
+                        writeChanged.accept(chunk.items());
+                    } else if (message instanceof PageDone done) {
+                        inFlight--;
+                        if (done.header() == null) {
+                            failedPages.add(done.pageNo());
+                        } else {
+                            itemCount += done.header().itemCount();
+                            checkpointRepository.markPageCompleted(zcode, done.pageNo());
+                        }
+                    }
+                }
+            } catch (RuntimeException | InterruptedException e) {
+                // 큐를 비우는 쪽이 멈췄으므로 put에서 기다리는 페이지 요청을 중단시켜야 close가 끝난다
+                executor.shutdownNow();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvChargerApiException("충전기 적재가 중단되었습니다: zcode=" + zcode, e);
+        }
+
+        // 가져오지 못했거나 이어받아 건너뛴 페이지의 행도 사라진 것으로 보이므로, 전부 본 경우에만 지운다
+        ChargerUpsertWriter.Removal removal = failedPages.isEmpty() && resumedPages == 0
+                ? writer.removeMissing(zcode, tracker.missingStations(), tracker.missingChargers())
+                : ChargerUpsertWriter.Removal.NONE;
+        IngestionDiff diff = tracker.summary(removal);
+        if (failedPages.isEmpty()) {
+            checkpointRepository.findById(zcode).ifPresent(checkpoint -> {
+                checkpoint.complete();
+                checkpointRepository.save(checkpoint);
+            });
+        }
+
+        IngestionResult result = new IngestionResult(zcode, totalCount, pageCount, resumedPages, itemCount,
+                failedPages.stream().sorted().toList(), diff, System.currentTimeMillis() - startedAt);
+        if (result.isComplete()) {
+            log.info("충전기 적재 완료: zcode={}, {}건 ({}ms). 충전소 +{} ~{} -{} ={}, 충전기 +{} ~{} -{} (중지 {}) ={}",
+                    zcode, itemCount, result.elapsedMs(),
+                    diff.stationsInserted(), diff.stationsUpdated(), diff.stationsDeleted(), diff.stationsUnchanged(),
+                    diff.chargersInserted(), diff.chargersUpdated(), diff.chargersDeleted(), diff.chargersRetired(),
+                    diff.chargersUnchanged());
+        } else {
+            log.warn("충전기 적재 일부 실패: zcode={}, {}건 적재, 실패 페이지 {}", zcode, itemCount, result.failedPages());
+        }
+        return result;
+    }
+
+    /**
+     * 이어받을 수 있는 체크포인트면 완료한 페이지 번호를 돌려주고, 아니면 체크포인트를 새로 시작한다.
+     */
+    private Set<Integer> startCheckpoint(String zcode, int totalCount) {
+        LocalDateTime notBefore = LocalDateTime.now().minus(resumeWindow);
+        Optional<IngestionCheckpoint> existing = checkpointRepository.findById(zcode);
+        if (existing.isPresent() && existing.get().canResume(totalCount, pageSize, notBefore)) {
+            Set<Integer> completed = existing.get().completedPageSet();
+            log.info("zcode={} 이전 적재를 이어받습니다. 완료한 페이지 {}개를 건너뜁니다.", zcode, completed.size());
+            return completed;
+        }
+        IngestionCheckpoint checkpoint = existing.orElseGet(() -> new IngestionCheckpoint(zcode, totalCount, pageSize));
+        checkpoint.restart(totalCount, pageSize);
+        checkpointRepository.save(checkpoint);
+        return Set.of();
+    }
+
+    /**
+     * 가상 스레드에서 한 페이지를 읽어 청크 단위로 큐에 넣고, 끝나면 완료 메시지를 넣는다.
+     * 재시도 중 앞서 넘긴 청크가 다시 전달될 수 있지만, 이미 본 항목은 ChangeTracker가 걸러 낸다.
+     */
+    private void fetchPage(String zcode, int pageNo, BlockingQueue<Message> queue) {
+        EvChargerResponseParser.PageHeader header = null;
+        try {
+            header = streamWithRetry(zcode, pageNo, chunk -> put(queue, new Chunk(chunk)));
+        } catch (EvChargerApiException e) {
+            // 실패한 페이지는 결과에 기록하고 나머지 페이지는 계속 적재한다
+        } finally {
+            put(queue, new PageDone(pageNo, header));
+        }
+    }
+
+    private EvChargerResponseParser.PageHeader streamWithRetry(String zcode, int pageNo,
+                                                               Consumer<List<EvChargerApiResponse.Item>> chunkSink) {
+        return retry.call("페이지 " + pageNo + " 조회", () -> {
+            List<EvChargerApiResponse.Item> buffer = new ArrayList<>(chunkSize);
+            EvChargerResponseParser.PageHeader header = apiClient.streamPage(zcode, pageNo, pageSize, item -> {
+                buffer.add(item);
+                if (buffer.size() >= chunkSize) {
+                    chunkSink.accept(List.copyOf(buffer));
+                    buffer.clear();
+                }
+            });
+            if (!buffer.isEmpty()) {
+                chunkSink.accept(List.copyOf(buffer));
+            }
+            return header;
+        });
+    }
+
+    private static void put(BlockingQueue<Message> queue, Message message) {
+        try {
+            queue.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvChargerApiException("충전기 적재가 중단되었습니다", e);
+        }
+    }
+
+    private sealed interface Message permits Chunk, PageDone {}
+
+    private record Chunk(List<EvChargerApiResponse.Item> items) implements Message {}
+
+    private record PageDone(int pageNo, EvChargerResponseParser.PageHeader header) implements Message {}
+}
@@ -0,0 +1,6 @@
+package com.evcharging.api.infra.openapi;
+
+/**
+ * 공공 API에서 충전기를 식별하는 키. 충전기 코드는 충전소 안에서만 유일하다.
+ */
+record ChargerKey(String stationCode, String chargerCode) {}
@@ -0,0 +1,49 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.ApiApplication;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 현재 DB에서 스냅샷을 내보내는 별도 진입점. 서버와 같은 jar에서 웹 서버 없이 컨텍스트를 띄우고,
+ * 내보낸 뒤 {@link SpringApplication#exit}의 종료 코드를 그대로 돌려준다.
+ *
+ * <pre>
+ * java -Dloader.main=com.evcharging.api.infra.openapi.ChargerSnapshotCommand \
+ *      -cp api.jar org.springframework.boot.loader.launch.PropertiesLauncher \
+ *      --snapshot.export=stations.ndjson.gz
+ * </pre>
+ */
+public final class ChargerSnapshotCommand {
+
+    static final String EXPORT_OPTION = "snapshot.export";
+    static final int USAGE_ERROR = 2;
+
+    private ChargerSnapshotCommand() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * 내보내기를 실행하고 종료 코드를 돌려준다. JVM 종료는 {@link #main}만 한다.
+     */
+    static int run(String[] args) {
+        List<String> values = new DefaultApplicationArguments(args).getOptionValues(EXPORT_OPTION);
+        if (values == null || values.isEmpty()) {
+            System.err.println("사용법: --" + EXPORT_OPTION + "=<파일>(.ndjson.gz | .csv.gz)");
+            return USAGE_ERROR;
+        }
+        SpringApplication application = new SpringApplication(ApiApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        ConfigurableApplicationContext context = application.run(args);
+        context.getBean(ChargerSnapshotExporter.class).export(Path.of(values.get(0)));
+        return SpringApplication.exit(context, () -> 0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.charger.ChargerType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+import static com.evcharging.api.infra.openapi.EvChargerItems.chargerTypeCode;
+import static com.evcharging.api.infra.openapi.EvChargerItems.statusCode;
+
+/**
+ * 현재 DB의 충전소/충전기를 {@link ChargerSnapshotLoader}가 읽을 수 있는 gzip 스냅샷 파일로 내보낸다.
+ *
+ * <p>충전기 종류는 공공 API 코드(chgerType)로 되돌려 기록하므로, 다시 적재하면 커넥터 종류는
+ * 코드에서 유도된 값이 된다. 임시 파일에 쓴 뒤 끝나면 원자적으로 이름을 바꾼다.
+ */
+@Component
+public class ChargerSnapshotExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerSnapshotExporter.class);
+    private static final int FETCH_SIZE = 5000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChargerSnapshotExporter(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.cursorJdbcTemplate = new JdbcTemplate(dataSource);
+        this.cursorJdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public ChargerSnapshotResult export(Path file) {
+        ChargerSnapshotFormat format = ChargerSnapshotFormat.fromPath(file);
+        long startedAt = System.currentTimeMillis();
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        long[] rowCount = {0};
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            try (OutputStream out = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)), BUFFER_SIZE);
+                 ChargerSnapshotFormat.ItemWriter writer = format.open(out)) {
+                // PostgreSQL은 트랜잭션 안에서만 fetch size에 따라 커서로 나눠 읽는다
+                transactionTemplate.executeWithoutResult(status -> cursorJdbcTemplate.query("""
+                        SELECT s.station_code, s.name, s.address, s.latitude, s.longitude, s.operator_name,
+                               s.contact_number, s.operating_hours, c.charger_code, c.type, c.power_kw, c.status
+                        FROM charging_station s LEFT JOIN charger c ON c.station_id = s.id
+                        ORDER BY s.station_code, c.charger_code
+                        """, rs -> {
+                    String chargerType = rs.getString("type");
+                    String chargerStatus = rs.getString("status");
+                    BigDecimal powerKw = rs.getBigDecimal("power_kw");
+                    try {
+                        writer.write(new EvChargerApiResponse.Item(
+                                rs.getString("name"),
+                                rs.getString("station_code"),
+                                rs.getString("charger_code"),
+                                chargerType != null ? chargerTypeCode(ChargerType.valueOf(chargerType)) : null,
+                                rs.getString("address"),
+                                rs.getString("latitude"),
+                                rs.getString("longitude"),
+                                rs.getString("operator_name"),
+                                rs.getString("contact_number"),
+                                rs.getString("operating_hours"),
+                                chargerStatus != null ? statusCode(ChargerStatus.valueOf(chargerStatus)) : null,
+                                powerKw != null ? powerKw.toPlainString() : null));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rowCount[0]++;
+                }));
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 파일을 쓸 수 없습니다: " + file, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+
+        ChargerSnapshotResult result = new ChargerSnapshotResult(file, rowCount[0], System.currentTimeMillis() - startedAt);
+        log.info("스냅샷 내보내기 완료: {}행 -> {} ({}ms)", result.rowCount(), file, result.elapsedMs());
+        return result;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 스냅샷 파일을 삭제하지 못했습니다: {}", path);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.evcharging.api.infra.openapi;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 충전소/충전기 스냅샷 파일 형식. 한 행이 공공 API 항목 하나(충전기 한 대)이며 필드 이름도 같다.
+ *
+ * <p>충전기가 없는 충전소는 chgerId가 빈 행으로 기록한다. 파일은 항상 gzip으로 압축하며,
+ * 형식은 파일 이름의 확장자(.ndjson.gz, .csv.gz)로 고른다.
+ */
+public enum ChargerSnapshotFormat {
+
+    NDJSON("ndjson") {
+        @Override
+        public long read(InputStream in, Consumer<EvChargerApiResponse.Item> consumer) throws IOException {
+            long count = 0;
+            try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(EvChargerResponseParser.readItem(parser));
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public ItemWriter open(OutputStream out) throws IOException {
+            return new NdjsonItemWriter(out);
+        }
+    },
+    CSV("csv") {
+        @Override
+        public long read(InputStream in, Consumer<EvChargerApiResponse.Item> consumer) throws IOException {
+            return new CsvItemReader(new InputStreamReader(in, StandardCharsets.UTF_8)).read(consumer);
+        }
+
+        @Override
+        public ItemWriter open(OutputStream out) throws IOException {
+            return new CsvItemWriter(out);
+        }
+    };
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // CSV 헤더이자 NDJSON 필드 순서
+    static final List<String> COLUMNS = List.of("statId", "statNm", "addr", "lat", "lng", "busiNm", "busiCall",
+            "useTime", "chgerId", "chgerType", "output", "stat");
+
+    private final String extension;
+
+    ChargerSnapshotFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * 압축을 푼 스트림에서 항목을 하나씩 읽어 consumer에 넘기고 읽은 행 수를 반환한다.
+     */
+    public abstract long read(InputStream in, Consumer<EvChargerApiResponse.Item> consumer) throws IOException;
+
+    public abstract ItemWriter open(OutputStream out) throws IOException;
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ChargerSnapshotFormat fromPath(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        for (ChargerSnapshotFormat format : values()) {
+            if (name.endsWith("." + format.extension + ".gz")) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("스냅샷 파일은 .ndjson.gz 또는 .csv.gz 여야 합니다: " + path);
+    }
+
+    public interface ItemWriter extends Closeable {
+        void write(EvChargerApiResponse.Item item) throws IOException;
+    }
+
+    private static String[] values(EvChargerApiResponse.Item item) {
+        return new String[]{item.statId(), item.statNm(), item.addr(), item.lat(), item.lng(), item.busiNm(),
+                item.busiCall(), item.useTime(), item.chgerId(), item.chgerType(), item.output(), item.stat()};
+    }
+
+    private static final class NdjsonItemWriter implements ItemWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonItemWriter(OutputStream out) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void write(EvChargerApiResponse.Item item) throws IOException {
+            String[] values = values(item);
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    generator.writeStringField(COLUMNS.get(i), values[i]);
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvItemWriter implements ItemWriter {
+
+        private final Writer writer;
+
+        CsvItemWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(EvChargerApiResponse.Item item) throws IOException {
+            String[] values = values(item);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeText(values[i]);
+            }
+            writer.write('\n');
+        }
+
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV를 문자 단위로 읽는다. 따옴표 안의 쉼표와 줄바꿈을 허용하고, 빈 필드는 null로 읽는다.
+     * 헤더의 열 순서는 자유이며 모르는 열은 무시한다.
+     */
+    private static final class CsvItemReader {
+
+        private final Reader reader;
+        private final char[] buffer = new char[64 * 1024];
+        private int position;
+        private int limit;
+
+        CsvItemReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        long read(Consumer<EvChargerApiResponse.Item> consumer) throws IOException {
+            List<String> header = new ArrayList<>();
+            if (!readRecord(header)) {
+                return 0;
+            }
+            int[] columnIndex = new int[COLUMNS.size()];
+            for (int i = 0; i < columnIndex.length; i++) {
+                columnIndex[i] = header.indexOf(COLUMNS.get(i));
+            }
+
+            long count = 0;
+            List<String> record = new ArrayList<>(header.size());
+            String[] values = new String[COLUMNS.size()];
+            while (readRecord(record)) {
+                if (record.size() == 1 && record.getFirst() == null) {
+                    continue;
+                }
+                Arrays.fill(values, null);
+                for (int i = 0; i < columnIndex.length; i++) {
+                    int index = columnIndex[i];
+                    if (index >= 0 && index < record.size()) {
+                        values[i] = record.get(index);
+                    }
+                }
+                consumer.accept(new EvChargerApiResponse.Item(values[1], values[0], values[8], values[9],
+                        values[2], values[3], values[4], values[5], values[6], values[7], values[11], values[10]));
+                count++;
+            }
+            return count;
+        }
+
+        private boolean readRecord(List<String> record) throws IOException {
+            record.clear();
+            int c = next();
+            if (c < 0) {
+                return false;
+            }
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean wasQuoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        throw new IOException("CSV 따옴표가 닫히지 않았습니다");
+                    }
+                    if (c == '"') {
+                        int peek = next();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = peek;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == ',' || c == '\n' || c < 0) {
+                    record.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                    if (c != ',') {
+                        return true;
+                    }
+                    field.setLength(0);
+                    wasQuoted = false;
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                    wasQuoted = true;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = next();
+            }
+        }
+
+        private int next() throws IOException {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+}
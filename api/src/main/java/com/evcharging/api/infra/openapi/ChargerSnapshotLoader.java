@@ -0,0 +1,51 @@
+package com.evcharging.api.infra.openapi;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 로컬 gzip 스냅샷 파일에서 충전소/충전기를 적재한다.
+ *
+ * <p>파일 전체를 {@link ChargerCopyLoader}로 한 번에 COPY 한 뒤 병합하므로, 파일을 읽는 동안 DB에는
+ * 행 단위 왕복이 없다. 파일을 다 읽기 전에 실패하면 아무것도 반영되지 않는다.
+ */
+@Component
+public class ChargerSnapshotLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerSnapshotLoader.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ChargerCopyLoader copyLoader;
+
+    public ChargerSnapshotLoader(ChargerCopyLoader copyLoader) {
+        this.copyLoader = copyLoader;
+    }
+
+    public ChargerSnapshotResult load(Path file) {
+        ChargerSnapshotFormat format = ChargerSnapshotFormat.fromPath(file);
+        long startedAt = System.currentTimeMillis();
+
+        ChargerCopyLoader.Result loaded = copyLoader.load(sink -> {
+            try (InputStream in = new GZIPInputStream(
+                    new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE)) {
+                format.read(in, sink);
+            }
+        });
+
+        ChargerSnapshotResult result = new ChargerSnapshotResult(file, loaded.rowCount(),
+                System.currentTimeMillis() - startedAt);
+        log.info("스냅샷 적재 완료: {} {}행, 충전소 {}곳, 충전기 {}대 ({}ms, 초당 {}행)",
+                file, result.rowCount(), loaded.stations(), loaded.chargers(), result.elapsedMs(),
+                result.rowsPerSecond());
+        return result;
+    }
+}
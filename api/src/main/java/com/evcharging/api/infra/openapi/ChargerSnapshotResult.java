@@ -0,0 +1,16 @@
+package com.evcharging.api.infra.openapi;
+
+import java.nio.file.Path;
+
+/**
+ * @param rowCount 읽거나 쓴 행(충전기) 수
+ */
+public record ChargerSnapshotResult(
+        Path file,
+        long rowCount,
+        long elapsedMs
+) {
+    public long rowsPerSecond() {
+        return elapsedMs > 0 ? rowCount * 1000 / elapsedMs : rowCount;
+    }
+}
@@ -0,0 +1,236 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.common.ChargingMetrics;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.station.StationChanges;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 공공 API의 충전기 상태 변경분을 주기적으로 가져와 DB 상태와 비교하고, 달라진 충전기만 갱신한다.
+ *
+ * <p>최근 period-minutes분 동안 상태가 바뀐 충전기만 조회하므로 한 번에 받는 양이 적다.
+ * (stationCode, chargerCode)로 현재 상태와 비교한 뒤 바뀐 행만 배치로 갱신한다.
+ * 이 서비스에서 충전 중인 충전기는 세션이 상태를 관리하므로 건너뛴다.
+ */
+@Component
+public class ChargerStatusSyncJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerStatusSyncJob.class);
+    private static final DateTimeFormatter STAT_UPD_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private static final String APPLY_STATUS = """
+            UPDATE charger c SET status = ?, last_status_changed_at = ?
+            FROM charging_station s
+            WHERE s.id = c.station_id AND s.station_code = ? AND c.charger_code = ?
+              AND c.status <> ?
+              AND NOT EXISTS (SELECT 1 FROM charging_session cs
+                              WHERE cs.charger_id = c.id AND cs.status = 'IN_PROGRESS')
+            """;
+
+    private final EvChargerApiClient apiClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final StationChanges stationChanges;
+    private final ChargingMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final ApiRetry retry;
+    private final String zcode;
+    private final int periodMinutes;
+    private final int pageSize;
+    private final AtomicReference<StatusSyncResult> lastResult = new AtomicReference<>();
+
+    public ChargerStatusSyncJob(EvChargerApiClient apiClient,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                StationChanges stationChanges,
+                                ChargingMetrics metrics,
+                                @Value("${openapi.status-sync.zcode:11}") String zcode,
+                                @Value("${openapi.status-sync.period-minutes:10}") int periodMinutes,
+                                @Value("${openapi.status-sync.page-size:1000}") int pageSize,
+                                @Value("${openapi.ingestion.max-attempts:4}") int maxAttempts,
+                                @Value("${openapi.ingestion.initial-backoff-ms:500}") long initialBackoffMs) {
+        this.apiClient = apiClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stationChanges = stationChanges;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retry = new ApiRetry(maxAttempts, Duration.ofMillis(initialBackoffMs));
+        this.zcode = zcode;
+        this.periodMinutes = periodMinutes;
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(fixedDelayString = "${openapi.status-sync.interval-ms:300000}",
+            initialDelayString = "${openapi.status-sync.interval-ms:300000}")
+    public void run() {
+        if (!apiClient.isConfigured()) {
+            return;
+        }
+        try {
+            sync();
+        } catch (EvChargerApiException e) {
+            log.warn("충전기 상태 동기화 실패. 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+    }
+
+    public StatusSyncResult sync() {
+        long startedAt = System.currentTimeMillis();
+        Map<ChargerKey, EvChargerStatusResponse.Item> fetched = fetchChanges();
+        int fetchedRows = fetched.size();
+
+        Map<String, Long> stationIds = new HashMap<>();
+        Map<ChargerKey, ChargerStatus> current = loadCurrentStatuses(fetched.keySet(), stationIds);
+        List<Object[]> changes = new ArrayList<>();
+        List<ChargerStatus> previous = new ArrayList<>();
+        int unknown = 0;
+        for (Map.Entry<ChargerKey, EvChargerStatusResponse.Item> entry : fetched.entrySet()) {
+            ChargerStatus existing = current.get(entry.getKey());
+            if (existing == null) {
+                unknown++;
+                continue;
+            }
+            ChargerStatus target = mapStatus(entry.getValue().stat());
+            if (target == null || target == existing) {
+                continue;
+            }
+            changes.add(new Object[]{
+                    target.name(),
+                    Timestamp.valueOf(parseUpdatedAt(entry.getValue().statUpdDt())),
+                    entry.getKey().stationCode(),
+                    entry.getKey().chargerCode(),
+                    target.name()});
+            previous.add(existing);
+        }
+
+        int applied = 0;
+        if (!changes.isEmpty()) {
+            int[] counts = transactionTemplate.execute(status -> {
+                int[] updated = jdbcTemplate.batchUpdate(APPLY_STATUS, changes);
+                Set<Long> changedStations = new HashSet<>();
+                ChargerStatus[] statuses = ChargerStatus.values();
+                int[][] transitions = new int[statuses.length][statuses.length];
+                for (int i = 0; i < updated.length; i++) {
+                    // 건수를 모르는 경우(SUCCESS_NO_INFO)도 바뀐 것으로 본다
+                    if (updated[i] != 0) {
+                        changedStations.add(stationIds.get((String) changes.get(i)[2]));
+                        transitions[previous.get(i).ordinal()][ChargerStatus.valueOf((String) changes.get(i)[0]).ordinal()]++;
+                    }
+                }
+                changedStations.remove(null);
+                stationChanges.changed(changedStations);
+                for (ChargerStatus from : statuses) {
+                    for (ChargerStatus to : statuses) {
+                        metrics.statusChanged(from, to, transitions[from.ordinal()][to.ordinal()]);
+                    }
+                }
+                return updated;
+            });
+            for (int count : counts) {
+                applied += Math.max(count, 0);
+            }
+        }
+
+        StatusSyncResult result = new StatusSyncResult(zcode, fetchedRows, changes.size(), applied, unknown,
+                System.currentTimeMillis() - startedAt);
+        lastResult.set(result);
+        log.info("충전기 상태 동기화: zcode={}, 조회 {}건, 변경 {}건, 반영 {}건, 미등록 {}건 ({}ms)",
+                zcode, result.fetched(), result.changed(), result.applied(), result.unknown(), result.durationMs());
+        return result;
+    }
+
+    public StatusSyncResult lastResult() {
+        return lastResult.get();
+    }
+
+    /**
+     * 변경분을 모든 페이지에 걸쳐 받는다. 같은 충전기가 여러 번 나오면 가장 최근 상태만 남긴다.
+     */
+    private Map<ChargerKey, EvChargerStatusResponse.Item> fetchChanges() {
+        Map<ChargerKey, EvChargerStatusResponse.Item> latest = new LinkedHashMap<>();
+        int pageCount = 1;
+        for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
+            int page = pageNo;
+            EvChargerStatusResponse response = retry.call("상태 페이지 " + page + " 조회",
+                    () -> apiClient.fetchStatusPage(zcode, periodMinutes, page, pageSize));
+            pageCount = Math.max(1, (response.totalCount() + pageSize - 1) / pageSize);
+            for (EvChargerStatusResponse.Item item : response.itemList()) {
+                if (item.statId() == null || item.chgerId() == null) {
+                    continue;
+                }
+                latest.merge(new ChargerKey(item.statId(), item.chgerId()), item, (a, b) ->
+                        nullToEmpty(b.statUpdDt()).compareTo(nullToEmpty(a.statUpdDt())) >= 0 ? b : a);
+            }
+        }
+        return latest;
+    }
+
+    private Map<ChargerKey, ChargerStatus> loadCurrentStatuses(Collection<ChargerKey> keys, Map<String, Long> stationIds) {
+        List<String> distinct = keys.stream().map(ChargerKey::stationCode).distinct().toList();
+
+        Map<ChargerKey, ChargerStatus> current = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += LOOKUP_CHUNK) {
+            List<String> chunk = distinct.subList(from, Math.min(from + LOOKUP_CHUNK, distinct.size()));
+            jdbcTemplate.query("""
+                    SELECT s.station_code, c.charger_code, c.status, s.id
+                    FROM charger c JOIN charging_station s ON s.id = c.station_id
+                    WHERE s.station_code = ANY (?)
+                    """, ps -> {
+                Array array = ps.getConnection().createArrayOf("text", chunk.toArray());
+                ps.setArray(1, array);
+            }, rs -> {
+                current.put(new ChargerKey(rs.getString(1), rs.getString(2)), ChargerStatus.valueOf(rs.getString(3)));
+                stationIds.put(rs.getString(1), rs.getLong(4));
+            });
+        }
+        return current;
+    }
+
+    static ChargerStatus mapStatus(String stat) {
+        if (stat == null) return null;
+        return switch (stat) {
+            case "2" -> ChargerStatus.AVAILABLE;
+            case "3" -> ChargerStatus.CHARGING;
+            case "1", "4", "5" -> ChargerStatus.OUT_OF_SERVICE;
+            // 9(상태미확인)는 현재 상태를 유지한다
+            default -> null;
+        };
+    }
+
+    private static LocalDateTime parseUpdatedAt(String statUpdDt) {
+        if (statUpdDt != null) {
+            try {
+                return LocalDateTime.parse(statUpdDt, STAT_UPD_FORMAT);
+            } catch (DateTimeParseException ignored) {
+                // 형식이 다르면 동기화 시각을 사용한다
+            }
+        }
+        return LocalDateTime.now();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
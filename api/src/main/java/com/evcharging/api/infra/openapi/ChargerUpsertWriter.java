@@ -0,0 +1,239 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.domain.station.StationChanges;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapChargerType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapConnectorType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parseDouble;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parsePowerKw;
+
+/**
+ * 공공 API 항목을 충전소/충전기 테이블에 배치 upsert 한다.
+ *
+ * <p>충전소는 station_code, 충전기는 (station_id, charger_code) 기준으로 갱신한다. 충전기 상태는
+ * 서비스에서 관리하는 값이므로 새로 추가할 때만 AVAILABLE로 두고 갱신하지 않는다. 다만 응답에서 사라져
+ * 적재가 중지시킨 충전기가 다시 나타나면 AVAILABLE로 되돌린다.
+ *
+ * <p>각 행에는 {@link ContentHash}를 함께 저장하고, 해시가 같으면 ON CONFLICT 갱신을 건너뛴다.
+ * 호출자가 바뀐 항목만 넘기더라도 같은 충전소의 다른 충전기 때문에 충전소 행이 다시 쓰이는 일을 막는다.
+ */
+@Component
+public class ChargerUpsertWriter {
+
+    private static final String UPSERT_STATION = """
+            INSERT INTO charging_station (station_code, name, address, latitude, longitude, operator_name,
+                                          contact_number, operating_hours, region_code, content_hash,
+                                          created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())
+            ON CONFLICT (station_code) DO UPDATE SET
+                name = EXCLUDED.name,
+                address = EXCLUDED.address,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude,
+                operator_name = EXCLUDED.operator_name,
+                contact_number = EXCLUDED.contact_number,
+                operating_hours = EXCLUDED.operating_hours,
+                region_code = EXCLUDED.region_code,
+                content_hash = EXCLUDED.content_hash,
+                updated_at = now()
+            WHERE charging_station.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+               OR charging_station.region_code IS DISTINCT FROM EXCLUDED.region_code
+            """;
+
+    // 충전소 id를 먼저 조회해 VALUES로 넘긴다. reWriteBatchedInserts가 켜져 있으면 배치가 다중 행 INSERT 하나로 합쳐진다
+    private static final String UPSERT_CHARGER = """
+            INSERT INTO charger (station_id, charger_code, type, status, power_kw, connector_type, content_hash,
+                                 last_status_changed_at)
+            VALUES (?, ?, ?, 'AVAILABLE', ?, ?, ?, now())
+            ON CONFLICT (station_id, charger_code) DO UPDATE SET
+                type = EXCLUDED.type,
+                power_kw = EXCLUDED.power_kw,
+                connector_type = EXCLUDED.connector_type,
+                content_hash = EXCLUDED.content_hash,
+                status = CASE WHEN charger.retired_at IS NOT NULL THEN 'AVAILABLE' ELSE charger.status END,
+                last_status_changed_at = CASE WHEN charger.retired_at IS NOT NULL THEN now()
+                                              ELSE charger.last_status_changed_at END,
+                retired_at = NULL
+            WHERE charger.content_hash IS DISTINCT FROM EXCLUDED.content_hash
+            """;
+
+    private static final String SELECT_STATION_IDS =
+            "SELECT station_code, id FROM charging_station WHERE station_code = ANY (?)";
+
+    // 지역이 아직 정해지지 않은 행(스냅샷, data.sql)도 비교 대상에 넣어 변경 없이 다시 쓰지 않도록 한다
+    private static final String SELECT_CONTENT_HASHES = """
+            SELECT s.station_code, s.content_hash, c.charger_code, c.content_hash
+            FROM charging_station s LEFT JOIN charger c ON c.station_id = s.id
+            WHERE s.region_code = ? OR s.region_code IS NULL
+            """;
+
+    // 세션이나 예약 이력이 있는 충전기를 지우면 이력까지 함께 지워지므로 이력이 없는 충전기만 지운다
+    private static final String DELETE_CHARGER = """
+            DELETE FROM charger c USING charging_station s
+            WHERE c.station_id = s.id AND s.region_code = ? AND s.station_code = ? AND c.charger_code = ?
+              AND NOT EXISTS (SELECT 1 FROM charging_session cs WHERE cs.charger_id = c.id)
+              AND NOT EXISTS (SELECT 1 FROM reservation r WHERE r.charger_id = c.id)
+            """;
+
+    // 해시를 비워 두어야 다시 나타났을 때 ChangeTracker가 바뀐 항목으로 보고 upsert가 상태를 되돌린다
+    private static final String RETIRE_CHARGER = """
+            UPDATE charger c SET status = 'OUT_OF_SERVICE', last_status_changed_at = now(), retired_at = now(),
+                                 content_hash = NULL
+            FROM charging_station s
+            WHERE c.station_id = s.id AND s.region_code = ? AND s.station_code = ? AND c.charger_code = ?
+              AND c.status = 'AVAILABLE'
+            """;
+
+    private static final String DELETE_STATION = """
+            DELETE FROM charging_station s
+            WHERE s.region_code = ? AND s.station_code = ?
+              AND NOT EXISTS (SELECT 1 FROM charger c WHERE c.station_id = s.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StationChanges stationChanges;
+
+    public ChargerUpsertWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               StationChanges stationChanges) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stationChanges = stationChanges;
+    }
+
+    /**
+     * 항목 묶음을 한 트랜잭션으로 반영하고 반영한 충전소 수를 반환한다.
+     * chgerId가 없는 항목은 충전소만 반영한다.
+     */
+    public int upsert(String regionCode, List<EvChargerApiResponse.Item> items) {
+        Map<String, EvChargerApiResponse.Item> stations = new LinkedHashMap<>();
+        for (EvChargerApiResponse.Item item : items) {
+            if (item.statId() != null) {
+                stations.putIfAbsent(item.statId(), item);
+            }
+        }
+
+        List<Object[]> stationArgs = stations.values().stream()
+                .map(item -> new Object[]{
+                        item.statId(),
+                        Objects.requireNonNullElse(item.statNm(), item.statId()),
+                        Objects.requireNonNullElse(item.addr(), ""),
+                        parseDouble(item.lat()),
+                        parseDouble(item.lng()),
+                        item.busiNm(),
+                        item.busiCall(),
+                        item.useTime(),
+                        regionCode,
+                        ContentHash.station(item)})
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPSERT_STATION, stationArgs);
+            Map<String, Long> stationIds = findStationIds(stations.keySet());
+
+            List<Object[]> chargerArgs = new ArrayList<>(items.size());
+            for (EvChargerApiResponse.Item item : items) {
+                Long stationId = item.statId() != null ? stationIds.get(item.statId()) : null;
+                if (stationId == null || item.chgerId() == null) {
+                    continue;
+                }
+                chargerArgs.add(new Object[]{
+                        stationId,
+                        item.chgerId(),
+                        mapChargerType(item.chgerType()).name(),
+                        parsePowerKw(item.output()),
+                        mapConnectorType(item.chgerType()).name(),
+                        ContentHash.charger(item)});
+            }
+            jdbcTemplate.batchUpdate(UPSERT_CHARGER, chargerArgs);
+            stationChanges.changed(stationIds.values());
+        });
+        return stationArgs.size();
+    }
+
+    /**
+     * 한 지역의 현재 콘텐츠 해시를 읽는다. 지역이 정해지지 않은 행도 포함한다.
+     */
+    ContentHashes loadContentHashes(String regionCode) {
+        ContentHashes hashes = ContentHashes.empty();
+        jdbcTemplate.query(SELECT_CONTENT_HASHES, rs -> {
+            String stationCode = rs.getString(1);
+            hashes.stations().put(stationCode, rs.getObject(2, Long.class));
+            String chargerCode = rs.getString(3);
+            if (chargerCode != null) {
+                hashes.chargers().put(new ChargerKey(stationCode, chargerCode), rs.getObject(4, Long.class));
+            }
+        }, regionCode);
+        return hashes;
+    }
+
+    /**
+     * 공공 API에서 사라진 충전기와 충전소를 지운다. 해당 지역으로 적재된 행만 대상이다.
+     * 이력이 있는 충전기는 지우지 않고 사용 가능 상태일 때만 OUT_OF_SERVICE로 돌리며,
+     * 충전기가 남아 있는 충전소도 지우지 않는다.
+     */
+    Removal removeMissing(String regionCode, Collection<String> stationCodes, Collection<ChargerKey> chargers) {
+        if (stationCodes.isEmpty() && chargers.isEmpty()) {
+            return Removal.NONE;
+        }
+        List<Object[]> chargerArgs = chargers.stream()
+                .map(key -> new Object[]{regionCode, key.stationCode(), key.chargerCode()})
+                .toList();
+        List<Object[]> stationArgs = stationCodes.stream()
+                .map(code -> new Object[]{regionCode, code})
+                .toList();
+
+        Set<String> affected = new HashSet<>(stationCodes);
+        chargers.forEach(key -> affected.add(key.stationCode()));
+
+        return transactionTemplate.execute(status -> {
+            stationChanges.changed(findStationIds(affected).values());
+            int chargersDeleted = sum(jdbcTemplate.batchUpdate(DELETE_CHARGER, chargerArgs));
+            int chargersRetired = sum(jdbcTemplate.batchUpdate(RETIRE_CHARGER, chargerArgs));
+            int stationsDeleted = sum(jdbcTemplate.batchUpdate(DELETE_STATION, stationArgs));
+            return new Removal(stationsDeleted, chargersDeleted, chargersRetired);
+        });
+    }
+
+    private Map<String, Long> findStationIds(Collection<String> stationCodes) {
+        Map<String, Long> ids = new HashMap<>(stationCodes.size() * 2);
+        if (stationCodes.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query(SELECT_STATION_IDS, ps -> {
+            Array array = ps.getConnection().createArrayOf("text", stationCodes.toArray());
+            ps.setArray(1, array);
+        }, rs -> {
+            ids.put(rs.getString(1), rs.getLong(2));
+        });
+        return ids;
+    }
+
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 돌려준다
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    public record Removal(int stationsDeleted, int chargersDeleted, int chargersRetired) {
+        static final Removal NONE = new Removal(0, 0, 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.evcharging.api.infra.openapi;
+
+import java.util.function.Supplier;
+
+/**
+ * 연속 실패가 failureThreshold번 쌓이면 열려서 openNanos 동안 호출을 막는 회로 차단기.
+ *
+ * <p>열린 시간이 지나면 반쯤 열린 상태가 되어 시험 호출 하나만 통과시킨다. 시험 호출이 성공하면 닫히고,
+ * 실패하면 다시 openNanos 동안 열린다. API가 내려간 동안 재시도와 동시 요청이 쌓여 스레드와
+ * 커넥션을 붙잡지 않도록 하기 위함이다.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    CircuitBreaker(int failureThreshold, long openNanos) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    <T> T call(String label, Supplier<T> call) {
+        if (!tryAcquire(System.nanoTime())) {
+            throw new CircuitOpenException("공공 API 회로 차단기가 열려 있어 호출하지 않았습니다: " + label);
+        }
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (EvChargerApiException e) {
+            onFailure(System.nanoTime());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            // 응답을 소비하던 쪽(DB 쓰기 등)의 오류는 API 실패로 세지 않고, 시험 호출 자리만 돌려준다
+            releaseProbe();
+            throw e;
+        }
+    }
+
+    synchronized boolean tryAcquire(long nowNanos) {
+        if (state == State.OPEN && nowNanos - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    synchronized void onFailure(long nowNanos) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nowNanos;
+            probeInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.evcharging.api.infra.openapi;
+
+/**
+ * 회로 차단기가 열려 있어 공공 API를 호출하지 않았을 때 발생한다. 재시도하지 않는다.
+ */
+public class CircuitOpenException extends EvChargerApiException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,182 @@
+package com.evcharging.api.infra.openapi;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 공공 API 응답 본문을 ETag/Last-Modified와 함께 디스크에 보관한다.
+ *
+ * <p>키는 ServiceKey를 뺀 요청 파라미터 문자열이며, 파일 이름은 키의 SHA-256이다. 다음 요청에
+ * If-None-Match/If-Modified-Since를 붙여 304를 받으면 보관한 본문을 다시 읽는다. 본문을 먼저
+ * 원자적으로 옮긴 뒤 메타 파일을 옮기므로, 메타 파일이 있으면 짝이 되는 본문도 온전하다.
+ */
+class ConditionalResponseCache {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path dir;
+
+    ConditionalResponseCache(Path dir) {
+        this.dir = dir;
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 캐시 디렉터리를 만들 수 없습니다: " + dir, e);
+        }
+    }
+
+    Optional<Entry> lookup(String key) {
+        Path meta = dir.resolve(fileName(key) + ".meta");
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        // 해시 충돌이나 손상된 파일은 캐시가 없는 것으로 본다
+        if (!key.equals(properties.getProperty("key"))) {
+            return Optional.empty();
+        }
+        Path body = dir.resolve(fileName(key) + ".body");
+        if (!Files.isRegularFile(body)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Entry(body, properties.getProperty("etag"), properties.getProperty("lastModified")));
+    }
+
+    /**
+     * 응답 본문을 읽으면서 그대로 임시 파일에 복사하는 스트림을 돌려준다. 본문을 끝까지 읽은 뒤
+     * {@link Recording#commit}을 호출해야 캐시에 반영된다.
+     */
+    Recording record(String key, InputStream body) throws IOException {
+        Path temp = Files.createTempFile(dir, fileName(key), ".tmp");
+        return new Recording(key, body, temp);
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Entry(Path body, String etag, String lastModified) {
+
+        InputStream open() throws IOException {
+            return new BufferedInputStream(Files.newInputStream(body), BUFFER_SIZE);
+        }
+    }
+
+    final class Recording extends FilterInputStream {
+
+        private final String key;
+        private final Path temp;
+        private final OutputStream copy;
+        private boolean closed;
+        private boolean discarded;
+
+        private Recording(String key, InputStream body, Path temp) throws IOException {
+            super(body);
+            this.key = key;
+            this.temp = temp;
+            this.copy = new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                copy.write(buffer, offset, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return Math.max(0, read(new byte[(int) Math.min(n, BUFFER_SIZE)]));
+        }
+
+        /**
+         * 파서가 닫을 때 남은 본문(끝의 공백 등)까지 읽어 복사본이 응답과 같도록 한다.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                byte[] buffer = new byte[8192];
+                while (!discarded && read(buffer, 0, buffer.length) >= 0) {
+                    // 남은 본문을 복사본에 흘려 보낸다
+                }
+            } finally {
+                copy.close();
+                super.close();
+            }
+        }
+
+        void commit(String etag, String lastModified) throws IOException {
+            close();
+            String name = fileName(key);
+            Files.move(temp, dir.resolve(name + ".body"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Properties properties = new Properties();
+            properties.setProperty("key", key);
+            if (etag != null) {
+                properties.setProperty("etag", etag);
+            }
+            if (lastModified != null) {
+                properties.setProperty("lastModified", lastModified);
+            }
+            Path metaTemp = Files.createTempFile(dir, name, ".meta.tmp");
+            try (Writer writer = Files.newBufferedWriter(metaTemp, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            Files.move(metaTemp, dir.resolve(name + ".meta"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        void discard() {
+            discarded = true;
+            try {
+                close();
+            } catch (IOException ignored) {
+                // 버릴 복사본이므로 닫기 실패는 무시한다
+            }
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 다음 기록 때 덮어쓰이지 않는 임시 파일이지만 동작에는 영향이 없다
+            }
+        }
+    }
+}
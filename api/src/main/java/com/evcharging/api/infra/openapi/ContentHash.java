@@ -0,0 +1,72 @@
+package com.evcharging.api.infra.openapi;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapChargerType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.mapConnectorType;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parseDouble;
+import static com.evcharging.api.infra.openapi.EvChargerItems.parsePowerKw;
+
+/**
+ * 공공 API 항목에서 충전소/충전기 행에 저장되는 값만 골라 64비트 해시를 만든다.
+ *
+ * <p>원문 문자열이 아니라 DB에 쓰이는 정규화된 값(코드 변환, 숫자 파싱, 기본값 적용 후)을 해시하므로,
+ * "37.50"과 "37.5"처럼 표기만 다른 응답은 같은 해시가 된다. 상태(stat)는 상태 동기화가 관리하므로 제외한다.
+ */
+final class ContentHash {
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final byte SEPARATOR = 0x1F;
+    private static final byte NULL = 0x00;
+
+    private ContentHash() {}
+
+    static long station(EvChargerApiResponse.Item item) {
+        long h = FNV_OFFSET;
+        h = add(h, Objects.requireNonNullElse(item.statNm(), item.statId()));
+        h = add(h, Objects.requireNonNullElse(item.addr(), ""));
+        h = add(h, number(parseDouble(item.lat())));
+        h = add(h, number(parseDouble(item.lng())));
+        h = add(h, item.busiNm());
+        h = add(h, item.busiCall());
+        h = add(h, item.useTime());
+        return mix(h);
+    }
+
+    static long charger(EvChargerApiResponse.Item item) {
+        BigDecimal powerKw = parsePowerKw(item.output());
+        long h = FNV_OFFSET;
+        h = add(h, mapChargerType(item.chgerType()).name());
+        h = add(h, powerKw != null ? powerKw.stripTrailingZeros().toPlainString() : null);
+        h = add(h, mapConnectorType(item.chgerType()).name());
+        return mix(h);
+    }
+
+    private static String number(Double value) {
+        return value != null ? value.toString() : null;
+    }
+
+    // 필드 경계를 구분자로 표시해 ("ab", "c")와 ("a", "bc")가 같은 해시가 되지 않게 한다
+    private static long add(long h, String value) {
+        if (value == null) {
+            h = (h ^ NULL) * FNV_PRIME;
+        } else {
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h = (h ^ (b & 0xFF)) * FNV_PRIME;
+            }
+        }
+        return (h ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
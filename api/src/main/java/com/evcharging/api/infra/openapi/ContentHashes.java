@@ -0,0 +1,14 @@
+package com.evcharging.api.infra.openapi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 적재 전에 읽어 둔 한 지역의 충전소/충전기 콘텐츠 해시. 해시가 비어 있는(null) 행은 항상 바뀐 것으로 본다.
+ */
+record ContentHashes(Map<String, Long> stations, Map<ChargerKey, Long> chargers) {
+
+    static ContentHashes empty() {
+        return new ContentHashes(new HashMap<>(), new HashMap<>());
+    }
+}
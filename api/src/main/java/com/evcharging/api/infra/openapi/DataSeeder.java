@@ -1,22 +1,21 @@
 package com.evcharging.api.infra.openapi;
 
-import com.evcharging.api.domain.charger.Charger;
-import com.evcharging.api.domain.charger.ChargerType;
-import com.evcharging.api.domain.charger.ConnectorType;
-import com.evcharging.api.domain.station.ChargingStation;
 import com.evcharging.api.domain.station.StationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+/**
+ * 충전소가 하나도 없으면 로컬 스냅샷 파일, 공공 API 순으로 초기 데이터를 적재한다.
+ * 둘 다 쓸 수 없으면 data.sql 폴백에 의존한다.
+ */
 @Component
 public class DataSeeder implements ApplicationRunner {
 
@@ -24,87 +23,63 @@ public class DataSeeder implements ApplicationRunner {
 
     private final StationRepository stationRepository;
     private final EvChargerApiClient apiClient;
+    private final NationwideIngestionJob ingestionJob;
+    private final ChargerSnapshotLoader snapshotLoader;
+    private final String snapshotPath;
 
-    public DataSeeder(StationRepository stationRepository, EvChargerApiClient apiClient) {
+    public DataSeeder(StationRepository stationRepository,
+                      EvChargerApiClient apiClient,
+                      NationwideIngestionJob ingestionJob,
+                      ChargerSnapshotLoader snapshotLoader,
+                      @Value("${openapi.snapshot.path:}") String snapshotPath) {
         this.stationRepository = stationRepository;
         this.apiClient = apiClient;
+        this.ingestionJob = ingestionJob;
+        this.snapshotLoader = snapshotLoader;
+        this.snapshotPath = snapshotPath;
     }
 
     @Override
-    @Transactional
     public void run(ApplicationArguments args) {
         if (stationRepository.count() > 0) {
             log.info("DB에 충전소 데이터가 이미 존재합니다. 시딩 건너뜀.");
             return;
         }
-
-        List<EvChargerApiResponse.Item> items = apiClient.fetchSeoulChargers(1, 100);
-        if (items.isEmpty()) {
-            log.warn("공공 API에서 데이터를 가져오지 못했습니다. data.sql 폴백에 의존합니다.");
+        if (seedFromSnapshot()) {
             return;
         }
-
-        Map<String, ChargingStation> stationMap = new LinkedHashMap<>();
-        for (EvChargerApiResponse.Item item : items) {
-            ChargingStation station = stationMap.computeIfAbsent(item.statId(), statId ->
-                    new ChargingStation(
-                            statId,
-                            item.statNm(),
-                            item.addr(),
-                            parseDouble(item.lat()),
-                            parseDouble(item.lng()),
-                            item.busiNm(),
-                            item.busiCall(),
-                            item.useTime()
-                    ));
-
-            Charger charger = new Charger(
-                    item.chgerId(),
-                    mapChargerType(item.chgerType()),
-                    parsePowerKw(item.output()),
-                    mapConnectorType(item.chgerType())
-            );
-            station.addCharger(charger);
+        if (!apiClient.isConfigured()) {
+            log.warn("공공 API 서비스 키가 설정되지 않았습니다. data.sql 폴백에 의존합니다.");
+            return;
         }
 
-        stationRepository.saveAll(stationMap.values());
-        log.info("공공 API에서 {}개 충전소, {}개 충전기를 시딩했습니다.",
-                stationMap.size(), items.size());
-    }
-
-    private ChargerType mapChargerType(String chgerType) {
-        if (chgerType == null) return ChargerType.AC_SLOW;
-        return switch (chgerType) {
-            case "01" -> ChargerType.DC_FAST;
-            case "02" -> ChargerType.AC_SLOW;
-            case "03" -> ChargerType.DC_COMBO;
-            default -> ChargerType.AC_SLOW;
-        };
-    }
-
-    private ConnectorType mapConnectorType(String chgerType) {
-        if (chgerType == null) return ConnectorType.AC_TYPE_1;
-        return switch (chgerType) {
-            case "01" -> ConnectorType.CHADEMO;
-            case "02" -> ConnectorType.AC_TYPE_1;
-            case "03" -> ConnectorType.CCS1;
-            default -> ConnectorType.AC_TYPE_1;
-        };
-    }
-
-    private Double parseDouble(String value) {
         try {
-            return value != null ? Double.parseDouble(value) : null;
-        } catch (NumberFormatException e) {
-            return null;
+            NationwideIngestionResult result = ingestionJob.ingestAll();
+            if (result.itemCount() == 0) {
+                log.warn("공공 API에서 데이터를 가져오지 못했습니다. data.sql 폴백에 의존합니다.");
+            }
+            if (!result.failedRegions().isEmpty()) {
+                log.warn("일부 지역을 적재하지 못했습니다. 다음 적재에서 이어받습니다: {}", result.failedRegions().keySet());
+            }
+        } catch (EvChargerApiException e) {
+            log.warn("공공 API 시딩 실패. data.sql 폴백에 의존합니다: {}", e.getMessage());
         }
     }
 
-    private BigDecimal parsePowerKw(String output) {
+    private boolean seedFromSnapshot() {
+        if (snapshotPath.isBlank()) {
+            return false;
+        }
+        Path file = Path.of(snapshotPath);
+        if (!Files.isRegularFile(file)) {
+            log.warn("스냅샷 파일이 없습니다: {}. 공공 API 시딩을 시도합니다.", file);
+            return false;
+        }
         try {
-            return output != null ? new BigDecimal(output) : null;
-        } catch (NumberFormatException e) {
-            return null;
+            return snapshotLoader.load(file).rowCount() > 0;
+        } catch (UncheckedIOException | IllegalArgumentException e) {
+            log.warn("스냅샷 시딩 실패. 공공 API 시딩을 시도합니다: {}", e.getMessage());
+            return false;
         }
     }
 }
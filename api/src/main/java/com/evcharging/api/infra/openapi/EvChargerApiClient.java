@@ -1,59 +1,327 @@
 package com.evcharging.api.infra.openapi;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+/**
+ * 공공데이터포털 전기차 충전소 API 클라이언트.
+ *
+ * <p>커넥션 풀을 둔 Apache HttpClient를 쓰며 연결/응답 타임아웃을 건다. 요청에 Accept-Encoding: gzip을
+ * 붙이고 압축된 응답은 HttpClient가 풀어서 넘긴다. 모든 호출은 {@link CircuitBreaker}를 거친다.
+ *
+ * <p>openapi.http.cache-dir을 지정하면 충전기 정보 페이지를 ETag/Last-Modified와 함께 디스크에 보관하고,
+ * 다음 요청을 조건부로 보내 바뀌지 않은 페이지는 304로 받아 보관본을 다시 읽는다.
+ */
 @Component
 public class EvChargerApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(EvChargerApiClient.class);
-    private static final String BASE_URL = "http://apis.data.go.kr/B552584/EvCharger";
+    static final String SEOUL_ZCODE = "11";
 
+    private final CloseableHttpClient httpClient;
     private final RestClient restClient;
+    private final EvChargerResponseParser responseParser = new EvChargerResponseParser();
+    private final CircuitBreaker circuitBreaker;
+    private final ConditionalResponseCache responseCache;
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
     private final String serviceKey;
+    private final String encodedServiceKey;
 
-    public EvChargerApiClient(@Value("${openapi.service-key:}") String serviceKey) {
-        this.restClient = RestClient.create();
+    public EvChargerApiClient(String serviceKey, String baseUrl) {
+        this(serviceKey, baseUrl, 3000, 15000, 32, 5, 30000, "");
+    }
+
+    public EvChargerApiClient(String serviceKey, String baseUrl, long connectTimeoutMs, long readTimeoutMs,
+                              int maxConnections, int failureThreshold, long openMs, String cacheDir) {
+        this(serviceKey, baseUrl, connectTimeoutMs, readTimeoutMs, maxConnections, failureThreshold, openMs, cacheDir,
+                Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public EvChargerApiClient(@Value("${openapi.service-key:}") String serviceKey,
+                              @Value("${openapi.base-url:http://apis.data.go.kr/B552584/EvCharger}") String baseUrl,
+                              @Value("${openapi.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                              @Value("${openapi.http.read-timeout-ms:15000}") long readTimeoutMs,
+                              @Value("${openapi.http.max-connections:32}") int maxConnections,
+                              @Value("${openapi.http.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${openapi.http.circuit-breaker.open-ms:30000}") long openMs,
+                              @Value("${openapi.http.cache-dir:}") String cacheDir,
+                              MeterRegistry meterRegistry) {
+        this.httpClient = pooledHttpClient(connectTimeoutMs, readTimeoutMs, maxConnections);
+        this.restClient = RestClient.builder()
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofMillis(openMs).toNanos());
+        this.responseCache = cacheDir.isBlank() ? null : new ConditionalResponseCache(Path.of(cacheDir));
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
         this.serviceKey = serviceKey;
+        this.encodedServiceKey = serviceKey.contains("%")
+                ? serviceKey
+                : URLEncoder.encode(serviceKey, StandardCharsets.UTF_8);
+    }
+
+    // 기본 설정의 HttpClient는 Accept-Encoding: gzip, deflate를 보내고 응답 압축을 자동으로 푼다
+    private static CloseableHttpClient pooledHttpClient(long connectTimeoutMs, long readTimeoutMs, int maxConnections) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    public boolean isConfigured() {
+        return serviceKey != null && !serviceKey.isBlank();
     }
 
     public List<EvChargerApiResponse.Item> fetchSeoulChargers(int pageNo, int numOfRows) {
-        if (serviceKey == null || serviceKey.isBlank()) {
+        if (!isConfigured()) {
             log.warn("공공 API 서비스 키가 설정되지 않았습니다.");
             return Collections.emptyList();
         }
 
         try {
-            // 공공데이터포털 API는 이미 인코딩된 ServiceKey를 직접 URL에 넣어야 함
-            // UriBuilder.queryParam을 사용하면 이중 인코딩 발생
-            String url = BASE_URL + "/getChargerInfo"
-                    + "?ServiceKey=" + serviceKey
-                    + "&pageNo=" + pageNo
-                    + "&numOfRows=" + numOfRows
-                    + "&zcode=11"
-                    + "&dataType=JSON";
-
-            EvChargerApiResponse response = restClient.get()
-                    .uri(URI.create(url))
-                    .retrieve()
-                    .body(EvChargerApiResponse.class);
-
-            if (response != null && response.items() != null) {
-                List<EvChargerApiResponse.Item> items = response.items().item();
-                log.info("공공 API에서 {}건 조회 완료 (pageNo={}, numOfRows={})",
-                        items.size(), pageNo, numOfRows);
-                return items;
-            }
+            EvChargerApiResponse response = fetchPage(SEOUL_ZCODE, pageNo, numOfRows);
+            List<EvChargerApiResponse.Item> items = response.itemList();
+            log.info("공공 API에서 {}건 조회 완료 (pageNo={}, numOfRows={})",
+                    items.size(), pageNo, numOfRows);
+            return items;
         } catch (Exception e) {
             log.warn("공공 API 호출 실패: {}", e.getMessage());
         }
         return Collections.emptyList();
     }
+
+    /**
+     * 충전기 정보 한 페이지를 조회한다. 실패하면 예외를 던지므로 호출자가 재시도를 결정한다.
+     */
+    public EvChargerApiResponse fetchPage(String zcode, int pageNo, int numOfRows) {
+        return call("getChargerInfo", () -> {
+            EvChargerApiResponse response;
+            try {
+                response = restClient.get()
+                        .uri(chargerInfoUri(zcode, pageNo, numOfRows))
+                        .retrieve()
+                        .body(EvChargerApiResponse.class);
+            } catch (RestClientException e) {
+                throw new EvChargerApiException("공공 API 호출 실패 (pageNo=" + pageNo + "): " + e.getMessage(), e);
+            }
+            if (response == null || (response.resultCode() != null && !"00".equals(response.resultCode()))) {
+                throw new EvChargerApiException("공공 API 오류 응답 (pageNo=" + pageNo + "): "
+                        + (response != null ? response.resultCode() + " " + response.resultMsg() : "빈 응답"));
+            }
+            return response;
+        });
+    }
+
+    /**
+     * 충전기 정보 한 페이지를 스트리밍으로 읽어 항목을 도착하는 대로 consumer에 넘긴다.
+     * 페이지 전체를 메모리에 올리지 않으므로 numOfRows가 커도 사용량이 일정하다.
+     * 응답 캐시가 켜져 있고 페이지가 바뀌지 않았으면 보관한 본문을 읽는다.
+     */
+    public EvChargerResponseParser.PageHeader streamPage(String zcode, int pageNo, int numOfRows,
+                                                         Consumer<EvChargerApiResponse.Item> consumer) {
+        String cacheKey = "getChargerInfo?zcode=" + zcode + "&pageNo=" + pageNo + "&numOfRows=" + numOfRows;
+        Optional<ConditionalResponseCache.Entry> cached = responseCache != null
+                ? responseCache.lookup(cacheKey)
+                : Optional.empty();
+
+        EvChargerResponseParser.PageHeader header = call("getChargerInfo", () -> {
+            try {
+                return restClient.get()
+                        .uri(chargerInfoUri(zcode, pageNo, numOfRows))
+                        .headers(headers -> cached.ifPresent(entry -> conditionalHeaders(headers, entry)))
+                        .exchange((request, response) -> {
+                            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached.isPresent()) {
+                                notModifiedCount.incrementAndGet();
+                                try (InputStream body = cached.get().open()) {
+                                    return responseParser.parse(body, consumer);
+                                }
+                            }
+                            if (response.getStatusCode().isError()) {
+                                throw new EvChargerApiException("공공 API 호출 실패 (pageNo=" + pageNo + "): "
+                                        + response.getStatusCode());
+                            }
+                            return parseAndRecord(cacheKey, response.getHeaders(), response.getBody(), consumer);
+                        });
+            } catch (RestClientException e) {
+                throw new EvChargerApiException("공공 API 호출 실패 (pageNo=" + pageNo + "): " + e.getMessage(), e);
+            }
+        });
+        if (header == null || !header.isSuccess()) {
+            throw new EvChargerApiException("공공 API 오류 응답 (pageNo=" + pageNo + "): "
+                    + (header != null ? header.resultCode() + " " + header.resultMsg() : "빈 응답"));
+        }
+        return header;
+    }
+
+    /**
+     * 회로 차단기를 거쳐 호출하고, 실제로 나간 호출의 지연을 operation과 결과별로 기록한다.
+     */
+    private <T> T call(String operation, Supplier<T> call) {
+        return circuitBreaker.call(operation, () -> {
+            long startedAt = System.nanoTime();
+            boolean success = false;
+            try {
+                T result = call.get();
+                success = true;
+                return result;
+            } finally {
+                Timer.builder("openapi.fetch")
+                        .description("공공 API 호출 지연")
+                        .tag("operation", operation)
+                        .tag("outcome", success ? "success" : "error")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * 캐시 검증자가 있는 정상 응답이면 읽는 동안 본문을 디스크에 복사해 두고, 끝까지 읽은 뒤 반영한다.
+     */
+    private EvChargerResponseParser.PageHeader parseAndRecord(String cacheKey, HttpHeaders headers, InputStream body,
+                                                              Consumer<EvChargerApiResponse.Item> consumer)
+            throws IOException {
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (responseCache == null || (etag == null && lastModified == null)) {
+            try (body) {
+                return responseParser.parse(body, consumer);
+            }
+        }
+
+        ConditionalResponseCache.Recording recording = responseCache.record(cacheKey, body);
+        try {
+            EvChargerResponseParser.PageHeader header = responseParser.parse(recording, consumer);
+            if (header.isSuccess()) {
+                recording.commit(etag, lastModified);
+            } else {
+                recording.discard();
+            }
+            return header;
+        } catch (IOException | RuntimeException e) {
+            recording.discard();
+            throw e;
+        }
+    }
+
+    private static void conditionalHeaders(HttpHeaders headers, ConditionalResponseCache.Entry entry) {
+        if (entry.etag() != null) {
+            headers.setIfNoneMatch(entry.etag());
+        }
+        if (entry.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+        }
+    }
+
+    /**
+     * 조건부 요청에 304를 받아 보관본을 다시 읽은 페이지 수.
+     */
+    public long notModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * 최근 periodMinutes분 안에 상태가 바뀐 충전기 목록 한 페이지를 조회한다.
+     */
+    public EvChargerStatusResponse fetchStatusPage(String zcode, int periodMinutes, int pageNo, int numOfRows) {
+        URI uri = apiUri("/getChargerStatus")
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", numOfRows)
+                .queryParam("period", periodMinutes)
+                .queryParam("zcode", zcode)
+                .queryParam("dataType", "JSON")
+                .build(true)
+                .toUri();
+
+        return call("getChargerStatus", () -> {
+            EvChargerStatusResponse response;
+            try {
+                response = restClient.get()
+                        .uri(uri)
+                        .retrieve()
+                        .body(EvChargerStatusResponse.class);
+            } catch (RestClientException e) {
+                throw new EvChargerApiException("공공 API 상태 조회 실패 (pageNo=" + pageNo + "): " + e.getMessage(), e);
+            }
+            if (response == null || (response.resultCode() != null && !"00".equals(response.resultCode()))) {
+                throw new EvChargerApiException("공공 API 오류 응답 (pageNo=" + pageNo + "): "
+                        + (response != null ? response.resultCode() + " " + response.resultMsg() : "빈 응답"));
+            }
+            return response;
+        });
+    }
+
+    private URI chargerInfoUri(String zcode, int pageNo, int numOfRows) {
+        return apiUri("/getChargerInfo")
+                .queryParam("pageNo", pageNo)
+                .queryParam("numOfRows", numOfRows)
+                .queryParam("zcode", zcode)
+                .queryParam("dataType", "JSON")
+                .build(true)
+                .toUri();
+    }
+
+    // 공공데이터포털은 인코딩용/디코딩용 키를 함께 발급한다. 인코딩용 키를 다시 인코딩하면 인증에 실패하므로
+    // 키는 생성자에서 한 번만 인코딩해 두고, 모든 값을 인코딩된 것으로 취급하는 build(true)로 조립한다
+    private UriComponentsBuilder apiUri(String operation) {
+        return UriComponentsBuilder.fromUriString(baseUrl + operation)
+                .queryParam("ServiceKey", encodedServiceKey);
+    }
 }
@@ -0,0 +1,15 @@
+package com.evcharging.api.infra.openapi;
+
+/**
+ * 공공 API 호출이 실패했거나 정상 응답이 아닐 때 발생한다. 재시도 대상이다.
+ */
+public class EvChargerApiException extends RuntimeException {
+
+    public EvChargerApiException(String message) {
+        super(message);
+    }
+
+    public EvChargerApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
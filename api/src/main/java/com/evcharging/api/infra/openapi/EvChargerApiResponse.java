@@ -10,6 +10,10 @@ public record EvChargerApiResponse(
         int numOfRows,
         Items items
 ) {
+    public List<Item> itemList() {
+        return items != null && items.item() != null ? items.item() : List.of();
+    }
+
     public record Items(List<Item> item) {}
 
     public record Item(
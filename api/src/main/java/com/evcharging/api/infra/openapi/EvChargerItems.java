@@ -0,0 +1,70 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+
+import java.math.BigDecimal;
+
+/**
+ * 공공 API 충전기 항목의 코드 값을 도메인 값으로 변환한다.
+ */
+final class EvChargerItems {
+
+    private EvChargerItems() {}
+
+    static ChargerType mapChargerType(String chgerType) {
+        if (chgerType == null) return ChargerType.AC_SLOW;
+        return switch (chgerType) {
+            case "01" -> ChargerType.DC_FAST;
+            case "02" -> ChargerType.AC_SLOW;
+            case "03" -> ChargerType.DC_COMBO;
+            default -> ChargerType.AC_SLOW;
+        };
+    }
+
+    static ConnectorType mapConnectorType(String chgerType) {
+        if (chgerType == null) return ConnectorType.AC_TYPE_1;
+        return switch (chgerType) {
+            case "01" -> ConnectorType.CHADEMO;
+            case "02" -> ConnectorType.AC_TYPE_1;
+            case "03" -> ConnectorType.CCS1;
+            default -> ConnectorType.AC_TYPE_1;
+        };
+    }
+
+    /**
+     * {@link #mapChargerType}의 역변환. 스냅샷을 쓸 때 사용한다.
+     */
+    static String chargerTypeCode(ChargerType type) {
+        return switch (type) {
+            case DC_FAST -> "01";
+            case AC_SLOW -> "02";
+            case DC_COMBO -> "03";
+        };
+    }
+
+    static String statusCode(ChargerStatus status) {
+        return switch (status) {
+            case AVAILABLE -> "2";
+            case CHARGING -> "3";
+            case OUT_OF_SERVICE -> "4";
+        };
+    }
+
+    static Double parseDouble(String value) {
+        try {
+            return value != null ? Double.parseDouble(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static BigDecimal parsePowerKw(String output) {
+        try {
+            return output != null ? new BigDecimal(output) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.evcharging.api.infra.openapi;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 공공 API 충전기 정보 응답을 스트리밍으로 읽는다.
+ *
+ * <p>응답 전체를 레코드로 바인딩하지 않고, item 배열의 원소를 하나씩 만들어 바로 consumer에 넘긴다.
+ * 메모리에는 현재 읽고 있는 항목 하나만 남으므로 numOfRows가 커져도 사용량이 늘지 않는다.
+ * 헤더 필드(resultCode, totalCount 등)는 items 앞뒤 어디에 있어도 읽어 반환한다.
+ */
+public class EvChargerResponseParser {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public PageHeader parse(InputStream in, Consumer<EvChargerApiResponse.Item> consumer) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("응답이 JSON 객체가 아닙니다");
+            }
+            String resultCode = null;
+            String resultMsg = null;
+            int totalCount = 0;
+            int pageNo = 0;
+            int numOfRows = 0;
+            int itemCount = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "resultCode" -> resultCode = parser.getValueAsString();
+                    case "resultMsg" -> resultMsg = parser.getValueAsString();
+                    case "totalCount" -> totalCount = parser.getValueAsInt();
+                    case "pageNo" -> pageNo = parser.getValueAsInt();
+                    case "numOfRows" -> numOfRows = parser.getValueAsInt();
+                    case "items" -> itemCount += readItems(parser, value, consumer);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new PageHeader(resultCode, resultMsg, totalCount, pageNo, numOfRows, itemCount);
+        }
+    }
+
+    // items는 {"item": [...]} 형태이며, 결과가 한 건이면 item이 배열이 아닌 객체로 오기도 한다
+    private int readItems(JsonParser parser, JsonToken value, Consumer<EvChargerApiResponse.Item> consumer)
+            throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"item".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(readItem(parser));
+                    count++;
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                consumer.accept(readItem(parser));
+                count++;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 현재 위치한 START_OBJECT 다음부터 항목 하나를 읽는다. 스냅샷 파일도 같은 필드 이름을 쓴다.
+     */
+    static EvChargerApiResponse.Item readItem(JsonParser parser) throws IOException {
+        String statNm = null, statId = null, chgerId = null, chgerType = null, addr = null, lat = null,
+                lng = null, busiNm = null, busiCall = null, useTime = null, stat = null, output = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (!parser.nextToken().isScalarValue()) {
+                parser.skipChildren();
+                continue;
+            }
+            // 숫자로 오는 값도 문자열로 받는다
+            String text = parser.getValueAsString();
+            switch (field) {
+                case "statNm" -> statNm = text;
+                case "statId" -> statId = text;
+                case "chgerId" -> chgerId = text;
+                case "chgerType" -> chgerType = text;
+                case "addr" -> addr = text;
+                case "lat" -> lat = text;
+                case "lng" -> lng = text;
+                case "busiNm" -> busiNm = text;
+                case "busiCall" -> busiCall = text;
+                case "useTime" -> useTime = text;
+                case "stat" -> stat = text;
+                case "output" -> output = text;
+                default -> parser.skipChildren();
+            }
+        }
+        return new EvChargerApiResponse.Item(statNm, statId, chgerId, chgerType, addr, lat, lng,
+                busiNm, busiCall, useTime, stat, output);
+    }
+
+    /**
+     * @param itemCount 이 페이지에서 consumer에 넘긴 항목 수
+     */
+    public record PageHeader(
+            String resultCode,
+            String resultMsg,
+            int totalCount,
+            int pageNo,
+            int numOfRows,
+            int itemCount
+    ) {
+        public boolean isSuccess() {
+            return resultCode == null || "00".equals(resultCode);
+        }
+    }
+}
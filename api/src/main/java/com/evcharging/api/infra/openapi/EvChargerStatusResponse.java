@@ -0,0 +1,30 @@
+package com.evcharging.api.infra.openapi;
+
+import java.util.List;
+
+public record EvChargerStatusResponse(
+        String resultCode,
+        String resultMsg,
+        int totalCount,
+        int pageNo,
+        int numOfRows,
+        Items items
+) {
+    public List<Item> itemList() {
+        return items != null && items.item() != null ? items.item() : List.of();
+    }
+
+    public record Items(List<Item> item) {}
+
+    /**
+     * @param stat 1: 통신이상, 2: 충전대기, 3: 충전중, 4: 운영중지, 5: 점검중, 9: 상태미확인
+     * @param statUpdDt 상태 갱신 일시 (yyyyMMddHHmmss)
+     */
+    public record Item(
+            String busiId,
+            String statId,
+            String chgerId,
+            String stat,
+            String statUpdDt
+    ) {}
+}
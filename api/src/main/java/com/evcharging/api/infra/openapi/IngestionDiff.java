@@ -0,0 +1,27 @@
+package com.evcharging.api.infra.openapi;
+
+/**
+ * 한 번의 적재에서 기존 데이터와 비교한 결과.
+ *
+ * @param chargersRetired 사라졌지만 세션/예약 이력이 있어 지우지 않고 OUT_OF_SERVICE로 돌린 충전기 수
+ */
+public record IngestionDiff(
+        int stationsInserted,
+        int stationsUpdated,
+        int stationsUnchanged,
+        int stationsDeleted,
+        int chargersInserted,
+        int chargersUpdated,
+        int chargersUnchanged,
+        int chargersDeleted,
+        int chargersRetired
+) {
+    public static IngestionDiff empty() {
+        return new IngestionDiff(0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public boolean hasChanges() {
+        return stationsInserted + stationsUpdated + stationsDeleted
+                + chargersInserted + chargersUpdated + chargersDeleted + chargersRetired > 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.evcharging.api.infra.openapi;
+
+import java.util.List;
+
+/**
+ * @param resumedPages 이전 실행에서 완료해 이번에 건너뛴 페이지 수
+ * @param failedPages 재시도 후에도 가져오지 못한 페이지 번호
+ * @param diff        기존 데이터와 비교한 결과. 실패한 페이지가 있으면 삭제는 하지 않는다
+ */
+public record IngestionResult(
+        String zcode,
+        int totalCount,
+        int pageCount,
+        int resumedPages,
+        int itemCount,
+        List<Integer> failedPages,
+        IngestionDiff diff,
+        long elapsedMs
+) {
+    public boolean isComplete() {
+        return failedPages.isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package com.evcharging.api.infra.openapi;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전국 시도(zcode)를 지역별 파이프라인으로 나눠 parallel-regions개씩 동시에 적재한다.
+ *
+ * <p>각 지역은 {@link ChargerIngestionJob}이 독립적으로 처리한다. 지역마다 충전소 행(region_code)과 체크포인트 행이
+ * 겹치지 않으므로 파이프라인끼리 같은 행을 두고 잠금을 다투지 않는다. 끝까지 가지 못한 지역은 같은 실행에서
+ * 한 번 더 시도하며, 이때 체크포인트로 이미 쓴 페이지를 건너뛴다.
+ */
+@Component
+public class NationwideIngestionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NationwideIngestionJob.class);
+
+    private final EvChargerApiClient apiClient;
+    private final ChargerIngestionJob ingestionJob;
+    private final List<String> regions;
+    private final int parallelRegions;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public NationwideIngestionJob(EvChargerApiClient apiClient,
+                                  ChargerIngestionJob ingestionJob,
+                                  @Value("${openapi.ingestion.regions:11,26,27,28,29,30,31,36,41,42,43,44,45,46,47,48,50}") List<String> regions,
+                                  @Value("${openapi.ingestion.parallel-regions:4}") int parallelRegions) {
+        this.apiClient = apiClient;
+        this.ingestionJob = ingestionJob;
+        this.regions = List.copyOf(regions);
+        this.parallelRegions = parallelRegions;
+    }
+
+    @Scheduled(cron = "${openapi.ingestion.cron:-}")
+    public void run() {
+        if (!apiClient.isConfigured()) {
+            return;
+        }
+        ingestAll();
+    }
+
+    public NationwideIngestionResult ingestAll() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("전국 충전기 적재가 이미 진행 중입니다. 이번 실행은 건너뜁니다.");
+            return new NationwideIngestionResult(List.of(), Map.of(), 0);
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, IngestionResult> results = new LinkedHashMap<>();
+            Map<String, String> failed = new LinkedHashMap<>();
+            ingestRegions(regions, results, failed);
+
+            List<String> retry = regions.stream()
+                    .filter(zcode -> failed.containsKey(zcode) || !results.get(zcode).isComplete())
+                    .toList();
+            if (!retry.isEmpty()) {
+                log.info("끝까지 적재하지 못한 지역 {}을 다시 시도합니다.", retry);
+                retry.forEach(failed::remove);
+                ingestRegions(retry, results, failed);
+            }
+
+            NationwideIngestionResult result = new NationwideIngestionResult(
+                    new ArrayList<>(results.values()), failed, System.currentTimeMillis() - startedAt);
+            log.info("전국 충전기 적재 완료: 지역 {}개, 항목 {}건, 실패 지역 {} ({}ms)",
+                    results.size(), result.itemCount(), failed.keySet(), result.elapsedMs());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void ingestRegions(List<String> zcodes, Map<String, IngestionResult> results, Map<String, String> failed) {
+        Map<String, Future<IngestionResult>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelRegions, Thread.ofVirtual().factory())) {
+            for (String zcode : zcodes) {
+                futures.put(zcode, executor.submit(() -> ingestionJob.ingest(zcode)));
+            }
+            for (Map.Entry<String, Future<IngestionResult>> entry : futures.entrySet()) {
+                try {
+                    results.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    log.warn("zcode={} 적재 실패: {}", entry.getKey(), e.getCause().getMessage());
+                    failed.put(entry.getKey(), String.valueOf(e.getCause().getMessage()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failed.put(entry.getKey(), "중단됨");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.evcharging.api.infra.openapi;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param regions       지역별 적재 결과. 첫 페이지부터 실패한 지역은 없다
+ * @param failedRegions 적재하지 못한 지역과 마지막 오류 메시지
+ */
+public record NationwideIngestionResult(
+        List<IngestionResult> regions,
+        Map<String, String> failedRegions,
+        long elapsedMs
+) {
+    public int itemCount() {
+        return regions.stream().mapToInt(IngestionResult::itemCount).sum();
+    }
+
+    public boolean isComplete() {
+        return failedRegions.isEmpty() && regions.stream().allMatch(IngestionResult::isComplete);
+    }
+}
@@ -0,0 +1,18 @@
+package com.evcharging.api.infra.openapi;
+
+/**
+ * 상태 동기화 1회 실행 결과.
+ *
+ * @param fetched 공공 API에서 받은 상태 행 수
+ * @param changed 현재 상태와 달라 반영 대상이 된 충전기 수
+ * @param applied 실제로 갱신된 충전기 수. 진행 중인 충전 세션이 있는 충전기는 건너뛴다
+ * @param unknown DB에 없는 (stationCode, chargerCode) 조합 수
+ */
+public record StatusSyncResult(
+        String zcode,
+        int fetched,
+        int changed,
+        int applied,
+        int unknown,
+        long durationMs
+) {}
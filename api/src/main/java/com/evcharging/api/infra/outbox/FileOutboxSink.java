@@ -0,0 +1,69 @@
+package com.evcharging.api.infra.outbox;
+
+import com.evcharging.api.domain.event.OutboxEvent;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 이벤트를 로컬 NDJSON 파일에 이어 쓴다. 메시지 브로커가 없는 환경의 대체 싱크.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink.file.path")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public FileOutboxSink(@Value("${outbox.sink.file.path}") String path) {
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+             JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            for (OutboxEvent event : events) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", event.getId());
+                generator.writeStringField("type", event.getType().name());
+                generator.writeNumberField("sessionId", event.getSessionId());
+                generator.writeNumberField("chargerId", event.getChargerId());
+                if (event.getStationId() != null) {
+                    generator.writeNumberField("stationId", event.getStationId());
+                }
+                generator.writeStringField("occurredAt", event.getOccurredAt().toString());
+                if (event.getEnergyDeliveredKwh() != null) {
+                    generator.writeNumberField("energyDeliveredKwh", event.getEnergyDeliveredKwh());
+                }
+                if (event.getCost() != null) {
+                    generator.writeNumberField("cost", event.getCost());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeRaw('\n');
+        }
+    }
+}
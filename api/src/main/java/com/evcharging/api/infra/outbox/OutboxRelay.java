@@ -0,0 +1,102 @@
+package com.evcharging.api.infra.outbox;
+
+import com.evcharging.api.domain.event.EventFeedService;
+import com.evcharging.api.domain.event.OutboxCursor;
+import com.evcharging.api.domain.event.OutboxCursorRepository;
+import com.evcharging.api.domain.event.OutboxEvent;
+import com.evcharging.api.domain.event.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 등록된 싱크마다 배치로 전달한다.
+ *
+ * <p>싱크별 커서 행을 잠근 채로 배치를 읽고, 전달에 성공하면 같은 트랜잭션에서 커서를 전진시킨다.
+ * 여러 인스턴스가 동시에 실행되어도 한 싱크의 배치는 한 곳에서만 전달된다.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final List<OutboxSink> sinks;
+    private final EventFeedService eventFeedService;
+    private final OutboxCursorRepository cursorRepository;
+    private final OutboxEventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int retentionDays;
+
+    public OutboxRelay(ObjectProvider<OutboxSink> sinks,
+                       EventFeedService eventFeedService,
+                       OutboxCursorRepository cursorRepository,
+                       OutboxEventRepository eventRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.retention-days:7}") int retentionDays) {
+        this.sinks = sinks.orderedStream().toList();
+        this.eventFeedService = eventFeedService;
+        this.cursorRepository = cursorRepository;
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        for (OutboxSink sink : sinks) {
+            try {
+                int published;
+                do {
+                    published = relayBatch(sink);
+                } while (published == batchSize);
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 싱크 {} 전달 실패. 다음 주기에 재시도합니다: {}", sink.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 싱크 하나에 다음 배치를 전달하고 전달한 건수를 반환한다.
+     */
+    public int relayBatch(OutboxSink sink) {
+        Integer published = transactionTemplate.execute(status -> {
+            OutboxCursor cursor = cursorRepository.findForUpdate(sink.name())
+                    .orElseGet(() -> cursorRepository.save(new OutboxCursor(sink.name())));
+            List<OutboxEvent> events = eventFeedService.findAfter(cursor.getLastEventId(), batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(events);
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            cursor.advanceTo(events.getLast().getId());
+            return events.size();
+        });
+        return published != null ? published : 0;
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 0 4 * * *}")
+    public void purge() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 싱크가 없으면 풀 방식 소비자만 있으므로 보존 기간만 기준으로 삭제한다
+            LocalDateTime createdBefore = LocalDateTime.now().minusDays(retentionDays);
+            int deleted = sinks.isEmpty()
+                    ? eventRepository.deleteExpired(createdBefore)
+                    : eventRepository.deleteDelivered(createdBefore);
+            log.info("전달 완료된 아웃박스 이벤트 {}건 삭제", deleted);
+        });
+    }
+}
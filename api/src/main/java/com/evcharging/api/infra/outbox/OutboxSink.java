@@ -0,0 +1,16 @@
+package com.evcharging.api.infra.outbox;
+
+import com.evcharging.api.domain.event.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 외부로 전달하는 대상. 전달은 최소 한 번(at-least-once)이므로
+ * 구현체는 이벤트 id로 중복을 걸러야 한다.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    void publish(List<OutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,86 @@
+package com.evcharging.api;
+
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.infra.openapi.ChargerCopyLoader;
+import com.evcharging.api.infra.openapi.EvChargerApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "openapi.service-key="
+})
+class ChargerCopyLoaderIntegrationTest {
+
+    @Autowired
+    ChargerCopyLoader copyLoader;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM charger");
+        jdbcTemplate.update("DELETE FROM charging_station");
+    }
+
+    @Test
+    void copies_into_staging_and_merges_into_stations_and_chargers() {
+        List<EvChargerApiResponse.Item> items = List.of(
+                item("ME000001", "강남\t\"역\"\\공영\n주차장", "01", "01", "50"),
+                item("ME000001", "강남역 공영주차장", "02", "03", "100"),
+                item("ME000001", "중복 행", "02", "02", "7"),
+                item("KP000101", "여의도 충전소", null, null, null));
+
+        ChargerCopyLoader.Result result = copyLoader.load(sink -> items.forEach(sink));
+
+        assertThat(result.rowCount()).isEqualTo(4);
+        assertThat(result.stations()).isEqualTo(2);
+        assertThat(result.chargers()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT name FROM charging_station WHERE station_code = 'ME000001'", String.class))
+                .isEqualTo("강남\t\"역\"\\공영\n주차장");
+        assertThat(jdbcTemplate.query("""
+                        SELECT s.station_code, c.charger_code, c.type, c.connector_type, c.power_kw
+                        FROM charger c JOIN charging_station s ON s.id = c.station_id
+                        ORDER BY c.charger_code
+                        """,
+                (rs, rowNum) -> tuple(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getBigDecimal(5).intValue())))
+                .containsExactly(
+                        tuple("ME000001", "01", ChargerType.DC_FAST.name(), ConnectorType.CHADEMO.name(), 50),
+                        tuple("ME000001", "02", ChargerType.DC_COMBO.name(), ConnectorType.CCS1.name(), 100));
+    }
+
+    @Test
+    void reloading_updates_existing_rows() {
+        copyLoader.load(sink -> sink.accept(item("ME000001", "이전 이름", "01", "02", "7")));
+
+        copyLoader.load(sink -> sink.accept(item("ME000001", "새 이름", "01", "01", "50")));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM charging_station", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM charging_station", String.class)).isEqualTo("새 이름");
+        assertThat(jdbcTemplate.queryForObject("SELECT type FROM charger", String.class))
+                .isEqualTo(ChargerType.DC_FAST.name());
+    }
+
+    private static EvChargerApiResponse.Item item(String statId, String statNm, String chgerId, String chgerType,
+                                                  String output) {
+        return new EvChargerApiResponse.Item(statNm, statId, chgerId, chgerType, "서울", "37.5", "127.0",
+                "환경부", null, "24시간", "2", output);
+    }
+}
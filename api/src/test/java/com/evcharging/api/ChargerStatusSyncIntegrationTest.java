@@ -0,0 +1,107 @@
+package com.evcharging.api;
+
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerRepository;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationRepository;
+import com.evcharging.api.infra.openapi.ChargerStatusSyncJob;
+import com.evcharging.api.infra.openapi.EvChargerApiClient;
+import com.evcharging.api.infra.openapi.EvChargerStatusResponse;
+import com.evcharging.api.infra.openapi.StatusSyncResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "openapi.service-key="
+})
+class ChargerStatusSyncIntegrationTest {
+
+    @Autowired
+    ChargerStatusSyncJob syncJob;
+
+    @Autowired
+    StationRepository stationRepository;
+
+    @Autowired
+    ChargerRepository chargerRepository;
+
+    @MockitoBean
+    EvChargerApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        stationRepository.deleteAll();
+        ChargingStation station = new ChargingStation("ME000001", "강남역 공영주차장", "서울특별시 강남구 강남대로 396",
+                37.4979, 127.0276, "환경부", "1661-9408", "24시간");
+        for (String code : List.of("01", "02", "03")) {
+            station.addCharger(new Charger(code, ChargerType.DC_COMBO, new BigDecimal("100"), ConnectorType.CCS1));
+        }
+        stationRepository.save(station);
+    }
+
+    @Test
+    void applies_only_changed_statuses() {
+        given(apiClient.fetchStatusPage(eq("11"), anyInt(), eq(1), anyInt()))
+                .willReturn(statusPage(
+                        new EvChargerStatusResponse.Item("ME", "ME000001", "01", "3", "20261019101500"),
+                        new EvChargerStatusResponse.Item("ME", "ME000001", "02", "2", "20261019101000"),
+                        new EvChargerStatusResponse.Item("ME", "ME000001", "03", "9", "20261019100500"),
+                        new EvChargerStatusResponse.Item("ME", "ME000009", "01", "2", "20261019100000")));
+
+        StatusSyncResult result = syncJob.sync();
+
+        assertThat(result.fetched()).isEqualTo(4);
+        assertThat(result.changed()).isEqualTo(1);
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.unknown()).isEqualTo(1);
+        assertThat(chargerRepository.findAll())
+                .extracting(Charger::getChargerCode, Charger::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple("01", ChargerStatus.CHARGING),
+                        tuple("02", ChargerStatus.AVAILABLE),
+                        tuple("03", ChargerStatus.AVAILABLE));
+    }
+
+    @Test
+    void uses_only_the_latest_status_for_a_repeated_charger() {
+        given(apiClient.fetchStatusPage(eq("11"), anyInt(), eq(1), anyInt()))
+                .willReturn(statusPage(
+                        new EvChargerStatusResponse.Item("ME", "ME000001", "02", "4", "20261019101500"),
+                        new EvChargerStatusResponse.Item("ME", "ME000001", "02", "3", "20261019100000")));
+
+        StatusSyncResult result = syncJob.sync();
+
+        assertThat(result.fetched()).isEqualTo(1);
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(chargerRepository.findAll())
+                .filteredOn(charger -> charger.getChargerCode().equals("02"))
+                .extracting(Charger::getStatus)
+                .containsExactly(ChargerStatus.OUT_OF_SERVICE);
+    }
+
+    private static EvChargerStatusResponse statusPage(EvChargerStatusResponse.Item... items) {
+        return new EvChargerStatusResponse("00", "NORMAL SERVICE.", items.length, 1, 1000,
+                new EvChargerStatusResponse.Items(List.of(items)));
+    }
+}
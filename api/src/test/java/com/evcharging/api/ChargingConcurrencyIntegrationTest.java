@@ -0,0 +1,132 @@
+package com.evcharging.api;
+
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.session.SessionService;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 충전기에 충전 시작이 동시에 몰려도 세션이 하나만 생기는지 확인한다.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "openapi.service-key="
+})
+class ChargingConcurrencyIntegrationTest {
+
+    private static final int CALLERS = 8;
+
+    @Autowired
+    SessionService sessionService;
+
+    @Autowired
+    StationRepository stationRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Long chargerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM charging_session");
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM charger");
+        jdbcTemplate.update("DELETE FROM charging_station");
+
+        ChargingStation station = new ChargingStation("ST-RACE", "동시 시작 충전소", "서울", 37.5, 127.0,
+                null, null, null);
+        station.addCharger(new Charger("01", ChargerType.DC_FAST, new BigDecimal("50"), ConnectorType.CCS1));
+        stationRepository.save(station);
+        chargerId = station.getChargers().get(0).getId();
+    }
+
+    @Test
+    void concurrent_starts_on_one_charger_create_a_single_session() throws Exception {
+        List<ErrorCode> outcomes = startConcurrently(null);
+
+        assertThat(outcomes).filteredOn(code -> code == null).hasSize(1);
+        assertThat(outcomes).filteredOn(code -> code != null)
+                .hasSize(CALLERS - 1)
+                .containsOnly(ErrorCode.CHARGER_NOT_AVAILABLE);
+        assertThat(sessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void one_reservation_claimed_concurrently_starts_a_single_session() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO reservation (charger_id, member_email, start_time, end_time, status, created_at)
+                VALUES (?, 'me@test.com', now() - interval '5 minutes', now() + interval '55 minutes', 'ACTIVE', now())
+                """, chargerId);
+
+        List<ErrorCode> outcomes = startConcurrently("me@test.com");
+
+        assertThat(outcomes).filteredOn(code -> code == null).hasSize(1);
+        assertThat(sessionCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM reservation", String.class))
+                .isEqualTo("FULFILLED");
+    }
+
+    /**
+     * 모든 호출을 같은 순간에 출발시키고, 성공하면 null, 실패하면 오류 코드를 돌려준다.
+     */
+    private List<ErrorCode> startConcurrently(String memberEmail) throws Exception {
+        CountDownLatch ready = new CountDownLatch(CALLERS);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<ErrorCode>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    try {
+                        sessionService.startCharging(chargerId, memberEmail);
+                        return null;
+                    } catch (BusinessException e) {
+                        return e.getErrorCode();
+                    }
+                }));
+            }
+            ready.await();
+            go.countDown();
+
+            List<ErrorCode> outcomes = new ArrayList<>();
+            for (Future<ErrorCode> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long sessionCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM charging_session WHERE charger_id = ?",
+                Long.class, chargerId);
+    }
+}
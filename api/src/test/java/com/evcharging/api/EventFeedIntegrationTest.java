@@ -0,0 +1,99 @@
+package com.evcharging.api;
+
+import com.evcharging.api.domain.event.EventFeedService;
+import com.evcharging.api.domain.event.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낮은 id의 이벤트가 아직 커밋되지 않은 동안 피드 커서가 그 이벤트를 건너뛰지 않는지 확인한다.
+ * 트랜잭션을 열어 둔 채로 두기 위해 풀에서 연결을 직접 빌려 쓴다.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "openapi.service-key="
+})
+class EventFeedIntegrationTest {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO outbox_event (type, session_id, charger_id, occurred_at, created_at)
+            VALUES ('SESSION_STARTED', 1, 1, now(), now()) RETURNING id
+            """;
+
+    @Autowired
+    EventFeedService eventFeedService;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_event");
+    }
+
+    @Test
+    void uncommitted_lower_id_holds_back_later_committed_events() throws SQLException {
+        try (Connection pending = dataSource.getConnection()) {
+            pending.setAutoCommit(false);
+            long lowerId = insertEvent(pending);
+            long higherId = jdbcTemplate.queryForObject(INSERT_EVENT, Long.class);
+
+            assertThat(eventFeedService.findAfter(0, 10)).isEmpty();
+
+            pending.commit();
+
+            assertThat(eventFeedService.findAfter(0, 10)).extracting(OutboxEvent::getId)
+                    .containsExactly(lowerId, higherId);
+        }
+    }
+
+    @Test
+    void lower_id_committed_after_the_cursor_passed_a_higher_id_is_still_served() throws SQLException {
+        try (Connection early = dataSource.getConnection(); Connection late = dataSource.getConnection()) {
+            early.setAutoCommit(false);
+            late.setAutoCommit(false);
+            // early가 먼저 트랜잭션 id를 받고, late가 더 낮은 이벤트 id를 먼저 가져간다
+            try (Statement statement = early.createStatement()) {
+                statement.execute("SELECT pg_current_xact_id()");
+            }
+            long lowerId = insertEvent(late);
+            long higherId = insertEvent(early);
+            early.commit();
+
+            assertThat(eventFeedService.findAfter(0, 10)).extracting(OutboxEvent::getId)
+                    .containsExactly(higherId);
+
+            late.commit();
+
+            assertThat(eventFeedService.findAfter(higherId, 10)).extracting(OutboxEvent::getId)
+                    .containsExactly(lowerId);
+        }
+    }
+
+    private static long insertEvent(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(INSERT_EVENT)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.evcharging.api;
+
+import com.evcharging.api.config.replica.ReadYourWrites;
+import com.evcharging.api.config.replica.ReplicaRouter;
+import com.evcharging.api.domain.event.EventFeedService;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationRepository;
+import com.evcharging.api.domain.station.StationService;
+import com.evcharging.api.domain.station.StationView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB와 복제본 역할의 Postgres 컨테이너 두 개로 라우팅을 확인한다. 실제 복제는 하지 않으므로
+ * 어느 쪽에서 실행되었는지는 데이터베이스 이름으로 구분한다.
+ */
+@SpringBootTest
+class ReplicaRoutingIntegrationTest {
+
+    static final PostgreSQLContainer primary = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"))
+            .withDatabaseName("primary_db");
+    static final PostgreSQLContainer replica = new PostgreSQLContainer(DockerImageName.parse("postgres:latest"))
+            .withDatabaseName("replica_db");
+
+    static {
+        primary.start();
+        replica.start();
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("db.replicas.urls", replica::getJdbcUrl);
+        registry.add("db.replicas.username", replica::getUsername);
+        registry.add("db.replicas.password", replica::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("openapi.service-key", () -> "");
+    }
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ReplicaRouter replicaRouter;
+
+    @Autowired
+    ReadYourWrites readYourWrites;
+
+    @Autowired
+    StationRepository stationRepository;
+
+    @Autowired
+    StationService stationService;
+
+    @Autowired
+    EventFeedService eventFeedService;
+
+    @BeforeEach
+    void setUp() {
+        replicaRouter.checkHealth();
+    }
+
+    @Test
+    void read_only_transaction_runs_on_the_replica() {
+        assertThat(currentDatabase(true)).isEqualTo("replica_db");
+    }
+
+    @Test
+    void write_transactions_and_non_transactional_queries_run_on_the_primary() {
+        assertThat(currentDatabase(false)).isEqualTo("primary_db");
+        assertThat(jdbcTemplate.queryForObject("SELECT current_database()", String.class)).isEqualTo("primary_db");
+    }
+
+    @Test
+    void reads_of_a_request_pinned_to_the_primary_run_on_the_primary() {
+        readYourWrites.pin();
+        try {
+            assertThat(currentDatabase(true)).isEqualTo("primary_db");
+        } finally {
+            readYourWrites.unpin();
+        }
+    }
+
+    @Test
+    void station_view_is_loaded_from_the_primary_even_in_a_read_only_transaction() {
+        // 복제본에는 같은 id로 다른 이름의 충전소를 두어 어디서 읽었는지 구분한다
+        ChargingStation station = stationRepository.save(
+                new ChargingStation("PRIMARY01", "주 DB 충전소", "서울", 37.5, 127.0, null, null, null));
+        JdbcTemplate replicaJdbc = replicaJdbcTemplate();
+        replicaJdbc.execute("""
+                CREATE TABLE IF NOT EXISTS charging_station (
+                    id bigint PRIMARY KEY, station_code text, name text, address text, latitude float8,
+                    longitude float8, operator_name text, contact_number text, operating_hours text,
+                    region_code text, content_hash bigint, created_at timestamp, updated_at timestamp)
+                """);
+        replicaJdbc.update("""
+                INSERT INTO charging_station (id, station_code, name, address, latitude, longitude)
+                VALUES (?, 'REPLICA01', '복제본 충전소', '서울', 37.5, 127.0)
+                """, station.getId());
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        StationView view = template.execute(status -> stationService.findView(station.getId()));
+
+        assertThat(view.name()).isEqualTo("주 DB 충전소");
+    }
+
+    @Test
+    void event_feed_reads_the_primary() {
+        // 복제본에는 outbox_event 테이블이 없어 복제본에서 읽으면 실패한다
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        assertThat(template.execute(status -> eventFeedService.findAfter(0, 10))).isNotNull();
+    }
+
+    private JdbcTemplate replicaJdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(),
+                replica.getPassword()));
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
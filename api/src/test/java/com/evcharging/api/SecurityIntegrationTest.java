@@ -3,6 +3,7 @@ package com.evcharging.api;
 import com.evcharging.api.domain.member.Member;
 import com.evcharging.api.domain.member.MemberRepository;
 import com.evcharging.api.domain.member.Role;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -144,6 +145,72 @@ class SecurityIntegrationTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    void refresh_rotates_token_and_reuse_revokes_family() throws Exception {
+        memberRepository.save(new Member("refresh@test.com", passwordEncoder.encode("password123"), "Test", Role.USER));
+        JsonNode login = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "refresh@test.com", "password": "password123"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data");
+        String firstRefresh = login.get("refreshToken").asText();
+
+        // 교체: 새 액세스/리프레시 토큰 발급
+        JsonNode rotated = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"refreshToken": "%s"}
+                                """.formatted(firstRefresh)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data");
+        String secondRefresh = rotated.get("refreshToken").asText();
+        mockMvc.perform(get("/api/v1/stations")
+                        .header("Authorization", "Bearer " + rotated.get("accessToken").asText()))
+                .andExpect(status().isOk());
+
+        // 이미 교체된 토큰 재사용 → 거부되고 family 전체가 폐기된다
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"refreshToken": "%s"}
+                                """.formatted(firstRefresh)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error.code").value("INVALID_REFRESH_TOKEN"));
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"refreshToken": "%s"}
+                                """.formatted(secondRefresh)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logout_revokes_access_token() throws Exception {
+        memberRepository.save(new Member("logout@test.com", passwordEncoder.encode("password123"), "Test", Role.USER));
+        JsonNode login = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "logout@test.com", "password": "password123"}
+                                """))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data");
+        String accessToken = login.get("accessToken").asText();
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"refreshToken": "%s"}
+                                """.formatted(login.get("refreshToken").asText())))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/stations")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void invalid_token_returns401() throws Exception {
         mockMvc.perform(get("/api/v1/stations")
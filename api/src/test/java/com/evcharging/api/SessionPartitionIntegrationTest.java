@@ -0,0 +1,164 @@
+package com.evcharging.api;
+
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.session.ChargingSession;
+import com.evcharging.api.domain.session.SessionArchive;
+import com.evcharging.api.domain.session.SessionService;
+import com.evcharging.api.domain.station.ChargingStation;
+import com.evcharging.api.domain.station.StationRepository;
+import com.evcharging.api.infra.archive.SessionArchiveJob;
+import com.evcharging.api.infra.archive.SessionPartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate가 만든 일반 charging_session 테이블에 데이터가 있는 상태에서 파티션 전환과 만료 월 아카이브를 확인한다.
+ * 기동 시 이미 전환되어 있으므로 매 테스트 전에 일반 테이블로 되돌려 채운다.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "openapi.service-key=",
+        "session.archive.dir=build/session-archive-it",
+        "session.archive.retention-months=12"
+})
+class SessionPartitionIntegrationTest {
+
+    private static final YearMonth CURRENT = YearMonth.now();
+    private static final YearMonth EXPIRED = CURRENT.minusMonths(14);
+    private static final YearMonth RECENT = CURRENT.minusMonths(1);
+
+    @Autowired
+    SessionPartitionManager partitionManager;
+
+    @Autowired
+    SessionArchiveJob archiveJob;
+
+    @Autowired
+    SessionService sessionService;
+
+    @Autowired
+    StationRepository stationRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Long firstChargerId;
+    private Long secondChargerId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM session_archive_segment");
+        jdbcTemplate.update("DELETE FROM session_archive");
+        jdbcTemplate.execute("DROP TABLE charging_session CASCADE");
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM charger");
+        jdbcTemplate.update("DELETE FROM charging_station");
+        jdbcTemplate.execute("""
+                CREATE TABLE charging_session (
+                    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    charger_id bigint NOT NULL REFERENCES charger (id) ON DELETE CASCADE,
+                    start_time timestamp(6) NOT NULL,
+                    end_time timestamp(6),
+                    energy_delivered_kwh numeric(38, 2),
+                    cost numeric(38, 2),
+                    status varchar(255) NOT NULL
+                )
+                """);
+
+        ChargingStation station = new ChargingStation("ST-ARCHIVE", "아카이브 충전소", "서울", 37.5, 127.0,
+                null, null, null);
+        station.addCharger(new Charger("01", ChargerType.DC_FAST, new BigDecimal("50"), ConnectorType.CCS1));
+        station.addCharger(new Charger("02", ChargerType.AC_SLOW, new BigDecimal("7"), ConnectorType.AC_TYPE_1));
+        stationRepository.save(station);
+        firstChargerId = station.getChargers().get(0).getId();
+        secondChargerId = station.getChargers().get(1).getId();
+
+        insertSession(firstChargerId, EXPIRED, 3);
+        insertSession(secondChargerId, EXPIRED, 5);
+        insertSession(firstChargerId, EXPIRED, 10);
+        insertSession(firstChargerId, RECENT, 7);
+    }
+
+    @Test
+    void converting_a_populated_table_keeps_rows_and_partitions_them_by_month() {
+        partitionManager.run(null);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE oid = to_regclass('charging_session')", String.class))
+                .isEqualTo("p");
+        assertThat(partitionManager.listPartitions())
+                .contains(EXPIRED, RECENT, CURRENT, CURRENT.plusMonths(3));
+        assertThat(count("charging_session")).isEqualTo(4);
+        assertThat(count(partitionManager.partitionName(EXPIRED))).isEqualTo(3);
+        assertThat(count(partitionManager.partitionName(RECENT))).isEqualTo(1);
+
+        Long nextId = jdbcTemplate.queryForObject("""
+                INSERT INTO charging_session (charger_id, start_time, status)
+                VALUES (?, now(), 'IN_PROGRESS') RETURNING id
+                """, Long.class, firstChargerId);
+        assertThat(nextId).isEqualTo(5L);
+    }
+
+    @Test
+    void expired_month_is_archived_detached_and_still_readable_per_charger() {
+        partitionManager.run(null);
+
+        List<SessionArchive> archives = archiveJob.archiveExpiredPartitions(CURRENT);
+
+        assertThat(archives).hasSize(1);
+        SessionArchive archive = archives.get(0);
+        assertThat(archive.getPartitionName()).isEqualTo(partitionManager.partitionName(EXPIRED));
+        assertThat(archive.getRowCount()).isEqualTo(3);
+        assertThat(partitionManager.listPartitions()).doesNotContain(EXPIRED).contains(RECENT);
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+                archive.getPartitionName())).isNull();
+        assertThat(count("charging_session")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT charger_id FROM session_archive_segment WHERE archive_id = ? ORDER BY charger_id",
+                Long.class, archive.getId()))
+                .containsExactly(firstChargerId, secondChargerId);
+
+        List<ChargingSession> first = sessionService.findByCharger(firstChargerId, null, null, true);
+        List<ChargingSession> second = sessionService.findByCharger(secondChargerId, null, null, true);
+
+        assertThat(first).extracting(ChargingSession::getStartTime)
+                .containsExactly(startTime(EXPIRED, 3), startTime(EXPIRED, 10), startTime(RECENT, 7));
+        assertThat(second).extracting(ChargingSession::getStartTime)
+                .containsExactly(startTime(EXPIRED, 5));
+        assertThat(sessionService.findByCharger(firstChargerId, null, null, false)).hasSize(1);
+    }
+
+    private void insertSession(Long chargerId, YearMonth month, int day) {
+        jdbcTemplate.update("""
+                INSERT INTO charging_session (charger_id, start_time, end_time, energy_delivered_kwh, cost, status)
+                VALUES (?, ?, ?, 20.00, 9000.00, 'COMPLETED')
+                """, chargerId, Timestamp.valueOf(startTime(month, day)),
+                Timestamp.valueOf(startTime(month, day).plusHours(1)));
+    }
+
+    private static LocalDateTime startTime(YearMonth month, int day) {
+        return month.atDay(day).atTime(9, 0);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.evcharging.api.api.auth;
 import com.evcharging.api.common.BusinessException;
 import com.evcharging.api.common.ErrorCode;
 import com.evcharging.api.config.security.JwtTokenProvider;
+import com.evcharging.api.config.security.TokenRevocationList;
 import com.evcharging.api.domain.member.AuthService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +32,9 @@ class AuthControllerTest {
     @MockitoBean
     JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    TokenRevocationList tokenRevocationList;
+
     @Test
     void signup_success() throws Exception {
         given(authService.signup(any(SignupRequest.class)))
@@ -76,7 +80,7 @@ class AuthControllerTest {
     @Test
     void login_success() throws Exception {
         given(authService.login(any(LoginRequest.class)))
-                .willReturn(LoginResponse.of("jwt-token-here"));
+                .willReturn(LoginResponse.of("jwt-token-here", "refresh-token-here"));
 
         mockMvc.perform(post("/api/v1/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -86,6 +90,7 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.accessToken").value("jwt-token-here"))
+                .andExpect(jsonPath("$.data.refreshToken").value("refresh-token-here"))
                 .andExpect(jsonPath("$.data.tokenType").value("Bearer"));
     }
 
@@ -1,39 +1,58 @@
 package com.evcharging.api.api.station;
 
+import com.evcharging.api.config.CompactCborHttpMessageConverter;
 import com.evcharging.api.config.security.JwtTokenProvider;
+import com.evcharging.api.config.security.TokenRevocationList;
 import com.evcharging.api.domain.station.ChargingStation;
 import com.evcharging.api.domain.station.StationService;
+import com.evcharging.api.domain.station.StationView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(StationController.class)
+@Import(StationResponseCache.class)
 class StationControllerTest {
 
     @Autowired
     MockMvc mockMvc;
 
+    @Autowired
+    StationResponseCache responseCache;
+
     @MockitoBean
     StationService stationService;
 
     @MockitoBean
     JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    TokenRevocationList tokenRevocationList;
+
     @Test
     @WithMockUser
     void findById_returns_station() throws Exception {
         ChargingStation station = new ChargingStation(
                 "ST-001", "Gangnam Station", "Seoul Gangnam-gu",
                 37.4979, 127.0276, "KEPCO", "02-1234-5678", "24h");
-        given(stationService.findById(1L)).willReturn(station);
+        given(stationService.findView(1L)).willReturn(StationView.from(station));
 
         mockMvc.perform(get("/api/v1/stations/1"))
                 .andExpect(status().isOk())
@@ -41,4 +60,42 @@ class StationControllerTest {
                 .andExpect(jsonPath("$.data.name").value("Gangnam Station"))
                 .andExpect(jsonPath("$.data.address").value("Seoul Gangnam-gu"));
     }
+
+    @Test
+    @WithMockUser
+    void findById_serves_cached_body_until_station_changes() throws Exception {
+        ChargingStation station = new ChargingStation(
+                "ST-001", "Gangnam Station", "Seoul Gangnam-gu",
+                37.4979, 127.0276, "KEPCO", "02-1234-5678", "24h");
+        given(stationService.findView(2L)).willReturn(StationView.from(station));
+
+        mockMvc.perform(get("/api/v1/stations/2")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/stations/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/json"))
+                .andExpect(jsonPath("$.data.name").value("Gangnam Station"));
+        then(stationService).should(times(1)).findView(2L);
+
+        responseCache.stationsChanged(List.of(2L));
+        mockMvc.perform(get("/api/v1/stations/2")).andExpect(status().isOk());
+        then(stationService).should(times(2)).findView(2L);
+    }
+
+    @Test
+    @WithMockUser
+    void findById_encodes_compact_cbor_when_requested() throws Exception {
+        ChargingStation station = new ChargingStation(
+                "ST-003", "Seocho Station", "Seoul Seocho-gu",
+                37.4837, 127.0324, "KEPCO", "02-1234-5678", "24h");
+        given(stationService.findView(3L)).willReturn(StationView.from(station));
+
+        byte[] body = mockMvc.perform(get("/api/v1/stations/3").accept(CompactCborHttpMessageConverter.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", CompactCborHttpMessageConverter.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode data = new CBORMapper().readTree(body).path("data");
+        assertThat(data.path("name").asText()).isEqualTo("Seocho Station");
+        assertThat(data.path("latitude").asLong()).isEqualTo(37_483_700L);
+    }
 }
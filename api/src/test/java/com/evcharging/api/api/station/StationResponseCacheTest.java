@@ -0,0 +1,65 @@
+package com.evcharging.api.api.station;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationResponseCacheTest {
+
+    StationResponseCache cache = new StationResponseCache(100, 60_000, 64);
+    AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void reserializes_only_changed_stations() {
+        cache.get(1L, () -> load(1L, "강남"));
+        cache.get(2L, () -> load(2L, "서초"));
+
+        cache.stationsChanged(List.of(1L));
+        cache.get(1L, () -> load(1L, "강남"));
+        cache.get(2L, () -> load(2L, "서초"));
+
+        assertThat(loads).hasValue(3);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void body_invalidated_during_serialization_is_not_stored() {
+        cache.get(1L, () -> {
+            StationResponse response = load(1L, "이전 이름");
+            cache.stationsChanged(List.of(1L));
+            return response;
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void gzip_clients_get_the_compressed_body() throws Exception {
+        StationResponseCache.Entry entry = cache.get(1L, () -> load(1L, "강남역 공영주차장 급속 충전소"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        entry.writeTo(request, response);
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo(new String(entry.json(), StandardCharsets.UTF_8))
+                    .contains("\"success\":true", "강남역 공영주차장 급속 충전소");
+        }
+    }
+
+    private StationResponse load(Long id, String name) {
+        loads.incrementAndGet();
+        return new StationResponse(id, "ST-" + id, name, "서울특별시", 37.5, 127.0, "환경부", "1661-9408", "24시간", List.of());
+    }
+}
@@ -0,0 +1,53 @@
+package com.evcharging.api.common;
+
+import com.evcharging.api.domain.charger.ChargerStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChargingMetricsTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ChargingMetrics metrics = new ChargingMetrics(registry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void counts_status_transitions_by_from_and_to() {
+        metrics.statusChanged(ChargerStatus.AVAILABLE, ChargerStatus.CHARGING);
+        metrics.statusChanged(ChargerStatus.AVAILABLE, ChargerStatus.CHARGING);
+        metrics.statusChanged(ChargerStatus.CHARGING, ChargerStatus.OUT_OF_SERVICE, 3);
+        metrics.statusChanged(ChargerStatus.AVAILABLE, ChargerStatus.AVAILABLE);
+
+        assertThat(transitions(ChargerStatus.AVAILABLE, ChargerStatus.CHARGING)).isEqualTo(2);
+        assertThat(transitions(ChargerStatus.CHARGING, ChargerStatus.OUT_OF_SERVICE)).isEqualTo(3);
+        assertThat(registry.find("charger.status.transitions").counters()).hasSize(6);
+    }
+
+    @Test
+    void counts_after_commit_inside_a_transaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        metrics.sessionStarted();
+
+        assertThat(registry.get("charging.sessions.started").counter().count()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(registry.get("charging.sessions.started").counter().count()).isEqualTo(1);
+    }
+
+    private double transitions(ChargerStatus from, ChargerStatus to) {
+        return registry.get("charger.status.transitions")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .counter().count();
+    }
+}
@@ -0,0 +1,87 @@
+package com.evcharging.api.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadThroughCacheTest {
+
+    AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void hit_does_not_call_the_loader_again() {
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, 60_000);
+
+        cache.get(1L, this::load);
+        String value = cache.get(1L, this::load);
+
+        assertThat(value).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reloads_only_invalidated_keys() {
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, 60_000);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        cache.invalidate(List.of(1L));
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void value_invalidated_while_loading_is_not_stored() {
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, 60_000);
+
+        cache.get(1L, key -> {
+            cache.invalidate(List.of(key));
+            return "stale";
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void null_is_not_cached() {
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, 60_000);
+
+        cache.get(1L, key -> null);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expired_entry_is_reloaded() {
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, 0);
+
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void evicts_entries_to_stay_within_capacity() {
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(16, 60_000);
+
+        for (long i = 0; i < 100; i++) {
+            cache.get(i, this::load);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.evictionCount()).isPositive();
+    }
+
+    private String load(Long key) {
+        loads.incrementAndGet();
+        return "value-" + key;
+    }
+}
@@ -0,0 +1,69 @@
+package com.evcharging.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class BoundedDataSourceTest {
+
+    DataSource target;
+    Connection connection;
+    BoundedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        given(target.getConnection()).willReturn(connection);
+        dataSource = new BoundedDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void rejects_after_timeout_when_all_permits_are_taken() throws SQLException {
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLTransientConnectionException.class);
+        then(target).should(times(1)).getConnection();
+    }
+
+    @Test
+    void closing_a_connection_returns_the_permit_once() throws SQLException {
+        Connection borrowed = dataSource.getConnection();
+
+        borrowed.close();
+        borrowed.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        then(connection).should(times(2)).close();
+    }
+
+    @Test
+    void permit_is_returned_when_getting_a_connection_fails() throws SQLException {
+        given(target.getConnection()).willThrow(new SQLException("풀 고갈"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("풀 고갈");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void other_calls_are_delegated_to_the_connection() throws SQLException {
+        given(connection.getAutoCommit()).willReturn(false);
+
+        Connection borrowed = dataSource.getConnection();
+
+        assertThat(borrowed.getAutoCommit()).isFalse();
+        assertThat(dataSource.availablePermits()).isZero();
+    }
+}
@@ -0,0 +1,89 @@
+package com.evcharging.api.config;
+
+import com.evcharging.api.api.charger.ChargerResponse;
+import com.evcharging.api.api.session.SessionResponse;
+import com.evcharging.api.api.station.StationResponse;
+import com.evcharging.api.common.ApiResponse;
+import com.evcharging.api.domain.charger.ChargerStatus;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.session.SessionStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactCborHttpMessageConverterTest {
+
+    CompactCborHttpMessageConverter converter = new CompactCborHttpMessageConverter();
+
+    @Test
+    void writes_enums_as_ints_and_coordinates_as_microdegrees() throws Exception {
+        JsonNode data = decode(converter.encode(ApiResponse.success(station(1)))).path("data");
+
+        assertThat(data.path("latitude").asLong()).isEqualTo(37_497_901L);
+        assertThat(data.path("longitude").asLong()).isEqualTo(127_027_601L);
+        JsonNode charger = data.path("chargers").get(0);
+        assertThat(charger.path("status").isIntegralNumber()).isTrue();
+        assertThat(charger.path("status").asInt()).isEqualTo(ChargerStatus.OUT_OF_SERVICE.ordinal());
+        assertThat(charger.path("connectorType").asInt()).isEqualTo(ConnectorType.AC_TYPE_1.ordinal());
+    }
+
+    @Test
+    void writes_session_times_as_epoch_seconds() throws Exception {
+        SessionResponse session = new SessionResponse(1L, 2L, LocalDateTime.of(2026, 1, 1, 9, 0), null,
+                null, null, SessionStatus.IN_PROGRESS);
+
+        JsonNode data = decode(converter.encode(ApiResponse.success(session))).path("data");
+
+        assertThat(data.path("startTime").asLong()).isEqualTo(1_767_258_000L);
+        assertThat(data.has("endTime")).isTrue();
+        assertThat(data.path("status").asInt()).isZero();
+    }
+
+    @Test
+    void station_list_is_smaller_than_json() throws Exception {
+        List<StationResponse> stations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            stations.add(station(i));
+        }
+        ApiResponse<List<StationResponse>> response = ApiResponse.success(stations);
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(response);
+        byte[] compact = converter.encode(response);
+
+        assertThat(compact.length).isLessThan(json.length * 4 / 5);
+    }
+
+    // 압축 형식의 enum 번호는 클라이언트와의 계약이다. 상수 순서를 바꾸면 이 테스트가 깨져야 한다
+    @Test
+    void enum_codes_follow_declaration_order() {
+        assertThat(ChargerStatus.values()).containsExactly(
+                ChargerStatus.AVAILABLE, ChargerStatus.CHARGING, ChargerStatus.OUT_OF_SERVICE);
+        assertThat(ChargerType.values()).containsExactly(ChargerType.DC_FAST, ChargerType.AC_SLOW, ChargerType.DC_COMBO);
+        assertThat(ConnectorType.values()).containsExactly(
+                ConnectorType.CCS1, ConnectorType.CHADEMO, ConnectorType.AC_TYPE_1, ConnectorType.AC_TYPE_3);
+        assertThat(SessionStatus.values()).containsExactly(
+                SessionStatus.IN_PROGRESS, SessionStatus.COMPLETED, SessionStatus.FAILED);
+    }
+
+    private static JsonNode decode(byte[] body) throws Exception {
+        return new CBORMapper().readTree(body);
+    }
+
+    private static StationResponse station(int i) {
+        return new StationResponse((long) i, "ME%06d".formatted(i), "강남역 공영주차장 " + i, "서울특별시 강남구 강남대로 396",
+                37.4979012, 127.0276013, "환경부", "1661-9408", "24시간 이용가능",
+                List.of(new ChargerResponse(1L, "01", ChargerType.AC_SLOW, ChargerStatus.OUT_OF_SERVICE,
+                                new BigDecimal("7.0"), ConnectorType.AC_TYPE_1),
+                        new ChargerResponse(2L, "02", ChargerType.DC_COMBO, ChargerStatus.AVAILABLE,
+                                new BigDecimal("100"), ConnectorType.CCS1)));
+    }
+}
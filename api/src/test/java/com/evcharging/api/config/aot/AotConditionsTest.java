@@ -0,0 +1,48 @@
+package com.evcharging.api.config.aot;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AotConditionsTest {
+
+    @Test
+    void recorded_build_values_match_the_same_runtime_configuration() throws IOException {
+        MockEnvironment build = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "false")
+                .withProperty("management.server.port", "8081");
+
+        Properties recorded = reload(AotConditions.write(AotConditions.capture(build)));
+
+        assertThat(AotConditions.mismatches(recorded, new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "false")
+                .withProperty("management.server.port", "8081"))).isEmpty();
+    }
+
+    @Test
+    void condition_properties_changed_after_the_build_are_reported_by_name() throws IOException {
+        MockEnvironment build = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "false")
+                .withProperty("management.server.port", "8081");
+        Properties recorded = reload(AotConditions.write(AotConditions.capture(build)));
+
+        MockEnvironment runtime = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true")
+                .withProperty("db.replicas.urls", "jdbc:postgresql://replica:5432/evcharging")
+                .withProperty("management.server.port", "8081");
+
+        assertThat(AotConditions.mismatches(recorded, runtime))
+                .containsExactly("spring.threads.virtual.enabled", "db.replicas.urls");
+    }
+
+    private static Properties reload(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+        return properties;
+    }
+}
@@ -0,0 +1,81 @@
+package com.evcharging.api.config.replica;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    ReadYourWrites readYourWrites = new ReadYourWrites(60_000, 100);
+    ReadYourWritesFilter filter = new ReadYourWritesFilter(readYourWrites);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void write_request_is_pinned_to_the_primary() throws Exception {
+        assertThat(perform("POST", 201)).isTrue();
+        assertThat(readYourWrites.requiresPrimary()).isFalse();
+    }
+
+    @Test
+    void reads_after_a_write_by_the_same_client_go_to_the_primary() throws Exception {
+        authenticate("user@test.com");
+        perform("POST", 201);
+
+        assertThat(perform("GET", 200)).isTrue();
+
+        authenticate("other@test.com");
+        assertThat(perform("GET", 200)).isFalse();
+    }
+
+    @Test
+    void failed_write_is_not_recorded() throws Exception {
+        authenticate("user@test.com");
+        perform("POST", 409);
+
+        assertThat(perform("GET", 200)).isFalse();
+    }
+
+    @Test
+    void reads_go_back_to_the_replica_after_the_window() {
+        ReadYourWrites shortWindow = new ReadYourWrites(10, 100);
+        shortWindow.recordWrite("user:a", 0);
+
+        assertThat(shortWindow.wroteRecently("user:a", 5_000_000)).isTrue();
+        assertThat(shortWindow.wroteRecently("user:a", 10_000_000)).isFalse();
+    }
+
+    private boolean perform(String method, int status) throws Exception {
+        boolean[] pinned = new boolean[1];
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/sessions");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                pinned[0] = readYourWrites.requiresPrimary();
+                res.setStatus(status);
+            }
+        }));
+        return pinned[0];
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.evcharging.api.config.replica;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRouterTest {
+
+    DataSource primary;
+    DataSource replica1;
+    DataSource replica2;
+    Connection primaryConnection;
+    Connection replicaConnection1;
+    Connection replicaConnection2;
+    ReadYourWrites readYourWrites = new ReadYourWrites(3000, 100);
+    ReplicaRouter router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection1 = replicaConnection(0);
+        replicaConnection2 = replicaConnection(0);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica1.getConnection()).willReturn(replicaConnection1);
+        given(replica2.getConnection()).willReturn(replicaConnection2);
+        router = new ReplicaRouter(primary, List.of(replica1, replica2), readYourWrites, 1000);
+    }
+
+    @Test
+    void reads_from_the_primary_before_the_first_health_check() throws SQLException {
+        assertThat(router.readDataSource().getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void alternates_between_healthy_replicas() throws SQLException {
+        router.checkHealth();
+
+        assertThat(List.of(router.readDataSource().getConnection(), router.readDataSource().getConnection()))
+                .containsExactlyInAnyOrder(replicaConnection1, replicaConnection2);
+    }
+
+    @Test
+    void skips_replicas_lagging_past_the_limit() throws SQLException {
+        Connection lagging = replicaConnection(5000);
+        given(replica1.getConnection()).willReturn(lagging);
+        router.checkHealth();
+        given(replica1.getConnection()).willReturn(replicaConnection1);
+
+        assertThat(router.readDataSource().getConnection()).isSameAs(replicaConnection2);
+        assertThat(router.readDataSource().getConnection()).isSameAs(replicaConnection2);
+        assertThat(router.status()).extracting(ReplicaRouter.ReplicaStatus::lagMs).containsExactly(5000L, 0L);
+    }
+
+    @Test
+    void marks_a_failing_replica_down_and_reads_elsewhere() throws SQLException {
+        router.checkHealth();
+        given(replica1.getConnection()).willThrow(new SQLException("연결 거부"));
+        given(replica2.getConnection()).willThrow(new SQLException("연결 거부"));
+
+        assertThat(router.readDataSource().getConnection()).isSameAs(primaryConnection);
+        assertThat(router.status()).extracting(ReplicaRouter.ReplicaStatus::healthy).containsExactly(false, false);
+    }
+
+    @Test
+    void thread_pinned_to_the_primary_does_not_use_replicas() throws SQLException {
+        router.checkHealth();
+        readYourWrites.pin();
+        try {
+            assertThat(router.readDataSource().getConnection()).isSameAs(primaryConnection);
+        } finally {
+            readYourWrites.unpin();
+        }
+    }
+
+    @Test
+    void reads_inside_primary_reads_use_the_primary() throws SQLException {
+        router.checkHealth();
+
+        Connection inside = PrimaryReads.call(this::readConnection);
+
+        assertThat(inside).isSameAs(primaryConnection);
+        assertThat(router.readDataSource().getConnection()).isIn(replicaConnection1, replicaConnection2);
+    }
+
+    private Connection readConnection() {
+        try {
+            return router.readDataSource().getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Connection replicaConnection(long lagMs) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(rs);
+        given(rs.next()).willReturn(true);
+        given(rs.getLong(1)).willReturn(lagMs);
+        return connection;
+    }
+}
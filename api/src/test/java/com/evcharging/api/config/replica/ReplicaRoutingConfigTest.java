@@ -0,0 +1,57 @@
+package com.evcharging.api.config.replica;
+
+import com.evcharging.api.config.BoundedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingConfigTest {
+
+    ReplicaRoutingConfig config = new ReplicaRoutingConfig();
+
+    @Test
+    void read_your_writes_window_shorter_than_possible_lag_fails_startup() {
+        assertThatThrownBy(() -> config.readYourWrites(3000, 100, 5000, 5000))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("10000");
+    }
+
+    @Test
+    void read_your_writes_window_covering_lag_and_check_interval_is_accepted() {
+        assertThat(config.readYourWrites(3000, 100, 2000, 1000)).isNotNull();
+    }
+
+    @Test
+    void virtual_thread_mode_bounds_each_replica_pool_to_its_size() {
+        try (ReplicaRouter router = replicaRouter(true)) {
+            assertThat(router.replicaDataSources()).containsOnlyKeys("replica-1", "replica-2");
+            assertThat(router.replicaDataSources().values()).allSatisfy(dataSource ->
+                    assertThat(dataSource).isInstanceOfSatisfying(BoundedDataSource.class,
+                            bounded -> assertThat(bounded.availablePermits()).isEqualTo(4)));
+        }
+    }
+
+    @Test
+    void platform_thread_mode_uses_replica_pools_directly() {
+        try (ReplicaRouter router = replicaRouter(false)) {
+            assertThat(router.replicaDataSources().values()).allSatisfy(dataSource ->
+                    assertThat(dataSource).isInstanceOf(HikariDataSource.class));
+        }
+    }
+
+    // 복제본 풀은 첫 연결 전까지 접속하지 않으므로 존재하지 않는 주소로도 만들 수 있다
+    private ReplicaRouter replicaRouter(boolean virtualThreads) {
+        return config.replicaRouter(mock(DataSource.class), new ReadYourWrites(3000, 100),
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                List.of("jdbc:postgresql://replica-1/db", "jdbc:postgresql://replica-2/db"), "user", "pass",
+                4, 2000, virtualThreads, 30000);
+    }
+}
@@ -39,4 +39,42 @@ class JwtTokenProviderTest {
 
         assertThat(provider.validateToken(token)).isFalse();
     }
+
+    @Test
+    void resolveClaims_returnsAllClaimsFromSingleVerification() {
+        String token = provider.generateToken("test@example.com", "ADMIN");
+
+        assertThat(provider.resolveClaims(token)).hasValueSatisfying(claims -> {
+            assertThat(claims.email()).isEqualTo("test@example.com");
+            assertThat(claims.role()).isEqualTo("ADMIN");
+            assertThat(claims.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+        });
+        // 두 번째 호출은 캐시에서 같은 결과를 반환한다
+        assertThat(provider.resolveClaims(token)).map(AuthClaims::email).hasValue("test@example.com");
+    }
+
+    @Test
+    void resolveClaims_invalidOrExpiredToken_returnsEmpty() {
+        JwtTokenProvider shortLived = new JwtTokenProvider(
+                "my-super-secret-key-for-ev-charging-api-that-is-at-least-256-bits-long",
+                -1000L);
+
+        assertThat(provider.resolveClaims("invalid.token.here")).isEmpty();
+        assertThat(provider.resolveClaims(shortLived.generateToken("test@example.com", "USER"))).isEmpty();
+    }
+
+    @Test
+    void claimsCache_expiresEntriesAndStaysBounded() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(8, 1000L);
+        AuthClaims claims = new AuthClaims("test@example.com", "USER", 5000L, "jti-1");
+
+        cache.put("a", claims, 0L);
+        assertThat(cache.get("a", 999L)).isEqualTo(claims);
+        assertThat(cache.get("a", 1000L)).isNull();
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("k" + i, claims, 2000L);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(8);
+    }
 }
@@ -0,0 +1,79 @@
+package com.evcharging.api.config.security;
+
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    void verify_lowerStrengthHash_returnsRehashedPassword() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 1, 4);
+        String weak = new BCryptPasswordEncoder(4).encode("password123");
+
+        PasswordHasher.Verification verification = hasher.verify("password123", weak);
+
+        assertThat(verification.matches()).isTrue();
+        assertThat(verification.needsRehash()).isTrue();
+        assertThat(verification.rehashed()).startsWith("$2a$05$");
+        assertThat(hasher.verify("password123", verification.rehashed()).needsRehash()).isFalse();
+        assertThat(hasher.verify("wrongpass", weak).matches()).isFalse();
+    }
+
+    @Test
+    void encode_queueFull_failsFastWith429() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        hasher = new PasswordHasher(blocking, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // 작업 스레드 하나와 대기열 한 칸을 채운다
+            callers.submit(() -> hasher.encode("a"));
+            started.await(5, TimeUnit.SECONDS);
+            callers.submit(() -> hasher.encode("b"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (hasher.queuedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> hasher.encode("c"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.evcharging.api.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    RateLimitFilter filter = new RateLimitFilter(new RateLimitProperties(true, 4, Map.of(
+            "nearby", new RateLimitProperties.Group(List.of("/api/v1/stations/nearby"), Map.of(
+                    "USER", new RateLimitProperties.Limit(2, Duration.ofMinutes(1)),
+                    "ADMIN", new RateLimitProperties.Limit(5, Duration.ofMinutes(1)))),
+            "auth", new RateLimitProperties.Group(List.of("/api/v1/auth/**"), Map.of(
+                    "DEFAULT", new RateLimitProperties.Limit(1, Duration.ofMinutes(1)))))),
+            new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void user_over_limit_gets_429_with_headers() throws Exception {
+        authenticate("user@test.com", "USER");
+
+        MockHttpServletResponse first = perform("/api/v1/stations/nearby", "10.0.0.1");
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("RateLimit-Limit")).isEqualTo("2");
+        assertThat(first.getHeader("RateLimit-Remaining")).isEqualTo("1");
+
+        perform("/api/v1/stations/nearby", "10.0.0.1");
+        MockHttpServletResponse rejected = perform("/api/v1/stations/nearby", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(rejected.getContentAsString()).contains("\"code\":\"TOO_MANY_REQUESTS\"");
+    }
+
+    @Test
+    void limits_differ_by_role_and_are_keyed_by_email() throws Exception {
+        authenticate("admin@test.com", "ADMIN");
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform("/api/v1/stations/nearby", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+        assertThat(perform("/api/v1/stations/nearby", "10.0.0.2").getStatus()).isEqualTo(429);
+
+        authenticate("other@test.com", "USER");
+        assertThat(perform("/api/v1/stations/nearby", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void anonymous_requests_are_keyed_by_ip_and_unmatched_routes_pass() throws Exception {
+        assertThat(perform("/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform("/api/v1/auth/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(perform("/api/v1/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse unmatched = perform("/api/v1/stations/1", "10.0.0.1");
+        assertThat(unmatched.getStatus()).isEqualTo(200);
+        assertThat(unmatched.getHeader("RateLimit-Limit")).isNull();
+    }
+
+    @Test
+    void bucket_map_stays_bounded() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            perform("/api/v1/auth/login", "10.0.1." + i);
+        }
+
+        assertThat(filter.bucketCount()).isLessThanOrEqualTo(4);
+    }
+
+    private void authenticate(String email, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+    }
+
+    private MockHttpServletResponse perform(String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
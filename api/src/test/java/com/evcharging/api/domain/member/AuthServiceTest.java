@@ -6,12 +6,13 @@ import com.evcharging.api.api.auth.SignupRequest;
 import com.evcharging.api.api.auth.SignupResponse;
 import com.evcharging.api.common.BusinessException;
 import com.evcharging.api.config.security.JwtTokenProvider;
+import com.evcharging.api.config.security.PasswordHasher;
+import com.evcharging.api.config.security.TokenRevocationList;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -20,6 +21,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -28,18 +31,24 @@ class AuthServiceTest {
     MemberRepository memberRepository;
 
     @Mock
-    PasswordEncoder passwordEncoder;
+    PasswordHasher passwordHasher;
 
     @Mock
     JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    RefreshTokenService refreshTokenService;
+
+    @Mock
+    TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     AuthService authService;
 
     @Test
     void signup_success() {
         given(memberRepository.existsByEmail("test@example.com")).willReturn(false);
-        given(passwordEncoder.encode("password123")).willReturn("encoded");
+        given(passwordHasher.encode("password123")).willReturn("encoded");
         given(memberRepository.save(any(Member.class))).willAnswer(inv -> inv.getArgument(0));
 
         SignupResponse response = authService.signup(
@@ -62,21 +71,39 @@ class AuthServiceTest {
     void login_success() {
         Member member = new Member("test@example.com", "encoded", "Test User", Role.USER);
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
-        given(passwordEncoder.matches("password123", "encoded")).willReturn(true);
+        given(passwordHasher.verify("password123", "encoded"))
+                .willReturn(new PasswordHasher.Verification(true, null));
         given(jwtTokenProvider.generateToken("test@example.com", "USER")).willReturn("jwt-token");
+        given(refreshTokenService.issue("test@example.com")).willReturn("refresh-token");
 
         LoginResponse response = authService.login(
                 new LoginRequest("test@example.com", "password123"));
 
         assertThat(response.accessToken()).isEqualTo("jwt-token");
+        assertThat(response.refreshToken()).isEqualTo("refresh-token");
         assertThat(response.tokenType()).isEqualTo("Bearer");
+        then(memberRepository).should(never()).updatePassword(any(), anyString());
+    }
+
+    @Test
+    void login_weakHash_rehashesPassword() {
+        Member member = new Member("test@example.com", "weak", "Test User", Role.USER);
+        given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
+        given(passwordHasher.verify("password123", "weak"))
+                .willReturn(new PasswordHasher.Verification(true, "strong"));
+        given(jwtTokenProvider.generateToken("test@example.com", "USER")).willReturn("jwt-token");
+
+        authService.login(new LoginRequest("test@example.com", "password123"));
+
+        then(memberRepository).should().updatePassword(member.getId(), "strong");
     }
 
     @Test
     void login_wrongPassword_throws() {
         Member member = new Member("test@example.com", "encoded", "Test User", Role.USER);
         given(memberRepository.findByEmail("test@example.com")).willReturn(Optional.of(member));
-        given(passwordEncoder.matches("wrongpass", "encoded")).willReturn(false);
+        given(passwordHasher.verify("wrongpass", "encoded"))
+                .willReturn(new PasswordHasher.Verification(false, null));
 
         assertThatThrownBy(() -> authService.login(
                 new LoginRequest("test@example.com", "wrongpass")))
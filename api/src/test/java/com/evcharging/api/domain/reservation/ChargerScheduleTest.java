@@ -0,0 +1,51 @@
+package com.evcharging.api.domain.reservation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChargerScheduleTest {
+
+    static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    ChargerSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new ChargerSchedule();
+        schedule.add(slot(1L, "a@test.com", 0, 60));     // 09:00 ~ 10:00
+        schedule.add(slot(2L, "b@test.com", 120, 180));  // 11:00 ~ 12:00
+    }
+
+    @Test
+    void detects_overlapping_intervals() {
+        assertThat(schedule.overlaps(at(30), at(90))).isTrue();
+        assertThat(schedule.overlaps(at(100), at(130))).isTrue();
+        assertThat(schedule.overlaps(at(-30), at(240))).isTrue();
+    }
+
+    @Test
+    void touching_intervals_do_not_overlap() {
+        assertThat(schedule.overlaps(at(60), at(120))).isFalse();
+        assertThat(schedule.overlaps(at(-60), at(0))).isFalse();
+        assertThat(schedule.overlaps(at(180), at(240))).isFalse();
+    }
+
+    @Test
+    void computes_free_slots() {
+        assertThat(schedule.freeSlots(at(30), at(240))).containsExactly(
+                new TimeSlot(at(60), at(120)),
+                new TimeSlot(at(180), at(240)));
+    }
+
+    private static ReservedSlot slot(Long id, String email, int startMinutes, int endMinutes) {
+        return new ReservedSlot(id, email, at(startMinutes), at(endMinutes));
+    }
+
+    private static LocalDateTime at(int minutes) {
+        return BASE.plusMinutes(minutes);
+    }
+}
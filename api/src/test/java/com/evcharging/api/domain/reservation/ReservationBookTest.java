@@ -0,0 +1,37 @@
+package com.evcharging.api.domain.reservation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class ReservationBookTest {
+
+    ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    ReservationBook book = new ReservationBook(reservationRepository, 5000);
+
+    @Test
+    void schedule_is_reloaded_from_db_after_ttl() {
+        given(reservationRepository.findByChargerIdAndStatusAndEndTimeAfter(eq(1L), eq(ReservationStatus.ACTIVE), any()))
+                .willReturn(List.of());
+        long loadedAt = 0;
+
+        ChargerSchedule first = book.scheduleOf(1L, loadedAt);
+        ChargerSchedule cached = book.scheduleOf(1L, loadedAt + TimeUnit.MILLISECONDS.toNanos(4999));
+        ChargerSchedule reloaded = book.scheduleOf(1L, loadedAt + TimeUnit.MILLISECONDS.toNanos(5000));
+
+        assertThat(cached).isSameAs(first);
+        assertThat(reloaded).isNotSameAs(first);
+        then(reservationRepository).should(times(2))
+                .findByChargerIdAndStatusAndEndTimeAfter(eq(1L), eq(ReservationStatus.ACTIVE), any(LocalDateTime.class));
+    }
+}
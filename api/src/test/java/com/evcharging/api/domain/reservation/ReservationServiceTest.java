@@ -0,0 +1,140 @@
+package com.evcharging.api.domain.reservation;
+
+import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ErrorCode;
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerRepository;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+    static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    @Mock
+    ChargerRepository chargerRepository;
+
+    @Mock
+    ReservationBook reservationBook;
+
+    ReservationService reservationService;
+    Charger charger;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = new ReservationService(reservationRepository, chargerRepository, reservationBook, 240);
+        charger = new Charger("CHG-001", ChargerType.DC_FAST, new BigDecimal("50"), ConnectorType.CCS1);
+    }
+
+    @Test
+    void claim_rejects_reservation_of_other_member_made_on_another_instance() {
+        given(reservationRepository.findFirstByChargerIdAndStatusAndStartTimeLessThanEqualAndEndTimeAfter(
+                1L, ReservationStatus.ACTIVE, NOW, NOW))
+                .willReturn(Optional.of(new Reservation(charger, "other@test.com", NOW.minusMinutes(10),
+                        NOW.plusMinutes(50))));
+
+        assertThatThrownBy(() -> reservationService.claim(1L, "me@test.com", NOW))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.CHARGER_RESERVED);
+        then(reservationBook).should(never()).scheduleOf(any());
+    }
+
+    @Test
+    void claim_fulfills_own_reservation() {
+        Reservation own = new Reservation(charger, "me@test.com", NOW.minusMinutes(10), NOW.plusMinutes(50));
+        given(reservationRepository.findFirstByChargerIdAndStatusAndStartTimeLessThanEqualAndEndTimeAfter(
+                1L, ReservationStatus.ACTIVE, NOW, NOW))
+                .willReturn(Optional.of(own));
+
+        reservationService.claim(1L, "me@test.com", NOW);
+
+        assertThat(own.getStatus()).isEqualTo(ReservationStatus.FULFILLED);
+    }
+
+    @Test
+    void claim_without_reservation_in_db_does_not_consult_memory_schedule() {
+        given(reservationRepository.findFirstByChargerIdAndStatusAndStartTimeLessThanEqualAndEndTimeAfter(
+                1L, ReservationStatus.ACTIVE, NOW, NOW))
+                .willReturn(Optional.empty());
+
+        reservationService.claim(1L, "me@test.com", NOW);
+
+        then(reservationBook).should(never()).scheduleOf(any());
+    }
+
+    @Test
+    void reserve_rejects_overlap_in_schedule_confirmed_by_db_without_locking() {
+        LocalDateTime start = NOW.plusHours(1);
+        LocalDateTime end = NOW.plusHours(2);
+        given(reservationBook.scheduleOf(1L)).willReturn(scheduleWith(start.minusMinutes(30), start.plusMinutes(30)));
+        given(reservationRepository.existsByChargerIdAndStatusAndStartTimeBeforeAndEndTimeAfter(
+                1L, ReservationStatus.ACTIVE, end, start))
+                .willReturn(true);
+
+        assertThatThrownBy(() -> reservationService.reserve(1L, "me@test.com", start, end))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CONFLICT);
+        then(chargerRepository).should(never()).findForUpdate(any());
+        then(reservationRepository).should(never()).saveAndFlush(any());
+    }
+
+    @Test
+    void reserve_ignores_stale_overlap_in_schedule_that_db_no_longer_has() {
+        LocalDateTime start = NOW.plusHours(1);
+        LocalDateTime end = NOW.plusHours(2);
+        given(reservationBook.scheduleOf(1L)).willReturn(scheduleWith(start, end));
+        given(reservationRepository.existsByChargerIdAndStatusAndStartTimeBeforeAndEndTimeAfter(
+                1L, ReservationStatus.ACTIVE, end, start))
+                .willReturn(false);
+        given(chargerRepository.findForUpdate(1L)).willReturn(Optional.of(charger));
+        given(reservationRepository.saveAndFlush(any(Reservation.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        Reservation reservation = reservationService.reserve(1L, "me@test.com", start, end);
+
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.ACTIVE);
+    }
+
+    @Test
+    void reserve_free_in_schedule_skips_overlap_query_and_relies_on_exclusion_constraint() {
+        LocalDateTime start = NOW.plusHours(1);
+        LocalDateTime end = NOW.plusHours(2);
+        given(reservationBook.scheduleOf(1L)).willReturn(new ChargerSchedule());
+        given(chargerRepository.findForUpdate(1L)).willReturn(Optional.of(charger));
+        given(reservationRepository.saveAndFlush(any(Reservation.class)))
+                .willThrow(new DataIntegrityViolationException("excl_reservation_charger_period"));
+
+        assertThatThrownBy(() -> reservationService.reserve(1L, "me@test.com", start, end))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode()).isEqualTo(ErrorCode.RESERVATION_CONFLICT);
+        then(reservationRepository).should(never())
+                .existsByChargerIdAndStatusAndStartTimeBeforeAndEndTimeAfter(any(), any(), any(), any());
+    }
+
+    private static ChargerSchedule scheduleWith(LocalDateTime start, LocalDateTime end) {
+        ChargerSchedule schedule = new ChargerSchedule();
+        schedule.add(new ReservedSlot(9L, "other@test.com", start, end));
+        return schedule;
+    }
+}
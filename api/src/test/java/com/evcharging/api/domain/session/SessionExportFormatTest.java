@@ -0,0 +1,42 @@
+package com.evcharging.api.domain.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionExportFormatTest {
+
+    static final SessionExportRow ROW = new SessionExportRow(1L, 10L, "CHG-01", 100L, "ST-01",
+            "한국전력, 서울본부", "2026-01-05T09:00", null, "30.50", "15000.00", "COMPLETED");
+
+    @Test
+    void csv_writes_header_and_escaped_rows() throws Exception {
+        String csv = write(SessionExportFormat.CSV);
+
+        assertThat(csv.lines()).containsExactly(
+                "id,charger_id,charger_code,station_id,station_code,operator_name,"
+                        + "start_time,end_time,energy_delivered_kwh,cost,status",
+                "1,10,CHG-01,100,ST-01,\"한국전력, 서울본부\",2026-01-05T09:00,,30.50,15000.00,COMPLETED");
+    }
+
+    @Test
+    void ndjson_writes_one_row_per_line() throws Exception {
+        String ndjson = write(SessionExportFormat.NDJSON);
+
+        assertThat(ndjson.lines()).hasSize(1);
+        assertThat(ndjson).contains("\"operatorName\":\"한국전력, 서울본부\"")
+                .contains("\"endTime\":null")
+                .contains("\"energyDeliveredKwh\":30.50");
+    }
+
+    private String write(SessionExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SessionExportFormat.RowWriter writer = format.open(out)) {
+            writer.write(ROW);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1,11 +1,19 @@
 package com.evcharging.api.domain.session;
 
 import com.evcharging.api.common.BusinessException;
+import com.evcharging.api.common.ChargingMetrics;
+import com.evcharging.api.common.ErrorCode;
 import com.evcharging.api.domain.charger.Charger;
 import com.evcharging.api.domain.charger.ChargerRepository;
 import com.evcharging.api.domain.charger.ChargerStatus;
 import com.evcharging.api.domain.charger.ChargerType;
 import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.event.OutboxEvent;
+import com.evcharging.api.domain.event.OutboxEventRepository;
+import com.evcharging.api.domain.event.OutboxEventType;
+import com.evcharging.api.domain.reservation.ReservationService;
+import com.evcharging.api.domain.station.StationChanges;
+import com.evcharging.api.infra.archive.SessionArchiveStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,12 +21,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 
 @ExtendWith(MockitoExtension.class)
 class SessionServiceTest {
@@ -29,6 +43,24 @@ class SessionServiceTest {
     @Mock
     ChargerRepository chargerRepository;
 
+    @Mock
+    SessionArchiveSegmentRepository archiveSegmentRepository;
+
+    @Mock
+    SessionArchiveStore archiveStore;
+
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    ReservationService reservationService;
+
+    @Mock
+    StationChanges stationChanges;
+
+    @Mock
+    ChargingMetrics metrics;
+
     @InjectMocks
     SessionService sessionService;
 
@@ -36,7 +68,7 @@ class SessionServiceTest {
     void startCharging_available_charger_succeeds() {
         Charger charger = new Charger("CHG-001", ChargerType.DC_FAST,
                 new BigDecimal("50"), ConnectorType.CCS1);
-        given(chargerRepository.findById(1L)).willReturn(Optional.of(charger));
+        given(chargerRepository.findForUpdate(1L)).willReturn(Optional.of(charger));
         given(sessionRepository.save(any(ChargingSession.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
@@ -44,6 +76,10 @@ class SessionServiceTest {
 
         assertThat(session.getStatus()).isEqualTo(SessionStatus.IN_PROGRESS);
         assertThat(charger.getStatus()).isEqualTo(ChargerStatus.CHARGING);
+        then(outboxEventRepository).should().save(
+                argThat((OutboxEvent e) -> e.getType() == OutboxEventType.SESSION_STARTED));
+        then(metrics).should().sessionStarted();
+        then(metrics).should().statusChanged(ChargerStatus.AVAILABLE, ChargerStatus.CHARGING);
     }
 
     @Test
@@ -51,12 +87,25 @@ class SessionServiceTest {
         Charger charger = new Charger("CHG-001", ChargerType.DC_FAST,
                 new BigDecimal("50"), ConnectorType.CCS1);
         charger.changeStatus(ChargerStatus.OUT_OF_SERVICE);
-        given(chargerRepository.findById(1L)).willReturn(Optional.of(charger));
+        given(chargerRepository.findForUpdate(1L)).willReturn(Optional.of(charger));
 
         assertThatThrownBy(() -> sessionService.startCharging(1L))
                 .isInstanceOf(BusinessException.class);
     }
 
+    @Test
+    void startCharging_reserved_by_other_member_throws() {
+        Charger charger = new Charger("CHG-001", ChargerType.DC_FAST,
+                new BigDecimal("50"), ConnectorType.CCS1);
+        given(chargerRepository.findForUpdate(1L)).willReturn(Optional.of(charger));
+        willThrow(new BusinessException(ErrorCode.CHARGER_RESERVED))
+                .given(reservationService).claim(eq(1L), eq("other@test.com"), any());
+
+        assertThatThrownBy(() -> sessionService.startCharging(1L, "other@test.com"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(charger.getStatus()).isEqualTo(ChargerStatus.AVAILABLE);
+    }
+
     @Test
     void completeCharging_in_progress_session_succeeds() {
         Charger charger = new Charger("CHG-001", ChargerType.DC_FAST,
@@ -72,5 +121,36 @@ class SessionServiceTest {
         assertThat(completed.getStatus()).isEqualTo(SessionStatus.COMPLETED);
         assertThat(completed.getEnergyDeliveredKwh()).isEqualByComparingTo(new BigDecimal("30.5"));
         assertThat(charger.getStatus()).isEqualTo(ChargerStatus.AVAILABLE);
+        then(outboxEventRepository).should().save(
+                argThat((OutboxEvent e) -> e.getType() == OutboxEventType.SESSION_COMPLETED));
+        then(metrics).should().sessionCompleted();
+        then(metrics).should().statusChanged(ChargerStatus.CHARGING, ChargerStatus.AVAILABLE);
+    }
+
+    @Test
+    void findByCharger_includeArchived_merges_archived_sessions_first() {
+        Charger charger = new Charger("CHG-001", ChargerType.DC_FAST,
+                new BigDecimal("50"), ConnectorType.CCS1);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 12, 31, 0, 0);
+        ChargingSession live = ChargingSession.start(charger);
+        SessionArchive archive = new SessionArchive("charging_session_p202401",
+                start, start.plusMonths(1), "charging_session_p202401.ndjson.gz", 1);
+        SessionArchiveSegment segment = new SessionArchiveSegment(archive, 1L, 120L, 80L, 1);
+        ArchivedSession archived = new ArchivedSession(7L, 1L, start.plusDays(3), start.plusDays(3).plusHours(1),
+                new BigDecimal("20"), new BigDecimal("9000"), SessionStatus.COMPLETED);
+
+        given(sessionRepository.findByChargerIdAndStartTimeBetween(1L, start, end)).willReturn(List.of(live));
+        given(archiveSegmentRepository.findByChargerOverlapping(1L, start, end)).willReturn(List.of(segment));
+        given(archiveStore.read(eq("charging_session_p202401.ndjson.gz"), eq(120L), eq(80L), any()))
+                .willReturn(List.of(archived));
+        given(chargerRepository.getReferenceById(1L)).willReturn(charger);
+
+        List<ChargingSession> sessions = sessionService.findByCharger(1L, start, end, true);
+
+        assertThat(sessions).hasSize(2);
+        assertThat(sessions.get(0).getId()).isEqualTo(7L);
+        assertThat(sessions.get(0).getStatus()).isEqualTo(SessionStatus.COMPLETED);
+        assertThat(sessions.get(1)).isSameAs(live);
     }
 }
@@ -0,0 +1,85 @@
+package com.evcharging.api.infra.archive;
+
+import com.evcharging.api.domain.session.ArchivedSession;
+import com.evcharging.api.domain.session.SessionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SessionArchiveStoreTest {
+
+    @TempDir
+    Path archiveDir;
+
+    @Test
+    void committed_archive_is_read_back_with_a_filter() throws Exception {
+        SessionArchiveStore store = new SessionArchiveStore(archiveDir.toString());
+        LocalDateTime start = LocalDateTime.of(2025, 1, 10, 9, 0);
+
+        Path file;
+        try (SessionArchiveStore.Writer writer = store.open("charging_session_p202501")) {
+            writer.write(new ArchivedSession(1L, 10L, start, start.plusHours(1),
+                    new BigDecimal("30.5"), new BigDecimal("15000"), SessionStatus.COMPLETED));
+            writer.write(new ArchivedSession(2L, 20L, start.plusDays(1), null,
+                    null, null, SessionStatus.FAILED));
+            file = writer.commit();
+        }
+
+        List<ArchivedSession> sessions = store.read(file.getFileName().toString(),
+                s -> s.chargerId().equals(10L));
+
+        assertThat(sessions).hasSize(1);
+        ArchivedSession session = sessions.getFirst();
+        assertThat(session.id()).isEqualTo(1L);
+        assertThat(session.startTime()).isEqualTo(start);
+        assertThat(session.energyDeliveredKwh()).isEqualByComparingTo("30.5");
+        assertThat(session.status()).isEqualTo(SessionStatus.COMPLETED);
+    }
+
+    @Test
+    void closing_without_commit_deletes_the_temp_file() throws Exception {
+        SessionArchiveStore store = new SessionArchiveStore(archiveDir.toString());
+
+        try (SessionArchiveStore.Writer writer = store.open("charging_session_p202502")) {
+            writer.write(new ArchivedSession(1L, 10L, LocalDateTime.now(), null,
+                    null, null, SessionStatus.IN_PROGRESS));
+        }
+
+        try (var files = Files.list(archiveDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void each_charger_segment_can_be_read_without_the_rest_of_the_file() throws Exception {
+        SessionArchiveStore store = new SessionArchiveStore(archiveDir.toString());
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+        Path file;
+        List<SessionArchiveStore.Segment> segments;
+        try (SessionArchiveStore.Writer writer = store.open("charging_session_p202503")) {
+            writer.write(new ArchivedSession(1L, 10L, start, null, null, null, SessionStatus.COMPLETED));
+            writer.write(new ArchivedSession(2L, 10L, start.plusDays(1), null, null, null, SessionStatus.COMPLETED));
+            writer.write(new ArchivedSession(3L, 20L, start, null, null, null, SessionStatus.FAILED));
+            file = writer.commit();
+            segments = writer.getSegments();
+        }
+        String fileName = file.getFileName().toString();
+
+        assertThat(segments).extracting(SessionArchiveStore.Segment::chargerId, SessionArchiveStore.Segment::rowCount)
+                .containsExactly(tuple(10L, 2L), tuple(20L, 1L));
+        SessionArchiveStore.Segment second = segments.get(1);
+        assertThat(store.read(fileName, second.offset(), second.length(), s -> true))
+                .extracting(ArchivedSession::id).containsExactly(3L);
+        assertThat(second.offset() + second.length()).isEqualTo(Files.size(file));
+        assertThat(store.read(fileName, s -> true)).extracting(ArchivedSession::id).containsExactly(1L, 2L, 3L);
+    }
+}
@@ -0,0 +1,215 @@
+package com.evcharging.api.infra.openapi;
+
+import com.evcharging.api.domain.station.IngestionCheckpoint;
+import com.evcharging.api.domain.station.IngestionCheckpointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class ChargerIngestionJobTest {
+
+    StubEvChargerApiServer server;
+    ChargerUpsertWriter writer;
+    IngestionCheckpointRepository checkpointRepository;
+    ChargerIngestionJob job;
+
+    @BeforeEach
+    void setUp() {
+        server = new StubEvChargerApiServer();
+        writer = mock(ChargerUpsertWriter.class);
+        given(writer.loadContentHashes("11")).willReturn(ContentHashes.empty());
+        given(writer.removeMissing(eq("11"), any(), any())).willReturn(ChargerUpsertWriter.Removal.NONE);
+        checkpointRepository = mock(IngestionCheckpointRepository.class);
+        given(checkpointRepository.findById("11")).willReturn(Optional.empty());
+        EvChargerApiClient client = new EvChargerApiClient("test-key", server.baseUrl());
+        // 페이지 크기 2, 동시 요청 2, 최대 3회 시도, 청크 크기 3, 24시간 안의 체크포인트만 이어받음
+        job = new ChargerIngestionJob(client, writer, checkpointRepository, 2, 2, 3, 1, 3, 24);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void fetches_every_page_and_upserts_in_chunks() {
+        IngestionResult result = job.ingest("11");
+
+        assertThat(result.totalCount()).isEqualTo(5);
+        assertThat(result.pageCount()).isEqualTo(3);
+        assertThat(result.itemCount()).isEqualTo(5);
+        assertThat(result.isComplete()).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EvChargerApiResponse.Item>> chunks = ArgumentCaptor.forClass(List.class);
+        then(writer).should(atLeastOnce()).upsert(eq("11"), chunks.capture());
+        assertThat(chunks.getAllValues()).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(3));
+        assertThat(chunks.getAllValues().stream().flatMap(List::stream).map(item -> item.statId() + "/" + item.chgerId()))
+                .containsExactlyInAnyOrder("ME000001/01", "ME000001/02", "ME000002/01", "KP000101/01", "KP000102/01");
+        assertThat(server.maxObservedInFlight()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void transiently_failing_page_is_retried() {
+        server.failPage(2, 2);
+
+        IngestionResult result = job.ingest("11");
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.itemCount()).isEqualTo(5);
+        assertThat(server.requestCount(2)).isEqualTo(3);
+    }
+
+    @Test
+    void page_failing_after_retries_is_recorded_in_the_result() {
+        server.failPage(3, 10);
+
+        IngestionResult result = job.ingest("11");
+
+        assertThat(result.failedPages()).containsExactly(3);
+        assertThat(result.itemCount()).isEqualTo(4);
+        assertThat(server.requestCount(3)).isEqualTo(3);
+    }
+
+    @Test
+    void nothing_is_loaded_when_the_first_page_fails() {
+        server.failPage(1, 10);
+
+        assertThatThrownBy(() -> job.ingest("11")).isInstanceOf(EvChargerApiException.class);
+        then(writer).should(never()).upsert(any(), anyList());
+    }
+
+    @Test
+    void writer_failure_stops_page_fetchers_instead_of_hanging() {
+        // 청크마다 메시지 하나라 큐(용량 4)가 금방 차서, 쓰기가 멈추면 페이지 요청들이 put에서 막힌다
+        server.generatePages(40);
+        job = new ChargerIngestionJob(new EvChargerApiClient("test-key", server.baseUrl()),
+                writer, checkpointRepository, 2, 2, 3, 1, 1, 24);
+        willDoNothing().willDoNothing().willThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .given(writer).upsert(eq("11"), anyList());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> job.ingest("11")).isInstanceOf(DataAccessResourceFailureException.class));
+        then(writer).should(never()).removeMissing(any(), any(), any());
+    }
+
+    @Test
+    void unchanged_items_are_skipped_and_missing_items_are_removed() {
+        ContentHashes existing = ContentHashes.empty();
+        existing.stations().put("ME000001", ContentHash.station(gangnamFirstCharger()));
+        existing.chargers().put(new ChargerKey("ME000001", "01"), ContentHash.charger(gangnamFirstCharger()));
+        existing.chargers().put(new ChargerKey("ME000001", "99"), 1L);
+        existing.stations().put("GONE0001", 1L);
+        given(writer.loadContentHashes("11")).willReturn(existing);
+        given(writer.removeMissing(eq("11"), any(), any())).willReturn(new ChargerUpsertWriter.Removal(1, 1, 0));
+
+        IngestionResult result = job.ingest("11");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EvChargerApiResponse.Item>> chunks = ArgumentCaptor.forClass(List.class);
+        then(writer).should(atLeastOnce()).upsert(eq("11"), chunks.capture());
+        assertThat(chunks.getAllValues().stream().flatMap(List::stream).map(item -> item.statId() + "/" + item.chgerId()))
+                .doesNotContain("ME000001/01");
+        then(writer).should().removeMissing("11", Set.of("GONE0001"), Set.of(new ChargerKey("ME000001", "99")));
+        assertThat(result.diff().stationsUnchanged()).isEqualTo(1);
+        assertThat(result.diff().chargersUnchanged()).isEqualTo(1);
+        assertThat(result.diff().chargersInserted()).isEqualTo(4);
+        assertThat(result.diff().stationsDeleted()).isEqualTo(1);
+        assertThat(result.diff().chargersDeleted()).isEqualTo(1);
+    }
+
+    @Test
+    void nothing_is_removed_when_a_page_failed() {
+        server.failPage(3, 10);
+
+        IngestionResult result = job.ingest("11");
+
+        then(writer).should(never()).removeMissing(any(), any(), any());
+        assertThat(result.diff().stationsDeleted()).isZero();
+    }
+
+    @Test
+    void checkpoints_each_page_and_marks_the_run_completed() {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint("11", 5, 2);
+        given(checkpointRepository.findById("11")).willReturn(Optional.empty(), Optional.of(checkpoint));
+
+        job.ingest("11");
+
+        then(checkpointRepository).should().markPageCompleted("11", 1);
+        then(checkpointRepository).should().markPageCompleted("11", 2);
+        then(checkpointRepository).should().markPageCompleted("11", 3);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    void resumed_run_skips_completed_pages_and_does_not_remove() {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint("11", 5, 2);
+        ReflectionTestUtils.setField(checkpoint, "completedPages", new int[]{1, 2});
+        given(checkpointRepository.findById("11")).willReturn(Optional.of(checkpoint));
+
+        IngestionResult result = job.ingest("11");
+
+        assertThat(server.requestCount(2)).isZero();
+        assertThat(server.requestCount(3)).isEqualTo(1);
+        assertThat(result.resumedPages()).isEqualTo(1);
+        assertThat(result.itemCount()).isEqualTo(3);
+        then(writer).should(never()).removeMissing(any(), any(), any());
+    }
+
+    @Test
+    void resume_with_every_page_but_the_first_completed_finishes() {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint("11", 5, 2);
+        ReflectionTestUtils.setField(checkpoint, "completedPages", new int[]{2, 3});
+        given(checkpointRepository.findById("11")).willReturn(Optional.of(checkpoint));
+
+        IngestionResult result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> job.ingest("11"));
+
+        assertThat(server.requestCount(2)).isZero();
+        assertThat(server.requestCount(3)).isZero();
+        assertThat(result.resumedPages()).isEqualTo(2);
+        assertThat(result.itemCount()).isEqualTo(2);
+        assertThat(checkpoint.isCompleted()).isTrue();
+    }
+
+    @Test
+    void restarts_from_scratch_when_page_boundaries_change() {
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint("11", 7, 2);
+        ReflectionTestUtils.setField(checkpoint, "completedPages", new int[]{1, 2});
+        given(checkpointRepository.findById("11")).willReturn(Optional.of(checkpoint));
+
+        IngestionResult result = job.ingest("11");
+
+        assertThat(result.resumedPages()).isZero();
+        assertThat(server.requestCount(2)).isEqualTo(1);
+        assertThat(checkpoint.getTotalCount()).isEqualTo(5);
+        then(checkpointRepository).should(atLeastOnce()).markPageCompleted(eq("11"), anyInt());
+    }
+
+    // test resources의 첫 페이지 첫 항목과 같은 값
+    private static EvChargerApiResponse.Item gangnamFirstCharger() {
+        return new EvChargerApiResponse.Item("강남역 공영주차장", "ME000001", "01", "04", "서울특별시 강남구 강남대로 396",
+                "37.4979", "127.0276", "환경부", "1661-9408", "24시간 이용가능", "2", "100");
+    }
+}
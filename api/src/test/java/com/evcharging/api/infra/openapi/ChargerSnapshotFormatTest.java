@@ -0,0 +1,71 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChargerSnapshotFormatTest {
+
+    static final EvChargerApiResponse.Item FAST = new EvChargerApiResponse.Item(
+            "강남역 \"1번\" 충전소", "ME000001", "01", "01", "서울 강남구 강남대로 396,\n지하 2층",
+            "37.4979", "127.0276", "환경부", "1661-9408", "24시간", "2", "100");
+    static final EvChargerApiResponse.Item STATION_ONLY = new EvChargerApiResponse.Item(
+            "여의도 충전소", "KP000101", null, null, "서울 영등포구", "37.52", "126.92", null, null, null, null, null);
+
+    @ParameterizedTest
+    @EnumSource(ChargerSnapshotFormat.class)
+    void written_items_are_read_back_unchanged(ChargerSnapshotFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ChargerSnapshotFormat.ItemWriter writer = format.open(out)) {
+            writer.write(FAST);
+            writer.write(STATION_ONLY);
+        }
+
+        List<EvChargerApiResponse.Item> items = new ArrayList<>();
+        long count = format.read(new ByteArrayInputStream(out.toByteArray()), items::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(items).containsExactly(FAST, STATION_ONLY);
+    }
+
+    @Test
+    void csv_columns_are_read_by_header_name_in_any_order() throws IOException {
+        String csv = """
+                chgerId,statId,extra,chgerType,statNm
+                02,ME000002,ignored,03,"서초, 충전소"
+
+                """;
+
+        List<EvChargerApiResponse.Item> items = new ArrayList<>();
+        ChargerSnapshotFormat.CSV.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), items::add);
+
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.statId()).isEqualTo("ME000002");
+            assertThat(item.chgerId()).isEqualTo("02");
+            assertThat(item.chgerType()).isEqualTo("03");
+            assertThat(item.statNm()).isEqualTo("서초, 충전소");
+            assertThat(item.addr()).isNull();
+        });
+    }
+
+    @Test
+    void format_is_chosen_by_file_extension() {
+        assertThat(ChargerSnapshotFormat.fromPath(Path.of("seed/stations.ndjson.gz")))
+                .isEqualTo(ChargerSnapshotFormat.NDJSON);
+        assertThat(ChargerSnapshotFormat.fromPath(Path.of("stations.CSV.gz")))
+                .isEqualTo(ChargerSnapshotFormat.CSV);
+        assertThatThrownBy(() -> ChargerSnapshotFormat.fromPath(Path.of("stations.csv")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ChargerSnapshotLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    ChargerCopyLoader copyLoader;
+    ChargerSnapshotLoader loader;
+    List<EvChargerApiResponse.Item> copied = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        copyLoader = mock(ChargerCopyLoader.class);
+        loader = new ChargerSnapshotLoader(copyLoader);
+        given(copyLoader.load(any())).willAnswer(invocation -> {
+            ChargerCopyLoader.ItemSource source = invocation.getArgument(0);
+            try {
+                source.emit(copied::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new ChargerCopyLoader.Result(copied.size(), 1, copied.size());
+        });
+    }
+
+    @Test
+    void passes_every_snapshot_row_to_the_copy_loader() throws IOException {
+        Path file = writeSnapshot("stations.ndjson.gz", 5);
+
+        ChargerSnapshotResult result = loader.load(file);
+
+        assertThat(result.rowCount()).isEqualTo(5);
+        assertThat(copied).extracting(EvChargerApiResponse.Item::chgerId)
+                .containsExactly("01", "02", "03", "04", "05");
+    }
+
+    @Test
+    void corrupt_gzip_file_is_reported_as_UncheckedIOException() throws IOException {
+        Path file = dir.resolve("broken.csv.gz");
+        Files.writeString(file, "statId,chgerId\nME000001,01\n");
+
+        assertThatThrownBy(() -> loader.load(file)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private Path writeSnapshot(String name, int chargers) throws IOException {
+        Path file = dir.resolve(name);
+        ChargerSnapshotFormat format = ChargerSnapshotFormat.fromPath(file);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file));
+             ChargerSnapshotFormat.ItemWriter itemWriter = format.open(out)) {
+            for (int i = 1; i <= chargers; i++) {
+                itemWriter.write(new EvChargerApiResponse.Item("충전소", "ME000001", "0" + i, "01", "서울",
+                        "37.5", "127.0", null, null, null, "2", "50"));
+            }
+        }
+        return file;
+    }
+}
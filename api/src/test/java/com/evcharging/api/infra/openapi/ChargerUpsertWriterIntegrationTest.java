@@ -0,0 +1,105 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "openapi.service-key="
+})
+class ChargerUpsertWriterIntegrationTest {
+
+    // removeMissing과 loadContentHashes가 패키지 전용이라 루트 패키지의 TestcontainersConfiguration 대신 둔다
+    @TestConfiguration(proxyBeanMethods = false)
+    static class Containers {
+
+        @Bean
+        @ServiceConnection
+        PostgreSQLContainer postgresContainer() {
+            return new PostgreSQLContainer(DockerImageName.parse("postgres:latest"));
+        }
+    }
+
+    @Autowired
+    ChargerUpsertWriter writer;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM charger");
+        jdbcTemplate.update("DELETE FROM charging_station");
+    }
+
+    @Test
+    void retired_charger_is_restored_when_it_reappears_in_the_feed() {
+        EvChargerApiResponse.Item kept = item("01");
+        EvChargerApiResponse.Item vanished = item("02");
+        writer.upsert("11", List.of(kept, vanished));
+        // 예약 이력이 있어 지우지 않고 중지한다
+        jdbcTemplate.update("""
+                INSERT INTO reservation (charger_id, member_email, start_time, end_time, status, created_at)
+                SELECT id, 'user@example.com', now() - interval '2 hours', now() - interval '1 hour', 'FULFILLED', now()
+                FROM charger WHERE charger_code = '02'
+                """);
+
+        ChargerUpsertWriter.Removal removal =
+                writer.removeMissing("11", Set.of(), Set.of(new ChargerKey("ME000001", "02")));
+
+        assertThat(removal.chargersRetired()).isEqualTo(1);
+        assertThat(charger("02"))
+                .containsEntry("status", "OUT_OF_SERVICE")
+                .containsEntry("content_hash", null);
+
+        ChangeTracker tracker = new ChangeTracker(writer.loadContentHashes("11"));
+        List<EvChargerApiResponse.Item> changed = tracker.changed(List.of(kept, vanished));
+        writer.upsert("11", changed);
+
+        assertThat(changed).containsExactly(vanished);
+        assertThat(charger("02"))
+                .containsEntry("status", "AVAILABLE")
+                .containsEntry("retired_at", null)
+                .containsEntry("content_hash", ContentHash.charger(vanished));
+    }
+
+    @Test
+    void status_set_by_the_service_is_not_overwritten_on_reingestion() {
+        EvChargerApiResponse.Item original = item("01");
+        writer.upsert("11", List.of(original));
+        jdbcTemplate.update("UPDATE charger SET status = 'OUT_OF_SERVICE' WHERE charger_code = '01'");
+
+        writer.upsert("11", List.of(new EvChargerApiResponse.Item("강남역 공영주차장", "ME000001", "01", "01",
+                "서울", "37.5", "127.0", "환경부", null, "24시간", "2", "50")));
+
+        assertThat(charger("01")).containsEntry("status", "OUT_OF_SERVICE");
+    }
+
+    private Map<String, Object> charger(String chargerCode) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, content_hash, retired_at FROM charger WHERE charger_code = ?", chargerCode);
+    }
+
+    private static EvChargerApiResponse.Item item(String chgerId) {
+        return new EvChargerApiResponse.Item("강남역 공영주차장", "ME000001", chgerId, "04", "서울", "37.5", "127.0",
+                "환경부", null, "24시간", "2", "100");
+    }
+}
@@ -0,0 +1,73 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    static final long OPEN_NANOS = 1_000;
+
+    CircuitBreaker breaker = new CircuitBreaker(3, OPEN_NANOS);
+
+    @Test
+    void opens_when_consecutive_failures_reach_the_threshold() {
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        breaker.onSuccess();
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(10);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(10 + OPEN_NANOS - 1)).isFalse();
+    }
+
+    @Test
+    void lets_a_single_probe_through_after_the_open_period() {
+        open(0);
+
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isFalse();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(OPEN_NANOS)).isTrue();
+    }
+
+    @Test
+    void reopens_when_the_probe_fails() {
+        open(0);
+        breaker.tryAcquire(OPEN_NANOS);
+
+        breaker.onFailure(OPEN_NANOS);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(OPEN_NANOS * 2 - 1)).isFalse();
+        assertThat(breaker.tryAcquire(OPEN_NANOS * 2)).isTrue();
+    }
+
+    @Test
+    void probe_is_released_when_the_call_fails_outside_the_api() {
+        open(System.nanoTime() - OPEN_NANOS);
+
+        assertThatThrownBy(() -> breaker.call("시험 호출", () -> {
+            throw new IllegalStateException("DB 쓰기 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.call("시험 호출", () -> "ok")).isEqualTo("ok");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void open(long nowNanos) {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(nowNanos);
+        }
+    }
+}
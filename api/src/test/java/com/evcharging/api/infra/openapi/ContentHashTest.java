@@ -0,0 +1,42 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentHashTest {
+
+    static EvChargerApiResponse.Item item(String lat, String output, String useTime, String stat) {
+        return new EvChargerApiResponse.Item("강남역 충전소", "ME000001", "01", "01", "서울 강남구",
+                lat, "127.0276", "환경부", "1661-9408", useTime, stat, output);
+    }
+
+    @Test
+    void differently_formatted_numbers_and_status_changes_hash_the_same() {
+        EvChargerApiResponse.Item original = item("37.4979", "100", "24시간", "2");
+        EvChargerApiResponse.Item reformatted = item("37.49790", "100.0", "24시간", "3");
+
+        assertThat(ContentHash.station(reformatted)).isEqualTo(ContentHash.station(original));
+        assertThat(ContentHash.charger(reformatted)).isEqualTo(ContentHash.charger(original));
+    }
+
+    @Test
+    void hash_changes_when_a_stored_value_changes() {
+        EvChargerApiResponse.Item original = item("37.4979", "100", "24시간", "2");
+
+        assertThat(ContentHash.station(item("37.4979", "100", "09:00~18:00", "2")))
+                .isNotEqualTo(ContentHash.station(original));
+        assertThat(ContentHash.charger(item("37.4979", "50", "24시간", "2")))
+                .isNotEqualTo(ContentHash.charger(original));
+    }
+
+    @Test
+    void shifted_field_boundaries_hash_differently() {
+        EvChargerApiResponse.Item a = new EvChargerApiResponse.Item("ab", "S1", null, null, "c", null, null,
+                null, null, null, null, null);
+        EvChargerApiResponse.Item b = new EvChargerApiResponse.Item("a", "S1", null, null, "bc", null, null,
+                null, null, null, null, null);
+
+        assertThat(ContentHash.station(a)).isNotEqualTo(ContentHash.station(b));
+    }
+}
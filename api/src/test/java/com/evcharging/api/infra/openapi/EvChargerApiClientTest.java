@@ -0,0 +1,86 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EvChargerApiClientTest {
+
+    @TempDir
+    Path cacheDir;
+
+    StubEvChargerApiServer server;
+    EvChargerApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new StubEvChargerApiServer();
+        // 실패 2회 연속이면 1분 동안 차단
+        client = new EvChargerApiClient("test-key", server.baseUrl(), 1000, 5000, 4, 2, 60_000,
+                cacheDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void gzip_response_is_decompressed() {
+        List<EvChargerApiResponse.Item> items = new ArrayList<>();
+
+        EvChargerResponseParser.PageHeader header = client.streamPage("11", 1, 2, items::add);
+
+        assertThat(header.totalCount()).isEqualTo(5);
+        assertThat(items).extracting(EvChargerApiResponse.Item::statId).containsExactly("ME000001", "ME000001");
+        assertThat(server.gzipResponses()).isEqualTo(1);
+    }
+
+    @Test
+    void unchanged_page_gets_304_and_reads_the_stored_copy() {
+        List<EvChargerApiResponse.Item> first = new ArrayList<>();
+        client.streamPage("11", 1, 2, first::add);
+
+        List<EvChargerApiResponse.Item> second = new ArrayList<>();
+        client.streamPage("11", 1, 2, second::add);
+
+        assertThat(server.notModifiedResponses()).isEqualTo(1);
+        assertThat(client.notModifiedCount()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void changed_page_is_refetched_and_replaces_the_stored_copy() {
+        client.streamPage("11", 1, 2, item -> {});
+        server.changePage(1);
+
+        client.streamPage("11", 1, 2, item -> {});
+        client.streamPage("11", 1, 2, item -> {});
+
+        assertThat(server.requestCount(1)).isEqualTo(3);
+        assertThat(server.notModifiedResponses()).isEqualTo(1);
+    }
+
+    @Test
+    void consecutive_failures_open_the_circuit_and_stop_calls() {
+        server.failPage(1, 10);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.streamPage("11", 1, 2, item -> {}))
+                    .isInstanceOf(EvChargerApiException.class);
+        }
+        assertThatThrownBy(() -> client.streamPage("11", 1, 2, item -> {}))
+                .isInstanceOf(CircuitOpenException.class);
+        assertThat(server.requestCount(1)).isEqualTo(2);
+    }
+}
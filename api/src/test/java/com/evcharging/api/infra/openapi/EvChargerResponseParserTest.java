@@ -0,0 +1,90 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class EvChargerResponseParserTest {
+
+    EvChargerResponseParser parser = new EvChargerResponseParser();
+
+    @Test
+    void recorded_page_is_streamed_item_by_item() throws Exception {
+        List<EvChargerApiResponse.Item> items = new ArrayList<>();
+
+        EvChargerResponseParser.PageHeader header;
+        try (InputStream in = getClass().getResourceAsStream("/openapi/charger-info-page-1.json")) {
+            header = parser.parse(in, items::add);
+        }
+
+        assertThat(header.isSuccess()).isTrue();
+        assertThat(header.totalCount()).isEqualTo(5);
+        assertThat(header.itemCount()).isEqualTo(2);
+        assertThat(items).extracting(EvChargerApiResponse.Item::statId, EvChargerApiResponse.Item::chgerId)
+                .containsExactly(
+                        tuple("ME000001", "01"),
+                        tuple("ME000001", "02"));
+        assertThat(items.getFirst().addr()).isEqualTo("서울특별시 강남구 강남대로 396");
+    }
+
+    @Test
+    void handles_numeric_values_single_item_object_and_unknown_fields() throws Exception {
+        String json = """
+                {"items": {"item": {"statId": "ME000001", "chgerId": 1, "lat": 37.4979,
+                                    "extra": {"nested": [1, 2]}, "output": null}},
+                 "totalCount": 1, "resultCode": "00", "header": {"ignored": true}}
+                """;
+        List<EvChargerApiResponse.Item> items = new ArrayList<>();
+
+        EvChargerResponseParser.PageHeader header = parser.parse(stream(json), items::add);
+
+        assertThat(header.itemCount()).isEqualTo(1);
+        assertThat(items.getFirst().chgerId()).isEqualTo("1");
+        assertThat(items.getFirst().lat()).isEqualTo("37.4979");
+        assertThat(items.getFirst().output()).isNull();
+    }
+
+    @Test
+    void error_response_returns_only_the_result_code() throws Exception {
+        EvChargerResponseParser.PageHeader header = parser.parse(
+                stream("""
+                        {"resultCode": "30", "resultMsg": "SERVICE KEY IS NOT REGISTERED ERROR."}
+                        """),
+                item -> { throw new AssertionError("항목이 없어야 한다"); });
+
+        assertThat(header.isSuccess()).isFalse();
+        assertThat(header.resultCode()).isEqualTo("30");
+    }
+
+    @Test
+    void large_page_is_processed_one_item_at_a_time() throws Exception {
+        int rows = 50_000;
+        List<InputStream> parts = new ArrayList<>();
+        parts.add(stream("{\"totalCount\": " + rows + ", \"items\": {\"item\": ["));
+        IntStream.range(0, rows).forEach(i -> parts.add(stream((i > 0 ? "," : "")
+                + "{\"statId\": \"ST" + i + "\", \"chgerId\": \"01\", \"chgerType\": \"02\"}")));
+        parts.add(stream("]}, \"resultCode\": \"00\"}"));
+        AtomicInteger count = new AtomicInteger();
+
+        EvChargerResponseParser.PageHeader header = parser.parse(
+                new SequenceInputStream(Collections.enumeration(parts)), item -> count.incrementAndGet());
+
+        assertThat(header.itemCount()).isEqualTo(rows);
+        assertThat(count).hasValue(rows);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,72 @@
+package com.evcharging.api.infra.openapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class NationwideIngestionJobTest {
+
+    ChargerIngestionJob ingestionJob;
+    NationwideIngestionJob job;
+
+    @BeforeEach
+    void setUp() {
+        ingestionJob = mock(ChargerIngestionJob.class);
+        job = new NationwideIngestionJob(mock(EvChargerApiClient.class), ingestionJob, List.of("11", "26", "27"), 2);
+    }
+
+    @Test
+    void ingests_every_region() {
+        given(ingestionJob.ingest("11")).willReturn(result("11", 10, List.of()));
+        given(ingestionJob.ingest("26")).willReturn(result("26", 20, List.of()));
+        given(ingestionJob.ingest("27")).willReturn(result("27", 30, List.of()));
+
+        NationwideIngestionResult result = job.ingestAll();
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.itemCount()).isEqualTo(60);
+        assertThat(result.regions()).extracting(IngestionResult::zcode).containsExactly("11", "26", "27");
+    }
+
+    @Test
+    void failed_region_is_retried_once_while_others_continue() {
+        given(ingestionJob.ingest("11")).willReturn(result("11", 10, List.of()));
+        given(ingestionJob.ingest("26"))
+                .willThrow(new EvChargerApiException("일시 오류"))
+                .willReturn(result("26", 20, List.of()));
+        given(ingestionJob.ingest("27")).willThrow(new EvChargerApiException("점검 중"));
+
+        NationwideIngestionResult result = job.ingestAll();
+
+        assertThat(result.failedRegions()).containsOnlyKeys("27");
+        assertThat(result.regions()).extracting(IngestionResult::zcode).containsExactlyInAnyOrder("11", "26");
+        then(ingestionJob).should(times(1)).ingest("11");
+        then(ingestionJob).should(times(2)).ingest("26");
+        then(ingestionJob).should(times(2)).ingest("27");
+    }
+
+    @Test
+    void region_with_failed_pages_is_retried() {
+        given(ingestionJob.ingest("11")).willReturn(result("11", 10, List.of()));
+        given(ingestionJob.ingest("26"))
+                .willReturn(result("26", 15, List.of(3)))
+                .willReturn(result("26", 5, List.of()));
+        given(ingestionJob.ingest("27")).willReturn(result("27", 30, List.of()));
+
+        NationwideIngestionResult result = job.ingestAll();
+
+        assertThat(result.isComplete()).isTrue();
+        then(ingestionJob).should(times(2)).ingest("26");
+    }
+
+    private static IngestionResult result(String zcode, int itemCount, List<Integer> failedPages) {
+        return new IngestionResult(zcode, itemCount, 1, 0, itemCount, failedPages, IngestionDiff.empty(), 1);
+    }
+}
@@ -0,0 +1,186 @@
+package com.evcharging.api.infra.openapi;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 녹화해 둔 공공 API 응답(test resources의 openapi/charger-info-page-N.json)을 돌려주는 로컬 HTTP 서버.
+ *
+ * <p>페이지마다 버전이 담긴 ETag를 붙이고 If-None-Match가 같으면 304를 돌려준다.
+ * Accept-Encoding에 gzip이 있으면 본문을 압축해 보낸다.
+ */
+class StubEvChargerApiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<Integer, AtomicInteger> failuresBeforeSuccess = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+    private final Map<Integer, AtomicInteger> pageVersions = new ConcurrentHashMap<>();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private final AtomicInteger gzipResponses = new AtomicInteger();
+    private volatile int generatedTotalCount = -1;
+
+    StubEvChargerApiServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/getChargerInfo", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 해당 페이지 요청을 처음 times번 503으로 실패시킨다.
+     */
+    void failPage(int pageNo, int times) {
+        failuresBeforeSuccess.put(pageNo, new AtomicInteger(times));
+    }
+
+    /**
+     * 녹화한 응답 대신 충전소 하나에 충전기 하나씩인 항목 totalCount개를 numOfRows 단위 페이지로 만들어 돌려준다.
+     */
+    void generatePages(int totalCount) {
+        this.generatedTotalCount = totalCount;
+    }
+
+    int requestCount(int pageNo) {
+        AtomicInteger count = requestCounts.get(pageNo);
+        return count != null ? count.get() : 0;
+    }
+
+    int maxObservedInFlight() {
+        return maxObservedInFlight.get();
+    }
+
+    /**
+     * 페이지 내용이 바뀐 것처럼 ETag를 갱신한다.
+     */
+    void changePage(int pageNo) {
+        pageVersions.computeIfAbsent(pageNo, p -> new AtomicInteger()).incrementAndGet();
+    }
+
+    int notModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    int gzipResponses() {
+        return gzipResponses.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxObservedInFlight.accumulateAndGet(current, Math::max);
+        try {
+            int pageNo = pageNo(exchange.getRequestURI().getRawQuery());
+            requestCounts.computeIfAbsent(pageNo, p -> new AtomicInteger()).incrementAndGet();
+            // 동시 요청 수를 관찰할 수 있도록 응답을 잠시 지연한다
+            Thread.sleep(20);
+
+            AtomicInteger failures = failuresBeforeSuccess.get(pageNo);
+            if (failures != null && failures.getAndDecrement() > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            byte[] body = pageBody(pageNo, exchange.getRequestURI().getRawQuery());
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String etag = "\"page-" + pageNo + "-v"
+                    + pageVersions.computeIfAbsent(pageNo, p -> new AtomicInteger()).get() + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = gzip(body);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                gzipResponses.incrementAndGet();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private byte[] pageBody(int pageNo, String query) throws IOException {
+        int totalCount = generatedTotalCount;
+        if (totalCount < 0) {
+            try (InputStream page = getClass().getResourceAsStream("/openapi/charger-info-page-" + pageNo + ".json")) {
+                return page != null ? page.readAllBytes() : null;
+            }
+        }
+        int numOfRows = Integer.parseInt(param(query, "numOfRows", "10"));
+        StringBuilder items = new StringBuilder();
+        for (int i = (pageNo - 1) * numOfRows; i < Math.min(totalCount, pageNo * numOfRows); i++) {
+            if (!items.isEmpty()) {
+                items.append(',');
+            }
+            items.append("""
+                    {"statNm":"충전소 %1$d","statId":"GEN%1$05d","chgerId":"01","chgerType":"04",\
+                    "addr":"서울특별시","lat":"37.5","lng":"127.0","busiNm":"환경부","busiCall":"1661-9408",\
+                    "useTime":"24시간 이용가능","stat":"2","output":"100"}""".formatted(i));
+        }
+        return """
+                {"resultCode":"00","resultMsg":"NORMAL SERVICE.","totalCount":%d,"pageNo":%d,"numOfRows":%d,\
+                "items":{"item":[%s]}}""".formatted(totalCount, pageNo, numOfRows, items)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static int pageNo(String query) {
+        return Integer.parseInt(param(query, "pageNo", "1"));
+    }
+
+    private static String param(String query, String name, String defaultValue) {
+        for (String param : query.split("&")) {
+            if (param.startsWith(name + "=")) {
+                return param.substring(name.length() + 1);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,21 @@
+package com.evcharging.api.infra.outbox;
+
+import com.evcharging.api.domain.event.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class InMemoryOutboxSink implements OutboxSink {
+
+    final List<List<OutboxEvent>> batches = new ArrayList<>();
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        batches.add(List.copyOf(events));
+    }
+}
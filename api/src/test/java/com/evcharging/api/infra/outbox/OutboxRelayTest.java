@@ -0,0 +1,89 @@
+package com.evcharging.api.infra.outbox;
+
+import com.evcharging.api.domain.charger.Charger;
+import com.evcharging.api.domain.charger.ChargerType;
+import com.evcharging.api.domain.charger.ConnectorType;
+import com.evcharging.api.domain.event.EventFeedService;
+import com.evcharging.api.domain.event.OutboxCursor;
+import com.evcharging.api.domain.event.OutboxCursorRepository;
+import com.evcharging.api.domain.event.OutboxEvent;
+import com.evcharging.api.domain.event.OutboxEventRepository;
+import com.evcharging.api.domain.session.ChargingSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    ObjectProvider<OutboxSink> sinkProvider;
+
+    @Mock
+    EventFeedService eventFeedService;
+
+    @Mock
+    OutboxCursorRepository cursorRepository;
+
+    @Mock
+    OutboxEventRepository eventRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    InMemoryOutboxSink sink = new InMemoryOutboxSink();
+    OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        given(sinkProvider.orderedStream()).willReturn(Stream.of(sink));
+        relay = new OutboxRelay(sinkProvider, eventFeedService, cursorRepository, eventRepository,
+                transactionManager, 2, 7);
+    }
+
+    @Test
+    void relayBatch_publishes_events_and_advances_cursor() {
+        OutboxCursor cursor = new OutboxCursor("memory");
+        given(cursorRepository.findForUpdate("memory")).willReturn(Optional.of(cursor));
+        given(eventFeedService.findAfter(0L, 2)).willReturn(List.of(event(1L), event(2L)));
+
+        int published = relay.relayBatch(sink);
+
+        assertThat(published).isEqualTo(2);
+        assertThat(sink.batches).hasSize(1);
+        assertThat(sink.batches.getFirst()).extracting(OutboxEvent::getId).containsExactly(1L, 2L);
+        assertThat(cursor.getLastEventId()).isEqualTo(2L);
+    }
+
+    @Test
+    void relayBatch_keeps_cursor_when_nothing_to_publish() {
+        OutboxCursor cursor = new OutboxCursor("memory");
+        cursor.advanceTo(5L);
+        given(cursorRepository.findForUpdate("memory")).willReturn(Optional.of(cursor));
+        given(eventFeedService.findAfter(5L, 2)).willReturn(List.of());
+
+        assertThat(relay.relayBatch(sink)).isZero();
+        assertThat(sink.batches).isEmpty();
+        assertThat(cursor.getLastEventId()).isEqualTo(5L);
+    }
+
+    private OutboxEvent event(long id) {
+        Charger charger = new Charger("CHG-001", ChargerType.DC_FAST, new BigDecimal("50"), ConnectorType.CCS1);
+        OutboxEvent event = OutboxEvent.sessionStarted(ChargingSession.start(charger));
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}